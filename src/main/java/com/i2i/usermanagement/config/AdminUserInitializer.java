@@ -1,11 +1,9 @@
 package com.i2i.usermanagement.config;
 
-import com.i2i.usermanagement.entity.Role;
 import com.i2i.usermanagement.entity.User;
-import com.i2i.usermanagement.entity.UserRole;
 import com.i2i.usermanagement.repository.RoleRepository;
 import com.i2i.usermanagement.repository.UserRepository;
-import com.i2i.usermanagement.repository.UserRoleRepository;
+import com.i2i.usermanagement.service.RoleCatalog;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,14 +28,14 @@ public class AdminUserInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final UserRoleRepository userRoleRepository;
+    private final RoleCatalog roleCatalog;
     private final PasswordEncoder passwordEncoder;
 
-    public AdminUserInitializer(UserRepository userRepository, RoleRepository roleRepository,
-                               UserRoleRepository userRoleRepository, PasswordEncoder passwordEncoder) {
+    public AdminUserInitializer(UserRepository userRepository, RoleRepository roleRepository, RoleCatalog roleCatalog,
+                               PasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
-        this.userRoleRepository = userRoleRepository;
+        this.roleCatalog = roleCatalog;
         this.passwordEncoder = passwordEncoder;
     }
 
@@ -56,18 +54,12 @@ public class AdminUserInitializer implements CommandLineRunner {
                     .isActive(true)
                     .build();
 
-            // Save admin user
-            User savedAdminUser = userRepository.save(adminUser);
-
             // Assign ROLE_ADMIN to admin user
-            Role adminRole = roleRepository.findByName("ROLE_ADMIN").orElse(null);
-            if (adminRole != null) {
-                UserRole userRole = UserRole.builder()
-                        .user(savedAdminUser)
-                        .role(adminRole)
-                        .build();
-                userRoleRepository.save(userRole);
-            }
+            roleCatalog.findRoleId("ROLE_ADMIN")
+                    .ifPresent(roleId -> adminUser.getRoles().add(roleRepository.getReferenceById(roleId)));
+
+            // Save admin user together with its role assignment
+            userRepository.save(adminUser);
         }
     }
 }
@@ -0,0 +1,64 @@
+package com.i2i.usermanagement.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+
+/**
+ * Base message converter for Jackson's binary data formats.
+ * Works on the raw body bytes (the JSON converter decodes bodies as text, which binary parsers reject)
+ * and records the payload type in the same type id header as the JSON converter, so consumers can
+ * switch formats without changing how target types are resolved.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public abstract class BinaryJacksonMessageConverter extends AbstractMessageConverter {
+
+    private final ObjectMapper objectMapper;
+    private final String contentType;
+    private final DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+
+    /**
+     * Creates a converter for the given binary mapper.
+     *
+     * @param objectMapper    the mapper of the binary format
+     * @param contentType     the content type written to and expected on messages
+     * @param trustedPackages packages whose types may be named in the type id header
+     */
+    protected BinaryJacksonMessageConverter(ObjectMapper objectMapper, String contentType, String... trustedPackages) {
+        this.objectMapper = objectMapper;
+        this.contentType = contentType;
+        this.typeMapper.setTrustedPackages(trustedPackages);
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(object);
+        } catch (JsonProcessingException exception) {
+            throw new MessageConversionException("Failed to encode message as " + contentType, exception);
+        }
+        messageProperties.setContentType(contentType);
+        messageProperties.setContentLength(body.length);
+        typeMapper.fromJavaType(objectMapper.constructType(object.getClass()), messageProperties);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        try {
+            return objectMapper.readValue(message.getBody(), typeMapper.toJavaType(message.getMessageProperties()));
+        } catch (IOException exception) {
+            throw new MessageConversionException("Failed to decode " + contentType + " message", exception);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.i2i.usermanagement.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Message converter writing payloads as CBOR (RFC 8949), a compact binary encoding of the JSON data model.
+ * Null fields are omitted and timestamps are written as numbers.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class CborMessageConverter extends BinaryJacksonMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/cbor";
+
+    /**
+     * Creates a converter that trusts types from the given packages when reading messages.
+     *
+     * @param trustedPackages packages whose types may be named in the type id header
+     */
+    public CborMessageConverter(String... trustedPackages) {
+        super(CBORMapper.builder()
+                        .addModule(new JavaTimeModule())
+                        .serializationInclusion(JsonInclude.Include.NON_NULL)
+                        .build(),
+                CONTENT_TYPE, trustedPackages);
+    }
+}
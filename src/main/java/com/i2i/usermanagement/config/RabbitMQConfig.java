@@ -1,12 +1,30 @@
 package com.i2i.usermanagement.config;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.JacksonUtils;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * RabbitMQ's configuration for User Management service.
  *
@@ -18,22 +36,91 @@ import org.springframework.context.annotation.Configuration;
 public class RabbitMQConfig {
 
     public static final String USER_EXCHANGE = "user.exchange";
+    public static final String USER_PARTITIONED_EXCHANGE = "user.partitioned.exchange";
 
     public static final String USER_CREATED_ROUTING_KEY = "user.created";
     public static final String USER_DELETED_ROUTING_KEY = "user.deleted";
+    public static final String USER_UPDATED_ROUTING_KEY = "user.updated";
+
+    public static final String USER_PARTITION_QUEUE_PREFIX = "user.events.partition.";
+
+    public static final String USER_CACHE_INVALIDATION_EXCHANGE = "user.cache.invalidation";
+
+    private static final String EVENT_PACKAGE = "com.i2i.usermanagement.dto";
 
     /**
-     * Message converter for JSON serialization.
+     * Message converter choosing the encoding from the message content type.
+     * JSON is the default; CBOR and Smile are available for routing keys configured in {@link UserEventContentTypes}.
      *
-     * @return Jackson2JsonMessageConverter
+     * @return ContentTypeDelegatingMessageConverter
      */
     @Bean
     public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+        // Lean events leave most fields empty, so nulls are omitted as in the binary encodings
+        ObjectMapper jsonMapper = JacksonUtils.enhancedObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter(jsonMapper);
+        ContentTypeDelegatingMessageConverter converter = new ContentTypeDelegatingMessageConverter(jsonConverter);
+        converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, jsonConverter);
+        converter.addDelegate(CborMessageConverter.CONTENT_TYPE, new CborMessageConverter(EVENT_PACKAGE));
+        converter.addDelegate(SmileMessageConverter.CONTENT_TYPE, new SmileMessageConverter(EVENT_PACKAGE));
+        return converter;
+    }
+
+    /**
+     * Partitioned topology, declared only when {@link UserEventRouting} is partitioned: a topic exchange of its own
+     * and one durable queue per partition receiving all event types of that partition.
+     * Each queue allows a single active consumer, so a partition is consumed in order even with standby consumers.
+     * The exchange is separate from {@link #USER_EXCHANGE}, which keeps whatever type it was created with;
+     * consumers bound there to the plain routing keys have to move to the partition queues when partitioning is enabled.
+     *
+     * @param userEventRouting the partition settings
+     * @return the exchange, partition queues and bindings
+     */
+    @Bean
+    public Declarables userEventPartitions(UserEventRouting userEventRouting) {
+        if (!userEventRouting.isPartitioned()) {
+            return new Declarables();
+        }
+        TopicExchange exchange = new TopicExchange(USER_PARTITIONED_EXCHANGE);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (int partition = 0; partition < userEventRouting.getPartitions(); partition++) {
+            Queue queue = QueueBuilder.durable(USER_PARTITION_QUEUE_PREFIX + partition)
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with("user.*." + partition));
+        }
+        return new Declarables(declarables);
+    }
+
+    /**
+     * Queue of this node for user cache invalidations: server named, exclusive and deleted with the connection.
+     *
+     * @return AnonymousQueue
+     */
+    @Bean
+    @ConditionalOnProperty(name = "user.cache.invalidation", havingValue = "rabbitmq", matchIfMissing = true)
+    public Queue userCacheInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(USER_CACHE_INVALIDATION_EXCHANGE + "."));
+    }
+
+    /**
+     * Fanout exchange delivering each user cache invalidation to the queue of every node.
+     *
+     * @param userCacheInvalidationQueue the queue of this node
+     * @return the exchange and the binding of this node
+     */
+    @Bean
+    @ConditionalOnProperty(name = "user.cache.invalidation", havingValue = "rabbitmq", matchIfMissing = true)
+    public Declarables userCacheInvalidationTopology(Queue userCacheInvalidationQueue) {
+        FanoutExchange exchange = new FanoutExchange(USER_CACHE_INVALIDATION_EXCHANGE);
+        return new Declarables(exchange, BindingBuilder.bind(userCacheInvalidationQueue).to(exchange));
     }
 
     /**
-     * RabbitTemplate with JSON message converter.
+     * RabbitTemplate with the content type aware message converter.
      *
      * @param connectionFactory the connection factory
      * @return RabbitTemplate
@@ -56,6 +56,7 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/api/v1/auth/**").permitAll()  // Allow auth endpoints
+                .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")  // Internal telemetry is for admins only
                 .anyRequest().authenticated()  // Protect all other endpoints
             )
             .sessionManagement(session -> session
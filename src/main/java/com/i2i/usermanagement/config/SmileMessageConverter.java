@@ -0,0 +1,31 @@
+package com.i2i.usermanagement.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Message converter writing payloads as Smile, Jackson's binary JSON format with back-references
+ * for repeated field names. Null fields are omitted and timestamps are written as numbers.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class SmileMessageConverter extends BinaryJacksonMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+    /**
+     * Creates a converter that trusts types from the given packages when reading messages.
+     *
+     * @param trustedPackages packages whose types may be named in the type id header
+     */
+    public SmileMessageConverter(String... trustedPackages) {
+        super(SmileMapper.builder()
+                        .addModule(new JavaTimeModule())
+                        .serializationInclusion(JsonInclude.Include.NON_NULL)
+                        .build(),
+                CONTENT_TYPE, trustedPackages);
+    }
+}
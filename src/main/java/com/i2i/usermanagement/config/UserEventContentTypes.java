@@ -0,0 +1,53 @@
+package com.i2i.usermanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Content type each user event routing key is published with.
+ * Consumers pick the decoder from the content_type header, so a routing key can be moved to a binary
+ * encoding once its consumers understand it, e.g.
+ * {@code user.events.content-types={'user.deleted':'application/cbor'}}.
+ * Partitioned routing keys use the content type of their event key.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class UserEventContentTypes {
+
+    private final String defaultContentType;
+    private final Map<String, String> contentTypesByRoutingKey;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param defaultContentType       content type for routing keys without an override
+     * @param contentTypesByRoutingKey content type overrides keyed by routing key
+     */
+    public UserEventContentTypes(@Value("${user.events.content-type:application/json}") String defaultContentType,
+                                 @Value("#{${user.events.content-types:{:}}}") Map<String, String> contentTypesByRoutingKey) {
+        this.defaultContentType = defaultContentType;
+        this.contentTypesByRoutingKey = Map.copyOf(contentTypesByRoutingKey);
+    }
+
+    /**
+     * Returns the content type events with the given routing key are encoded with.
+     *
+     * @param routingKey the routing key
+     * @return the content type
+     */
+    public String contentTypeFor(String routingKey) {
+        String contentType = contentTypesByRoutingKey.get(routingKey);
+        if (contentType == null) {
+            int partitionSeparator = routingKey.lastIndexOf('.');
+            if (partitionSeparator > 0) {
+                contentType = contentTypesByRoutingKey.get(routingKey.substring(0, partitionSeparator));
+            }
+        }
+        return contentType != null ? contentType : defaultContentType;
+    }
+}
@@ -0,0 +1,86 @@
+package com.i2i.usermanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Routing of user events to partitions.
+ * With {@code user.events.partitions} set to N, every event of a user is published with the routing key
+ * {@code <event key>.<partition>}, where the partition is derived from the user id. Each partition has its
+ * own queue, so consumers scale out to N while the events of one user still arrive in order.
+ * Partitioned events are published to {@link RabbitMQConfig#USER_PARTITIONED_EXCHANGE}.
+ * With 0 partitions events keep their plain routing keys and {@link RabbitMQConfig#USER_EXCHANGE}.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class UserEventRouting {
+
+    private final int partitions;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param partitions number of partitions, 0 to publish with plain routing keys
+     */
+    public UserEventRouting(@Value("${user.events.partitions:0}") int partitions) {
+        if (partitions < 0) {
+            throw new IllegalArgumentException("user.events.partitions must not be negative: " + partitions);
+        }
+        this.partitions = partitions;
+    }
+
+    /**
+     * Returns whether events are routed to partitions.
+     *
+     * @return true if partitions are configured
+     */
+    public boolean isPartitioned() {
+        return partitions > 0;
+    }
+
+    /**
+     * Returns the number of partitions.
+     *
+     * @return number of partitions, 0 if not partitioned
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Returns the exchange user events are published to.
+     *
+     * @return the partitioned exchange if partitions are configured, otherwise the user exchange
+     */
+    public String getExchange() {
+        return isPartitioned() ? RabbitMQConfig.USER_PARTITIONED_EXCHANGE : RabbitMQConfig.USER_EXCHANGE;
+    }
+
+    /**
+     * Returns the partition of a user. Stable across restarts and instances for the same partition count.
+     *
+     * @param userId the user ID
+     * @return partition between 0 and the number of partitions - 1
+     */
+    public int partitionOf(UUID userId) {
+        // Mix all bits and take the high half of the product, UUIDv7 keys start with a timestamp
+        long bits = userId.getMostSignificantBits() ^ userId.getLeastSignificantBits();
+        return (int) Long.remainderUnsigned((bits * 0x9E3779B97F4A7C15L) >>> 32, partitions);
+    }
+
+    /**
+     * Returns the routing key an event of a user is published with.
+     *
+     * @param eventKey the routing key of the event type, e.g. {@link RabbitMQConfig#USER_CREATED_ROUTING_KEY}
+     * @param userId   the user the event is about
+     * @return the routing key including the partition, or the event key if not partitioned
+     */
+    public String routingKeyFor(String eventKey, UUID userId) {
+        return isPartitioned() ? eventKey + "." + partitionOf(userId) : eventKey;
+    }
+}
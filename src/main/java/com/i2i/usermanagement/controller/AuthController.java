@@ -2,7 +2,9 @@ package com.i2i.usermanagement.controller;
 
 import com.i2i.usermanagement.dto.AuthRequestDTO;
 import com.i2i.usermanagement.dto.AuthResponseDTO;
+import com.i2i.usermanagement.dto.WelcomeTokenRedeemDTO;
 import com.i2i.usermanagement.service.AuthService;
+import com.i2i.usermanagement.service.WelcomeTokenService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,7 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 /**
  * Authentication controller for user login.
- * Handles JWT token generation for authenticated users.
+ * Handles JWT token generation for authenticated users and welcome token redemption.
  *
  * @author Agnel Ruban
  * @version 1.0
@@ -23,14 +25,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final WelcomeTokenService welcomeTokenService;
 
     /**
      * Constructor for dependency injection.
      *
      * @param authService the authentication service
+     * @param welcomeTokenService the welcome token service
      */
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, WelcomeTokenService welcomeTokenService) {
         this.authService = authService;
+        this.welcomeTokenService = welcomeTokenService;
     }
 
     /**
@@ -44,4 +49,16 @@ public class AuthController {
         AuthResponseDTO authResponse = authService.authenticate(authRequest);
         return ResponseEntity.ok(authResponse);
     }
+
+    /**
+     * Sets the password of a new user with the one-time welcome token sent on account creation.
+     *
+     * @param redeemRequest the welcome token and the new password
+     * @return ResponseEntity with no content
+     */
+    @PostMapping("/welcome")
+    public ResponseEntity<Void> redeemWelcomeToken(@Valid @RequestBody WelcomeTokenRedeemDTO redeemRequest) {
+        welcomeTokenService.redeem(redeemRequest.getToken(), redeemRequest.getPassword());
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,13 +1,27 @@
 package com.i2i.usermanagement.controller;
 
+import com.i2i.usermanagement.dto.BulkImportResultDTO;
+import com.i2i.usermanagement.dto.BulkUserStatusRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserStatusResultDTO;
+import com.i2i.usermanagement.dto.BulkUserUpdateRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserUpdateResultDTO;
+import com.i2i.usermanagement.dto.UserChangesDTO;
 import com.i2i.usermanagement.dto.UserResponseDTO;
 import com.i2i.usermanagement.dto.UserCreateDTO;
 import com.i2i.usermanagement.dto.UserUpdateDTO;
+import com.i2i.usermanagement.service.UserChangeFeedService;
+import com.i2i.usermanagement.service.UserImportService;
+import com.i2i.usermanagement.service.UserListSnapshot;
 import com.i2i.usermanagement.service.UserService;
+import com.i2i.usermanagement.service.UserStatusService;
+import com.i2i.usermanagement.util.UserETags;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,10 +31,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -36,15 +56,32 @@ import java.util.UUID;
 public class UserController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final String CSV_MEDIA_TYPE = "text/csv";
+
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserChangeFeedService userChangeFeedService;
+    private final UserListSnapshot userListSnapshot;
+    private final UserStatusService userStatusService;
 
     /**
      * Constructor for dependency injection.
      * 
      * @param userService the user service
+     * @param userImportService the streaming import service
+     * @param userChangeFeedService the change feed service
+     * @param userListSnapshot the snapshot of the active user list
+     * @param userStatusService the bulk deactivation and reactivation service
      */
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserImportService userImportService,
+                          UserChangeFeedService userChangeFeedService, UserListSnapshot userListSnapshot,
+                          UserStatusService userStatusService) {
         this.userService = userService;
+        this.userImportService = userImportService;
+        this.userChangeFeedService = userChangeFeedService;
+        this.userListSnapshot = userListSnapshot;
+        this.userStatusService = userStatusService;
     }
 
     /**
@@ -64,61 +101,135 @@ public class UserController {
 
     /**
      * Retrieves all users.
-     * Only ADMIN can access this endpoint.
+     * Only ADMIN can access this endpoint. The list is served from the pre-serialized snapshot of the
+     * active users and tagged with its ETag; a request whose If-None-Match still holds it is answered
+     * with 304.
      * 
-     * @return ResponseEntity containing the list of all users
+     * @return ResponseEntity containing the list of all users as JSON
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserResponseDTO>> getAllUsers() {
-        List<UserResponseDTO> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<byte[]> getAllUsers() {
+        UserListSnapshot.Snapshot snapshot = userListSnapshot.current();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(snapshot.etag())
+                .body(snapshot.json());
+    }
+
+    /**
+     * Retrieves users created, updated or deleted after a cursor, for incremental synchronisation.
+     * Only ADMIN can access this endpoint.
+     *
+     * @param since the cursor returned by the previous call, 0 for a full initial sync
+     * @param limit maximum number of users returned
+     * @return ResponseEntity containing one page of changes and the next cursor
+     */
+    @GetMapping("/changes")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserChangesDTO> getUserChanges(@RequestParam(defaultValue = "0") long since,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        UserChangesDTO changes = userChangeFeedService.getChangesSince(since, limit);
+        return ResponseEntity.ok(changes);
     }
 
     /**
      * Retrieves a user by ID.
      * Both ADMIN and USER can access, but USER can only see their own data.
+     * The user is tagged with its ETag and Last-Modified time. A request whose If-None-Match still holds
+     * is answered with 304 from the version of the user alone, before the user is loaded and mapped;
+     * one whose If-Modified-Since still holds is answered with 304 without serializing the user.
      * 
      * @param id the unique identifier of the user
-     * @return ResponseEntity containing the user
+     * @param webRequest the request, checked against the ETag of the user
+     * @return ResponseEntity containing the user, or no body if it has not been modified
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<UserResponseDTO> getUserById(@PathVariable UUID id) {
+    public ResponseEntity<UserResponseDTO> getUserById(@PathVariable UUID id, WebRequest webRequest) {
+        Optional<String> etag = userService.getUserETag(id);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(etag.get())
+                    .build();
+        }
         UserResponseDTO user = userService.getUserById(id);
+        return ResponseEntity.ok()
+                .headers(validators(user))
+                .body(user);
+    }
+
+    /**
+     * Retrieves the details of a user, including deactivated users.
+     * Used by event consumers to enrich lean user events. Only ADMIN can access this endpoint.
+     *
+     * @param id the unique identifier of the user
+     * @return ResponseEntity containing the user
+     */
+    @GetMapping("/{id}/details")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserResponseDTO> getUserDetails(@PathVariable UUID id) {
+        UserResponseDTO user = userService.getUserDetails(id);
         return ResponseEntity.ok(user);
     }
 
     /**
      * Updates an existing user completely.
-     * Only ADMIN can update users completely.
+     * Only ADMIN can update users completely. With an If-Match header the update is only applied
+     * while the user still has one of the given ETags, otherwise 412 is returned. An update that
+     * conflicts with a concurrent one is rejected with 409 and a Retry-After hint.
      * 
      * @param id the unique identifier of the user to update
      * @param userCreateDTO the updated user data
-     * @return ResponseEntity containing the updated user
+     * @param ifMatch the ETags the user must still have, null to update unconditionally
+     * @return ResponseEntity containing the updated user and its new ETag
      */
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponseDTO> updateUser(@PathVariable UUID id,
-                                            @Valid @RequestBody UserCreateDTO userCreateDTO) {
-        UserResponseDTO updatedUser = userService.updateUser(id, userCreateDTO);
-        return ResponseEntity.ok(updatedUser);
+                                            @Valid @RequestBody UserCreateDTO userCreateDTO,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserResponseDTO updatedUser = userService.updateUser(id, userCreateDTO, ifMatch);
+        return updated(updatedUser);
     }
 
     /**
      * Updates an existing user partially.
      * Both ADMIN and USER can access, but USER can only update their own data (phone, address).
+     * With an If-Match header the update is only applied while the user still has one of the given
+     * ETags, otherwise 412 is returned. An update that conflicts with a concurrent one is rejected
+     * with 409 and a Retry-After hint.
      * 
      * @param id the unique identifier of the user to update
      * @param userUpdateDTO the updated user data
-     * @return ResponseEntity containing the updated user
+     * @param ifMatch the ETags the user must still have, null to update unconditionally
+     * @return ResponseEntity containing the updated user and its new ETag
      */
     @PatchMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
     public ResponseEntity<UserResponseDTO> updateUserPartially(@PathVariable UUID id,
-                                                      @Valid @RequestBody UserUpdateDTO userUpdateDTO) {
-        UserResponseDTO updatedUser = userService.updateUserPartially(id, userUpdateDTO);
-        return ResponseEntity.ok(updatedUser);
+                                                      @Valid @RequestBody UserUpdateDTO userUpdateDTO,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserResponseDTO updatedUser = userService.updateUserPartially(id, userUpdateDTO, ifMatch);
+        return updated(updatedUser);
+    }
+
+    /**
+     * Updates many users partially at once, each with its own changes and optional If-Match ETags.
+     * Both ADMIN and USER can access with the rules of a single partial update, so a USER can only
+     * update their own phone and address. Users that cannot be updated are reported with their outcome
+     * while the others are updated; an update that conflicts with a concurrent one rejects the whole
+     * request with 409 and a Retry-After hint.
+     *
+     * @param request the users to update and their changes
+     * @return ResponseEntity containing the outcome per user
+     */
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<BulkUserUpdateResultDTO> updateUsersPartially(@Valid @RequestBody BulkUserUpdateRequestDTO request) {
+        return ResponseEntity.ok(userService.updateUsersPartially(request));
     }
 
     /**
@@ -135,6 +246,32 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Deactivates (soft deletes) many users at once, selected by ID or by email domain.
+     * Only ADMIN can deactivate users.
+     *
+     * @param request the users to deactivate
+     * @return ResponseEntity containing the outcome per user
+     */
+    @PostMapping("/bulk/deactivate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkUserStatusResultDTO> deactivateUsers(@Valid @RequestBody BulkUserStatusRequestDTO request) {
+        return ResponseEntity.ok(userStatusService.deactivateUsers(request));
+    }
+
+    /**
+     * Reactivates many soft-deleted users at once, selected by ID or by email domain.
+     * Only ADMIN can reactivate users.
+     *
+     * @param request the users to reactivate
+     * @return ResponseEntity containing the outcome per user
+     */
+    @PostMapping("/bulk/reactivate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkUserStatusResultDTO> reactivateUsers(@Valid @RequestBody BulkUserStatusRequestDTO request) {
+        return ResponseEntity.ok(userStatusService.reactivateUsers(request));
+    }
+
     /**
      * Creates multiple users in parallel using Fork/Join.
      * Only ADMIN can create bulk users.
@@ -149,4 +286,69 @@ public class UserController {
         List<UserResponseDTO> createdUsers = userService.createBulkUsers(userCreateDTOs);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdUsers);
     }
+
+    /**
+     * Imports users from a newline-delimited JSON body without materializing it.
+     * Only ADMIN can import users.
+     *
+     * @param body the raw request body, one user object per line
+     * @return ResponseEntity containing the import summary
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = NDJSON_MEDIA_TYPE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResultDTO> importUsersNdjson(InputStream body) throws IOException {
+        logger.info("Starting streaming NDJSON user import");
+        BulkImportResultDTO result = userImportService.importNdjson(body);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Imports users from a CSV body with a header row without materializing it.
+     * Only ADMIN can import users.
+     *
+     * @param body the raw request body
+     * @return ResponseEntity containing the import summary
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = CSV_MEDIA_TYPE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResultDTO> importUsersCsv(InputStream body) throws IOException {
+        logger.info("Starting streaming CSV user import");
+        BulkImportResultDTO result = userImportService.importCsv(body);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Builds the validators of a user response. Spring MVC compares them with the conditional headers
+     * of a GET and answers 304 instead of writing the body.
+     *
+     * @param user the user
+     * @return the ETag, Last-Modified and Cache-Control headers
+     */
+    private static HttpHeaders validators(UserResponseDTO user) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        String etag = UserETags.forUser(user.getId(), user.getVersion());
+        if (etag != null) {
+            headers.setETag(etag);
+        }
+        if (user.getUpdatedAt() != null) {
+            headers.setLastModified(UserETags.lastModified(user.getUpdatedAt()));
+        }
+        return headers;
+    }
+
+    /**
+     * Builds the response to an update, tagged with the new version of the user so the client can
+     * send its next update conditionally without reading the user again. It carries no Last-Modified,
+     * since the database assigns the update time when it writes the row.
+     *
+     * @param user the updated user
+     * @return the response with the user and its ETag
+     */
+    private static ResponseEntity<UserResponseDTO> updated(UserResponseDTO user) {
+        String etag = UserETags.forUser(user.getId(), user.getVersion());
+        return etag == null ? ResponseEntity.ok(user) : ResponseEntity.ok().eTag(etag).body(user);
+    }
 }
@@ -0,0 +1,30 @@
+package com.i2i.usermanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object describing a rejected row of a streaming bulk import.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportErrorDTO {
+
+    /**
+     * 1-based position of the row in the import stream (header excluded).
+     */
+    private long row;
+
+    /**
+     * Reason the row was rejected.
+     */
+    private String message;
+}
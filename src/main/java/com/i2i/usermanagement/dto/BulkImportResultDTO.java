@@ -0,0 +1,44 @@
+package com.i2i.usermanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object summarising a streaming bulk import.
+ * Only counts and a capped list of row errors are returned so the response
+ * stays small regardless of the number of imported rows.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDTO {
+
+    /**
+     * Number of rows read from the import stream.
+     */
+    private long totalRows;
+
+    /**
+     * Number of users created.
+     */
+    private long createdCount;
+
+    /**
+     * Number of rows rejected by parsing, validation or persistence.
+     */
+    private long failedCount;
+
+    /**
+     * First rejected rows with their reasons (capped).
+     */
+    private List<BulkImportErrorDTO> errors;
+}
@@ -0,0 +1,51 @@
+package com.i2i.usermanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object selecting the users of a bulk deactivation or reactivation,
+ * either by their IDs or by the domain of their email.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserStatusRequestDTO {
+
+    /**
+     * IDs of the users to change.
+     */
+    @Size(min = 1, max = 10000, message = "Between 1 and 10000 user IDs can be given")
+    private List<UUID> ids;
+
+    /**
+     * Domain after the @ of the email of the users to change, compared ignoring case.
+     */
+    @Pattern(regexp = "^[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)+$", message = "Email domain should be valid")
+    private String emailDomain;
+
+    /**
+     * Checks that the users are selected either by ID or by email domain.
+     *
+     * @return true if exactly one selector is given
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Either ids or emailDomain is required, but not both")
+    public boolean isSingleSelector() {
+        return (ids == null) != (emailDomain == null);
+    }
+}
@@ -0,0 +1,62 @@
+package com.i2i.usermanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object reporting the outcome of a bulk deactivation or reactivation per user.
+ * Selected by email domain, only the changed users are listed.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserStatusResultDTO {
+
+    /**
+     * Number of users whose status was changed.
+     */
+    private int changedCount;
+
+    /**
+     * Number of requested users that already had the requested status.
+     */
+    private int unchangedCount;
+
+    /**
+     * Number of requested IDs that belong to no user.
+     */
+    private int notFoundCount;
+
+    /**
+     * Outcome for each user, in request order for ID requests.
+     */
+    private List<UserOutcome> outcomes;
+
+    /**
+     * What happened to one user.
+     */
+    public enum Outcome {
+        CHANGED,
+        UNCHANGED,
+        NOT_FOUND
+    }
+
+    /**
+     * The outcome for one user.
+     *
+     * @param id      the user ID
+     * @param outcome what happened to the user
+     */
+    public record UserOutcome(UUID id, Outcome outcome) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.i2i.usermanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for partially updating many users at once, each with its own changes.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserUpdateRequestDTO {
+
+    /**
+     * The users to update and their changes.
+     */
+    @NotNull(message = "Updates are required")
+    @Size(min = 1, max = 1000, message = "Between 1 and 1000 users can be updated at once")
+    private List<@NotNull @Valid UserUpdate> updates;
+
+    /**
+     * Checks that no user is updated twice, so every user has a single outcome.
+     *
+     * @return true if the user IDs are distinct
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Each user can only be updated once per request")
+    public boolean isDistinctUsers() {
+        if (updates == null) {
+            return true;
+        }
+        List<UUID> ids = updates.stream().filter(Objects::nonNull).map(UserUpdate::id).toList();
+        return ids.stream().distinct().count() == ids.size();
+    }
+
+    /**
+     * The changes of one user.
+     *
+     * @param id      the user ID
+     * @param ifMatch the ETags the user must still have, null to update unconditionally
+     * @param changes the fields to change, as for a single partial update
+     */
+    public record UserUpdate(@NotNull(message = "User ID is required") UUID id,
+                             String ifMatch,
+                             @NotNull(message = "Changes are required") @Valid UserUpdateDTO changes) {
+    }
+}
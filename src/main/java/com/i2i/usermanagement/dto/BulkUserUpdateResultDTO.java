@@ -0,0 +1,67 @@
+package com.i2i.usermanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object reporting the outcome of a bulk partial update per user, in request order.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserUpdateResultDTO {
+
+    /**
+     * Number of users that were changed.
+     */
+    private int updatedCount;
+
+    /**
+     * Number of users whose changes matched what was already stored.
+     */
+    private int unchangedCount;
+
+    /**
+     * Number of users that were not updated because of their outcome.
+     */
+    private int rejectedCount;
+
+    /**
+     * Outcome for each requested user.
+     */
+    private List<UserOutcome> outcomes;
+
+    /**
+     * What happened to one user.
+     */
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        FORBIDDEN,
+        PRECONDITION_FAILED,
+        EMAIL_CONFLICT
+    }
+
+    /**
+     * The outcome for one user.
+     *
+     * @param id      the user ID
+     * @param outcome what happened to the user
+     * @param user    the user after the update, only for updated and unchanged users
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record UserOutcome(UUID id, Outcome outcome, UserResponseDTO user) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.i2i.usermanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of the user change feed.
+ * Soft-deleted users are included with isActive set to false.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangesDTO {
+
+    /**
+     * Users changed after the requested cursor, oldest change first.
+     */
+    private List<UserResponseDTO> users;
+
+    /**
+     * Cursor to pass as {@code since} on the next call.
+     */
+    private long nextCursor;
+
+    /**
+     * Whether more changes are available right away.
+     */
+    private boolean hasMore;
+}
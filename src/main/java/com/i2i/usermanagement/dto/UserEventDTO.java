@@ -6,11 +6,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * DTO for user events sent to notification service via RabbitMQ.
- * Contains user information and event metadata.
+ * Since schema version 2 events are lean: they identify the user and the change, and user details are only
+ * included when {@code user.events.include-details} is enabled. Consumers needing details fetch them from
+ * {@code GET /api/v1/users/{id}/details}. Passwords are never included.
  *
  * @author Agnel Ruban
  * @version 1.0
@@ -23,7 +26,17 @@ import java.util.UUID;
 public class UserEventDTO {
 
     /**
-     * Event type (USER_CREATED, USER_DELETED).
+     * Current event schema version.
+     */
+    public static final int SCHEMA_VERSION = 2;
+
+    /**
+     * Schema version the event was written with.
+     */
+    private Integer schemaVersion;
+
+    /**
+     * Event type (USER_CREATED, USER_UPDATED, USER_DELETED).
      */
     private String eventType;
 
@@ -73,7 +86,14 @@ public class UserEventDTO {
     private String eventData;
 
     /**
-     * User password (only for USER_CREATED events).
+     * One-time token the user redeems to set a password (only for USER_CREATED events).
+     * Stored hashed and expires, see {@code POST /api/v1/auth/welcome}.
+     */
+    private String welcomeToken;
+
+    /**
+     * Names of the changed user fields (only for USER_UPDATED events).
+     * Only these fields carry values; a listed field without value was cleared.
      */
-    private String userPassword;
+    private List<String> changedFields;
 }
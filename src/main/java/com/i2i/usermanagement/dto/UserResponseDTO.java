@@ -70,4 +70,9 @@ public class UserResponseDTO {
      * Timestamp when the user record was last updated.
      */
     private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic locking version of the user, also carried by its ETag.
+     */
+    private Long version;
 }
@@ -0,0 +1,38 @@
+package com.i2i.usermanagement.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for redeeming a welcome token.
+ * Contains the token from the welcome message and the password the user chooses.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WelcomeTokenRedeemDTO {
+
+    /**
+     * Welcome token delivered with the USER_CREATED event.
+     * Must not be blank.
+     */
+    @NotBlank(message = "Token is required")
+    private String token;
+
+    /**
+     * New password of the user.
+     * Must be between 6 and 255 characters.
+     */
+    @NotBlank(message = "Password is required")
+    @Size(min = 6, max = 255, message = "Password must be between 6 and 255 characters")
+    private String password;
+}
@@ -0,0 +1,69 @@
+package com.i2i.usermanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox entry the relay could not read, moved aside so it does not block the events after it.
+ * Kept for inspection and manual replay.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Entity
+@Table(name = "user_event_outbox_dead_letter")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxDeadLetter {
+
+    /**
+     * Identifier of the original outbox entry.
+     */
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    /**
+     * Routing key the event was to be published with.
+     */
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    /**
+     * Serialized event body as stored in the outbox.
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * Timestamp when the event was written to the outbox.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Why the event could not be relayed.
+     */
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    /**
+     * Timestamp when the event was moved here.
+     */
+    @CreationTimestamp
+    @Column(name = "dead_lettered_at", nullable = false, updatable = false)
+    private LocalDateTime deadLetteredAt;
+}
@@ -10,12 +10,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 import java.util.UUID;
 
 /**
  * Role entity representing user roles in the system.
  * Supports role-based access control (RBAC).
+ * Roles are seeded by the changelog and never updated, so they are held read-only in the second-level cache.
  *
  * @author Agnel Ruban
  * @version 1.0
@@ -23,12 +27,19 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "roles")
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = Role.CACHE_REGION)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Role {
 
+    /**
+     * Second-level cache region of roles.
+     */
+    public static final String CACHE_REGION = "roles";
+
     /**
      * Unique identifier for the role.
      */
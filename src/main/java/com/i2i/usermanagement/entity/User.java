@@ -1,14 +1,14 @@
 package com.i2i.usermanagement.entity;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.OneToMany;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -19,11 +19,17 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,12 +49,17 @@ import java.util.UUID;
 @AllArgsConstructor
 public class User {
 
+    /**
+     * Second-level cache region of the role collections of users.
+     */
+    public static final String ROLES_CACHE_REGION = "userRoles";
+
     /**
      * Unique identifier for the user.
-     * Auto-generated using UUID strategy.
+     * Auto-generated as a time-ordered UUIDv7 so inserts append to the primary key index.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -132,9 +143,37 @@ public class User {
     private LocalDateTime updatedAt;
 
     /**
-     * List of user roles for role-based access control.
-     * One user can have multiple roles.
+     * Optimistic locking version of the user.
+     * Incremented by Hibernate on every update, which only applies while the row still has the version
+     * that was read, so concurrent updates of the same user conflict instead of overwriting each other.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Position of the user's latest change in the change feed, null until the change is numbered.
+     * Cleared by a database trigger on every insert and update and assigned in commit order by the
+     * change sequencer, never written through the entity.
      */
-    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
-    private List<UserRole> userRoles;
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    /**
+     * Roles of the user for role-based access control.
+     * Mapped straight onto the user_roles join table (composite key user_id, role_id).
+     * Kept as a List so role references obtained with getReferenceById are never hashed,
+     * which would initialize them. Loaded in batches when several users are read, and kept in the
+     * second-level cache so logins of the same user do not read the join table again.
+     */
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "user_roles",
+            joinColumns = @JoinColumn(name = "user_id"),
+            inverseJoinColumns = @JoinColumn(name = "role_id"))
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.ROLES_CACHE_REGION)
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<Role> roles = new ArrayList<>();
 }
@@ -0,0 +1,46 @@
+package com.i2i.usermanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single row holding the last change sequence handed out to a committed user change.
+ * Locked by the change sequencer for the whole batch it numbers, so sequencers on different
+ * instances take turns and numbers become visible in the order they were handed out.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Entity
+@Table(name = "user_change_head")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeHead {
+
+    /**
+     * Identifier of the only row.
+     */
+    public static final int ID = 1;
+
+    /**
+     * Always {@link #ID}.
+     */
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private Integer id;
+
+    /**
+     * Last change sequence assigned, 0 before the first.
+     */
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+}
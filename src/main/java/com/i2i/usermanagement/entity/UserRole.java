@@ -1,56 +0,0 @@
-package com.i2i.usermanagement.entity;
-
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
-import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.util.UUID;
-
-/**
- * UserRole entity representing the many-to-many relationship between User and Role.
- * Allows users to have multiple roles for flexible authorization.
- *
- * @author Agnel Ruban
- * @version 1.0
- * @since 14-10-2025
- */
-@Entity
-@Table(name = "user_roles")
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class UserRole {
-
-    /**
-     * Unique identifier for the user-role mapping.
-     */
-    @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(name = "id")
-    private UUID id;
-
-    /**
-     * Reference to the user.
-     */
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
-
-    /**
-     * Reference to the role.
-     */
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "role_id", nullable = false)
-    private Role role;
-}
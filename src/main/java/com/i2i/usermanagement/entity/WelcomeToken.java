@@ -0,0 +1,57 @@
+package com.i2i.usermanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One-time token a new user redeems to set their own password.
+ * Only the SHA-256 hash of the token is stored, so the table cannot be used to redeem tokens.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Entity
+@Table(name = "welcome_tokens")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WelcomeToken {
+
+    /**
+     * Hex encoded SHA-256 hash of the token.
+     */
+    @Id
+    @Column(name = "token_hash", updatable = false, nullable = false, length = 64)
+    private String tokenHash;
+
+    /**
+     * The user the token was issued to.
+     */
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private UUID userId;
+
+    /**
+     * Time after which the token can no longer be redeemed.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Timestamp when the token was issued.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
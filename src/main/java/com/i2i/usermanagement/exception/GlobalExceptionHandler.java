@@ -2,6 +2,8 @@ package com.i2i.usermanagement.exception;
 
 import com.i2i.usermanagement.dto.ErrorDTO;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -21,6 +23,12 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * Seconds a client is asked to wait before retrying an update that lost a concurrent write.
+     * Such conflicts are short-lived, so an immediate re-read and retry usually succeeds.
+     */
+    private static final String CONFLICT_RETRY_AFTER_SECONDS = "1";
+
     /**
      * Handles UserNotFoundException.
      *
@@ -61,6 +69,49 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorDTO);
     }
 
+    /**
+     * Handles PreconditionFailedException.
+     *
+     * @param exception the exception
+     * @param request the HTTP request
+     * @return ErrorDTO with 412 status
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorDTO> handlePreconditionFailedException(PreconditionFailedException exception,
+                                                                     HttpServletRequest request) {
+        ErrorDTO errorDTO = ErrorDTO.builder()
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .message(exception.getMessage())
+                .errorCode("PRECONDITION_FAILED")
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorDTO);
+    }
+
+    /**
+     * Handles OptimisticLockingFailureException, raised when a user was updated concurrently
+     * between being read and written. Answered right away with a Retry-After hint instead of
+     * making the update wait for a lock.
+     *
+     * @param exception the exception
+     * @param request the HTTP request
+     * @return ErrorDTO with 409 status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDTO> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception,
+                                                                           HttpServletRequest request) {
+        ErrorDTO errorDTO = ErrorDTO.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .message("The resource was modified concurrently, retry with its current version")
+                .errorCode("CONCURRENT_MODIFICATION")
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, CONFLICT_RETRY_AFTER_SECONDS)
+                .body(errorDTO);
+    }
 
     /**
      * Handles MethodArgumentNotValidException (validation errors).
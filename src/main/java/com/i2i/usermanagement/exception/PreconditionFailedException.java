@@ -0,0 +1,21 @@
+package com.i2i.usermanagement.exception;
+
+/**
+ * Exception thrown when a conditional write was made against a version of a user that is no longer current.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Constructs a new PreconditionFailedException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.i2i.usermanagement.filter;
 
 import com.i2i.usermanagement.exception.AuthenticationException;
+import com.i2i.usermanagement.util.JwtPrincipal;
 import com.i2i.usermanagement.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -55,7 +56,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     .collect(Collectors.toList());
 
             UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    username,
+                    new JwtPrincipal(jwtUtil.extractUserId(jwt), username),
                     null,
                     authorities
             );
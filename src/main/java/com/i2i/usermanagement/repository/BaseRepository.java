@@ -1,11 +1,11 @@
 package com.i2i.usermanagement.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,11 +38,11 @@ public interface BaseRepository<T, ID> extends JpaRepository<T, ID> {
     Optional<T> findByIdAndIsActiveTrue(ID id);
 
     /**
-     * Soft deletes an entity by setting isActive to false.
+     * Finds which of the given IDs belong to an entity, active or not.
      *
-     * @param id the entity ID to softly delete
+     * @param ids the entity IDs
+     * @return the IDs that exist
      */
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE #{#entityName} e SET e.isActive = false WHERE e.id = :id")
-    void softDeleteById(@Param("id") ID id);
+    @Query("SELECT e.id FROM #{#entityName} e WHERE e.id IN :ids")
+    List<ID> findExistingIds(@Param("ids") Collection<ID> ids);
 }
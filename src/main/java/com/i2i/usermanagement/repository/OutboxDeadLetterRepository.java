@@ -1,19 +1,18 @@
 package com.i2i.usermanagement.repository;
 
-import com.i2i.usermanagement.entity.UserRole;
+import com.i2i.usermanagement.entity.OutboxDeadLetter;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
 
 /**
- * Repository interface for UserRole entity operations.
+ * Repository interface for OutboxDeadLetter entity operations.
  *
  * @author Agnel Ruban
  * @version 1.0
- * @since 14-10-2025
+ * @since 19-10-2026
  */
 @Repository
-public interface UserRoleRepository extends JpaRepository<UserRole, UUID> {
-
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, UUID> {
 }
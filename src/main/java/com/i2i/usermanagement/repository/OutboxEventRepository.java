@@ -0,0 +1,54 @@
+package com.i2i.usermanagement.repository;
+
+import com.i2i.usermanagement.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for OutboxEvent entity operations.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Locks and returns the oldest pending events created before the given id, in publish order.
+     * Rows locked by another relay instance are skipped rather than waited for, so instances draining
+     * at the same time take different events instead of queuing behind each other.
+     *
+     * @param before   exclusive upper bound of the returned ids
+     * @param pageable the batch size
+     * @return the oldest pending events not locked by another instance
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))  // FOR UPDATE SKIP LOCKED
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id < :before ORDER BY e.id")
+    List<OutboxEvent> findOldestForUpdate(@Param("before") UUID before, Pageable pageable);
+
+    /**
+     * Claims the given pending events by locking them, in publish order.
+     * Events already relayed and deleted, or locked by another relay instance, are left out,
+     * so each event is published by whichever instance claims it first.
+     *
+     * @param ids the event IDs
+     * @return the claimed events
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))  // FOR UPDATE SKIP LOCKED
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id IN :ids ORDER BY e.id")
+    List<OutboxEvent> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+}
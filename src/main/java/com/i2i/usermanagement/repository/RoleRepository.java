@@ -1,7 +1,10 @@
 package com.i2i.usermanagement.repository;
 
 import com.i2i.usermanagement.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -19,9 +22,11 @@ public interface RoleRepository extends JpaRepository<Role, UUID> {
 
     /**
      * Finds a role by name.
+     * Results are kept in the query cache and resolved through the role cache.
      *
      * @param name the role name
      * @return Optional containing the role if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
 }
@@ -0,0 +1,32 @@
+package com.i2i.usermanagement.repository;
+
+import com.i2i.usermanagement.entity.UserChangeHead;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for UserChangeHead entity operations.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Repository
+public interface UserChangeHeadRepository extends JpaRepository<UserChangeHead, Integer> {
+
+    /**
+     * Locks and returns the change head, waiting for a sequencer that holds it to commit.
+     *
+     * @param id the ID of the head row
+     * @return Optional containing the locked head
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM UserChangeHead h WHERE h.id = :id")
+    Optional<UserChangeHead> findByIdForUpdate(@Param("id") int id);
+}
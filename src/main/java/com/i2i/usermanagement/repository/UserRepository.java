@@ -1,8 +1,17 @@
 package com.i2i.usermanagement.repository;
 
 import com.i2i.usermanagement.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,7 +24,7 @@ import java.util.UUID;
  * @since 13-10-2025
  */
 @Repository
-public interface UserRepository extends BaseRepository<User, UUID> {
+public interface UserRepository extends BaseRepository<User, UUID>, UserRepositoryCustom {
 
     /**
      * Checks if an active user exists with the given email address.
@@ -25,6 +34,14 @@ public interface UserRepository extends BaseRepository<User, UUID> {
      */
     boolean existsByEmailAndIsActiveTrue(String email);
 
+    /**
+     * Finds which of the given email addresses belong to active users.
+     *
+     * @param emails the email addresses to check
+     * @return the email addresses in use by active users
+     */
+    @Query("SELECT u.email FROM User u WHERE u.isActive = true AND u.email IN :emails")
+    List<String> findActiveEmails(@Param("emails") Collection<String> emails);
 
     /**
      * Finds an active user by username (name field).
@@ -33,4 +50,36 @@ public interface UserRepository extends BaseRepository<User, UUID> {
      * @return Optional containing the active user if found
      */
     Optional<User> findByNameAndIsActiveTrue(String name);
+
+    /**
+     * Finds the optimistic locking version of an active user without loading the user.
+     *
+     * @param id the user ID
+     * @return Optional containing the version if an active user has the ID
+     */
+    @Query("SELECT u.version FROM User u WHERE u.id = :id AND u.isActive = true")
+    Optional<Long> findActiveVersionById(@Param("id") UUID id);
+
+    /**
+     * Finds users changed after the given change sequence, including soft-deleted ones, in change order.
+     * Changes not numbered by the change sequencer yet are left for a later call.
+     *
+     * @param since    exclusive lower bound of the change sequence
+     * @param pageable the page size
+     * @return the changed users, oldest change first
+     */
+    @Query("SELECT u FROM User u WHERE u.changeSeq > :since ORDER BY u.changeSeq")
+    List<User> findChangedSince(@Param("since") long since, Pageable pageable);
+
+    /**
+     * Locks and returns the IDs of committed users whose latest change has no change sequence yet, oldest first.
+     * Users locked by a transaction still writing them are skipped, they are numbered once it has committed.
+     *
+     * @param pageable the batch size
+     * @return the IDs of the unnumbered users
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))  // FOR UPDATE SKIP LOCKED
+    @Query("SELECT u.id FROM User u WHERE u.changeSeq IS NULL ORDER BY u.updatedAt, u.id")
+    List<UUID> findUnsequencedIdsForUpdate(Pageable pageable);
 }
@@ -0,0 +1,80 @@
+package com.i2i.usermanagement.repository;
+
+import com.i2i.usermanagement.entity.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Custom repository operations for User entities that need direct access to the persistence context.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Returns the names of the properties of a managed user that differ from the state loaded
+     * from the database, using Hibernate's dirty checking. Must be called before the changes are flushed.
+     *
+     * @param user the managed user
+     * @return names of the changed properties, empty if nothing changed or the user is not managed
+     */
+    List<String> findDirtyFields(User user);
+
+    /**
+     * Soft deletes an active user with a single statement that also returns what the deleted event needs,
+     * so the user does not have to be read first. Increments the version like any other update.
+     * An instance of the user already managed in the persistence context is detached, so its stale state
+     * is neither returned by later reads nor flushed over the delete.
+     *
+     * @param id the ID of the user to softly delete
+     * @return the deleted user, empty if no active user has the ID
+     */
+    Optional<ChangedUser> softDeleteReturning(UUID id);
+
+    /**
+     * Sets the active flag of the given users with a single statement, skipping users that already have it.
+     * Increments the version of every changed user and detaches their managed instances.
+     *
+     * @param ids    the IDs of the users
+     * @param active the new value of the active flag
+     * @return the users that were changed
+     */
+    List<ChangedUser> setActiveReturning(Collection<UUID> ids, boolean active);
+
+    /**
+     * Sets the active flag of at most {@code limit} users of an email domain that do not have it yet,
+     * with a single statement. Calling it until fewer than {@code limit} users are returned changes them all.
+     * Managed instances of the changed users are detached.
+     *
+     * @param emailDomain the domain after the @ of the email, compared ignoring case
+     * @param active      the new value of the active flag
+     * @param limit       the maximum number of users to change
+     * @return the users that were changed
+     */
+    List<ChangedUser> setActiveByEmailDomainReturning(String emailDomain, boolean active, int limit);
+
+    /**
+     * Numbers the latest changes of the given users in order, starting at {@code firstSeq}.
+     * Runs as one JDBC batch beside Hibernate, which would evict the second-level cache for a native statement,
+     * and does not change the version, as the users themselves did not change.
+     *
+     * @param ids      the IDs of the users, in change order
+     * @param firstSeq the change sequence of the first user
+     */
+    void assignChangeSeqs(List<UUID> ids, long firstSeq);
+
+    /**
+     * A user whose active flag was changed, with what its lifecycle event needs.
+     *
+     * @param id    the ID of the user
+     * @param email the email of the user
+     * @param name  the name of the user
+     */
+    record ChangedUser(UUID id, String email, String name) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.i2i.usermanagement.repository;
+
+import com.i2i.usermanagement.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of UserRepositoryCustom reading the dirty state from the Hibernate persistence context
+ * and running the statements Spring Data cannot derive.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String SET_ACTIVE = "UPDATE users SET is_active = :active, version = version + 1 ";
+    private static final String BY_ID = "WHERE id = :id AND is_active <> :active";
+    private static final String BY_IDS = "WHERE id IN (:ids) AND is_active <> :active";
+    private static final String BY_EMAIL_DOMAIN = "WHERE id IN (SELECT id FROM users "
+            + "WHERE LOWER(email) LIKE :emailPattern AND is_active <> :active ORDER BY id LIMIT :limit)";
+    private static final String RETURNED_COLUMNS = "id, email, name";
+    private static final String ASSIGN_CHANGE_SEQ = "UPDATE users SET change_seq = ? WHERE id = ?";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param entityManager the shared entity manager
+     */
+    public UserRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> findDirtyFields(User user) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        EntityEntry entry = session.getPersistenceContextInternal().getEntry(user);
+        if (entry == null || entry.getLoadedState() == null) {
+            return List.of();
+        }
+        EntityPersister persister = entry.getPersister();
+        int[] dirty = persister.findDirty(persister.getValues(user), entry.getLoadedState(), user, session);
+        if (dirty == null) {
+            return List.of();
+        }
+        String[] propertyNames = persister.getPropertyNames();
+        return Arrays.stream(dirty).mapToObj(index -> propertyNames[index]).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ChangedUser> softDeleteReturning(UUID id) {
+        return setActiveReturning(entityManager.createNativeQuery(returning(SET_ACTIVE + BY_ID))
+                .setParameter("id", id), false)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ChangedUser> setActiveReturning(Collection<UUID> ids, boolean active) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return setActiveReturning(entityManager.createNativeQuery(returning(SET_ACTIVE + BY_IDS))
+                .setParameter("ids", ids), active);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ChangedUser> setActiveByEmailDomainReturning(String emailDomain, boolean active, int limit) {
+        return setActiveReturning(entityManager.createNativeQuery(returning(SET_ACTIVE + BY_EMAIL_DOMAIN))
+                .setParameter("emailPattern", "%@" + emailDomain.toLowerCase(Locale.ROOT))
+                .setParameter("limit", limit), active);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignChangeSeqs(List<UUID> ids, long firstSeq) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(ASSIGN_CHANGE_SEQ)) {
+                long changeSeq = firstSeq;
+                for (UUID id : ids) {
+                    statement.setLong(1, changeSeq++);
+                    statement.setObject(2, id);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ChangedUser> setActiveReturning(Query query, boolean active) {
+        // Typed like the entity attributes, H2 would otherwise return the id as bytes
+        List<Object[]> rows = query.unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("email", String.class)
+                .addScalar("name", String.class)
+                .setParameter("active", active)
+                .getResultList();
+        List<ChangedUser> changedUsers = rows.stream()
+                .map(columns -> new ChangedUser((UUID) columns[0], (String) columns[1], (String) columns[2]))
+                .toList();
+        detachManaged(changedUsers);
+        return changedUsers;
+    }
+
+    /**
+     * Detaches the managed instances of users changed by a native statement, which bypasses the persistence
+     * context, like clearAutomatically does for @Modifying queries but without clearing unrelated entities.
+     */
+    private void detachManaged(List<ChangedUser> changedUsers) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(User.class);
+        for (ChangedUser changedUser : changedUsers) {
+            Object managed = session.getPersistenceContextInternal()
+                    .getEntity(session.generateEntityKey(changedUser.id(), persister));
+            if (managed != null) {
+                entityManager.detach(managed);
+            }
+        }
+    }
+
+    /**
+     * Makes an UPDATE return the id, email and name of the rows it changed.
+     * H2 has no RETURNING clause but can select from the rows an UPDATE changed.
+     */
+    private String returning(String update) {
+        return isH2()
+                ? "SELECT " + RETURNED_COLUMNS + " FROM FINAL TABLE (" + update + ")"
+                : update + " RETURNING " + RETURNED_COLUMNS;
+    }
+
+    private boolean isH2() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof H2Dialect;
+    }
+}
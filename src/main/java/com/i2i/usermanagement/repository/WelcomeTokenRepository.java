@@ -0,0 +1,16 @@
+package com.i2i.usermanagement.repository;
+
+import com.i2i.usermanagement.entity.WelcomeToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for WelcomeToken entity operations.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Repository
+public interface WelcomeTokenRepository extends JpaRepository<WelcomeToken, String> {
+}
@@ -0,0 +1,23 @@
+package com.i2i.usermanagement.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Broadcaster for a single node: the local eviction is all there is to do.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+@ConditionalOnProperty(name = "user.cache.invalidation", havingValue = "local")
+public class LocalUserCacheBroadcaster implements UserCacheBroadcaster {
+
+    @Override
+    public void broadcast(UUID userId) {
+        // No other nodes to notify
+    }
+}
@@ -0,0 +1,211 @@
+package com.i2i.usermanagement.service;
+
+import com.i2i.usermanagement.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcasts user cache invalidations over the fanout exchange of {@link RabbitMQConfig}.
+ * <p>
+ * Invalidations are buffered and sent by a dedicated thread, as many per message as have accumulated
+ * while the previous one was sent. A message body is just the user IDs, 16 bytes each. When the broker is
+ * unreachable, or the buffer overflows, invalidations stay local to this node and the IDs are dropped;
+ * once the broker is back a single invalidate-all message makes the other nodes clear their caches,
+ * since there is no telling which of their entries went stale meanwhile.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+@ConditionalOnProperty(name = "user.cache.invalidation", havingValue = "rabbitmq", matchIfMissing = true)
+public class RabbitUserCacheBroadcaster implements UserCacheBroadcaster, SmartLifecycle {
+
+    public static final String INVALIDATE_ALL_HEADER = "x-invalidate-all";
+
+    private static final Logger logger = LoggerFactory.getLogger(RabbitUserCacheBroadcaster.class);
+    private static final int UUID_BYTES = 16;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final BlockingQueue<UUID> pending;
+    private final int batchSize;
+    private final long retryMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Counter sentInvalidations;
+    private final Counter failedBroadcasts;
+
+    // Set when invalidations were dropped, cleared once an invalidate-all went out
+    private volatile boolean invalidationsLost;
+    private volatile boolean running;
+    private Thread broadcasterThread;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rabbitTemplate the template used to send invalidations
+     * @param meterRegistry  the registry the broadcast metrics are published to
+     * @param bufferCapacity number of invalidations buffered before they are dropped
+     * @param batchSize      maximum user IDs per message
+     * @param retryMillis    how long to wait before retrying after the broker failed
+     */
+    public RabbitUserCacheBroadcaster(RabbitTemplate rabbitTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${user.cache.invalidation.buffer-capacity:10000}") int bufferCapacity,
+                                      @Value("${user.cache.invalidation.batch-size:500}") int batchSize,
+                                      @Value("${user.cache.invalidation.retry-millis:1000}") long retryMillis) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.pending = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.retryMillis = retryMillis;
+        this.sentInvalidations = Counter.builder("users.cache.invalidations.sent")
+                .description("User IDs broadcast to the other nodes for eviction")
+                .register(meterRegistry);
+        this.failedBroadcasts = Counter.builder("users.cache.invalidations.failures")
+                .description("Invalidation broadcasts that failed and stayed local to this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the ID of this node, set as the app ID of its messages so it can skip its own invalidations.
+     *
+     * @return the node ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void broadcast(UUID userId) {
+        if (!pending.offer(userId)) {
+            invalidationsLost = true;
+        }
+    }
+
+    /**
+     * Sends one message with the buffered invalidations, or an invalidate-all after lost invalidations.
+     *
+     * @throws InterruptedException if the broadcaster thread is interrupted while waiting
+     */
+    public void broadcastOnce() throws InterruptedException {
+        UUID first = pending.poll(retryMillis, TimeUnit.MILLISECONDS);
+        List<UUID> userIds = new ArrayList<>(batchSize);
+        if (first != null) {
+            userIds.add(first);
+            pending.drainTo(userIds, batchSize - 1);
+        }
+        try {
+            if (invalidationsLost) {
+                send(new byte[0], true);
+                invalidationsLost = false;
+                logger.info("User cache invalidations broadcast again, other nodes told to clear their caches");
+            } else if (!userIds.isEmpty()) {
+                send(encode(userIds), false);
+                sentInvalidations.increment(userIds.size());
+            }
+        } catch (AmqpException exception) {
+            failedBroadcasts.increment();
+            if (!invalidationsLost) {
+                logger.warn("User cache invalidations stay local until the broker is reachable: {}",
+                        exception.getMessage());
+            }
+            invalidationsLost = true;
+            TimeUnit.MILLISECONDS.sleep(retryMillis);
+        }
+    }
+
+    private void send(byte[] body, boolean invalidateAll) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_BYTES);
+        properties.setAppId(nodeId);
+        if (invalidateAll) {
+            properties.setHeader(INVALIDATE_ALL_HEADER, true);
+        }
+        rabbitTemplate.send(RabbitMQConfig.USER_CACHE_INVALIDATION_EXCHANGE, "", new Message(body, properties));
+    }
+
+    /**
+     * Encodes user IDs as consecutive 16 byte big-endian values.
+     *
+     * @param userIds the user IDs
+     * @return the message body
+     */
+    public static byte[] encode(List<UUID> userIds) {
+        ByteBuffer buffer = ByteBuffer.allocate(userIds.size() * UUID_BYTES);
+        for (UUID userId : userIds) {
+            buffer.putLong(userId.getMostSignificantBits()).putLong(userId.getLeastSignificantBits());
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a message body written by {@link #encode(List)}.
+     *
+     * @param body the message body
+     * @return the user IDs
+     */
+    public static List<UUID> decode(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        List<UUID> userIds = new ArrayList<>(body.length / UUID_BYTES);
+        while (buffer.remaining() >= UUID_BYTES) {
+            userIds.add(new UUID(buffer.getLong(), buffer.getLong()));
+        }
+        return userIds;
+    }
+
+    /**
+     * Starts the dedicated broadcaster thread.
+     */
+    @Override
+    public void start() {
+        running = true;
+        broadcasterThread = new Thread(this::runBroadcaster, "user-cache-broadcaster");
+        broadcasterThread.setDaemon(true);
+        broadcasterThread.start();
+    }
+
+    /**
+     * Stops the broadcaster thread. Buffered invalidations are dropped; other nodes expire them by TTL.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (broadcasterThread != null) {
+            broadcasterThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runBroadcaster() {
+        while (running) {
+            try {
+                broadcastOnce();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
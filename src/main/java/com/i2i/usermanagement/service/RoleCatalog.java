@@ -0,0 +1,77 @@
+package com.i2i.usermanagement.service;
+
+import com.i2i.usermanagement.entity.Role;
+import com.i2i.usermanagement.repository.RoleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory catalog of roles mapping role names to their IDs.
+ * Roles are seeded by the changelog and practically never change, so the catalog is loaded
+ * once at startup and only reloaded on demand or when an unknown role name is requested.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+public class RoleCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleCatalog.class);
+    private final RoleRepository roleRepository;
+
+    private volatile Map<String, UUID> roleIdsByName;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param roleRepository the role repository
+     */
+    public RoleCatalog(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    /**
+     * Loads the catalog once the application context is ready.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed() {
+        refresh();
+    }
+
+    /**
+     * Returns the ID of the role with the given name.
+     * An unknown name triggers one reload in case the role was added after startup.
+     *
+     * @param roleName the role name (e.g., ROLE_USER)
+     * @return Optional containing the role ID if the role exists
+     */
+    public Optional<UUID> findRoleId(String roleName) {
+        Map<String, UUID> roles = roleIdsByName;
+        if (roles == null || !roles.containsKey(roleName)) {
+            roles = refresh();
+        }
+        return Optional.ofNullable(roles.get(roleName));
+    }
+
+    /**
+     * Reloads all roles from the database.
+     *
+     * @return the reloaded name to ID mapping
+     */
+    public Map<String, UUID> refresh() {
+        Map<String, UUID> roles = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Role::getName, Role::getId));
+        roleIdsByName = roles;
+        logger.debug("Role catalog loaded with {} roles", roles.size());
+        return roles;
+    }
+}
@@ -0,0 +1,262 @@
+package com.i2i.usermanagement.service;
+
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded read-through cache of active users by ID.
+ * <p>
+ * Entries expire after a fixed time to live; beyond the maximum size the oldest entries are evicted first.
+ * Writers evict a user once their transaction has completed, so no reader caches a value the
+ * transaction is about to replace. A reader that loaded a user while an eviction happened does not
+ * store it: every eviction advances a generation, and {@link #put} is rejected when the generation
+ * changed since the reader took it with {@link #generation()} before going to the database.
+ * <p>
+ * Writes on other nodes arrive through the {@link UserCacheBroadcaster}, which this node's writes are
+ * announced to after the local eviction. Both kinds of writes are passed on to the registered
+ * {@link UserWriteListener}s.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class UserCache {
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedEntries = new AtomicInteger();
+    private final AtomicLong generation = new AtomicLong();
+    private final UserCacheBroadcaster broadcaster;
+    private final List<UserWriteListener> writeListeners = new CopyOnWriteArrayList<>();
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param broadcaster   the broadcaster announcing evictions to the other nodes
+     * @param meterRegistry the registry the cache metrics are published to
+     * @param maxSize       maximum number of cached users, 0 disables the cache
+     * @param ttlSeconds    how long a cached user is served before it is read again
+     */
+    public UserCache(UserCacheBroadcaster broadcaster,
+                     MeterRegistry meterRegistry,
+                     @Value("${user.cache.max-size:10000}") int maxSize,
+                     @Value("${user.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.broadcaster = broadcaster;
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+
+        Gauge.builder("users.cache.size", entries, Map::size)
+                .description("Users held in the user cache")
+                .register(meterRegistry);
+        this.hits = Counter.builder("users.cache.hits")
+                .description("User lookups served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("users.cache.misses")
+                .description("User lookups that went to the database")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("users.cache.evictions")
+                .description("Users removed from the cache because of size, expiry or writes")
+                .register(meterRegistry);
+        Gauge.builder("users.cache.hit.ratio", this, UserCache::hitRatio)
+                .description("Share of user lookups served from the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a listener for the users written on this node and the others.
+     *
+     * @param listener the listener
+     */
+    public void addWriteListener(UserWriteListener listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Returns the cached user, if present and not expired.
+     *
+     * @param id the user ID
+     * @return Optional containing the cached user
+     */
+    public Optional<UserResponseDTO> get(UUID id) {
+        Entry entry = entries.get(id);
+        if (entry != null && System.nanoTime() - entry.loadedAtNanos() < ttlNanos) {
+            hits.increment();
+            return Optional.of(entry.user());
+        }
+        if (entry != null && entries.remove(id, entry)) {
+            evictions.increment();
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the current generation, to be taken before loading a user from the database.
+     *
+     * @return the eviction generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a user loaded from the database, unless an eviction happened since the load started.
+     *
+     * @param user              the loaded user
+     * @param loadedAtGeneration the generation taken before the load
+     */
+    public void put(UserResponseDTO user, long loadedAtGeneration) {
+        if (maxSize <= 0 || generation.get() != loadedAtGeneration) {
+            return;
+        }
+        Entry entry = new Entry(user.getId(), user, System.nanoTime());
+        entries.put(entry.id(), entry);
+        insertionOrder.add(entry);
+        queuedEntries.incrementAndGet();
+        // A racing eviction may have missed the entry just added
+        if (generation.get() != loadedAtGeneration) {
+            entries.remove(entry.id(), entry);
+        }
+        trimToSize();
+    }
+
+    /**
+     * Evicts a user once the current transaction has completed, or immediately without one,
+     * and announces the eviction to the other nodes.
+     *
+     * @param id the user ID
+     */
+    public void evictAfterCommit(UUID id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAndBroadcast(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictAndBroadcast(id);
+            }
+        });
+    }
+
+    /**
+     * Evicts users written together once the current transaction has completed, or immediately without one,
+     * and announces the evictions to the other nodes.
+     *
+     * @param ids the user IDs
+     */
+    public void evictAllAfterCommit(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAllAndBroadcast(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictAllAndBroadcast(ids);
+            }
+        });
+    }
+
+    private void evictAllAndBroadcast(Collection<UUID> ids) {
+        evictAll(ids);
+        ids.forEach(broadcaster::broadcast);
+    }
+
+    private void evictAndBroadcast(UUID id) {
+        evict(id);
+        broadcaster.broadcast(id);
+    }
+
+    /**
+     * Evicts a user from this node only.
+     *
+     * @param id the user ID
+     */
+    public void evict(UUID id) {
+        generation.incrementAndGet();
+        if (entries.remove(id) != null) {
+            evictions.increment();
+        }
+        List<UUID> userIds = List.of(id);
+        writeListeners.forEach(listener -> listener.usersWritten(userIds));
+    }
+
+    /**
+     * Evicts users from this node only, such as users changed on another node.
+     *
+     * @param ids the user IDs
+     */
+    public void evictAll(Collection<UUID> ids) {
+        generation.incrementAndGet();
+        for (UUID id : ids) {
+            if (entries.remove(id) != null) {
+                evictions.increment();
+            }
+        }
+        writeListeners.forEach(listener -> listener.usersWritten(ids));
+    }
+
+    /**
+     * Removes all users from this node, when changes on other nodes may have been missed.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        writeListeners.forEach(UserWriteListener::allUsersWritten);
+    }
+
+    /**
+     * Removes the oldest entries beyond the maximum size. Queue entries of users that were evicted
+     * or reloaded meanwhile no longer match the map and are skipped.
+     */
+    private void trimToSize() {
+        while (queuedEntries.get() > maxSize) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            queuedEntries.decrementAndGet();
+            if (entries.remove(oldest.id(), oldest)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private double hitRatio() {
+        double lookups = hits.count() + misses.count();
+        return lookups == 0 ? 0 : hits.count() / lookups;
+    }
+
+    private record Entry(UUID id, UserResponseDTO user, long loadedAtNanos) {
+    }
+}
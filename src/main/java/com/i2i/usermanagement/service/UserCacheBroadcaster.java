@@ -0,0 +1,22 @@
+package com.i2i.usermanagement.service;
+
+import java.util.UUID;
+
+/**
+ * Broadcasts user cache invalidations to the other replicas of the service.
+ * Selected with {@code user.cache.invalidation}: {@code rabbitmq} (default) sends them over the broker,
+ * {@code local} keeps invalidations local to this node, for single-node runs.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public interface UserCacheBroadcaster {
+
+    /**
+     * Announces that a user changed and must be evicted by every other node. Never blocks.
+     *
+     * @param userId the ID of the changed user
+     */
+    void broadcast(UUID userId);
+}
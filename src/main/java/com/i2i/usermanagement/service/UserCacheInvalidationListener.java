@@ -0,0 +1,96 @@
+package com.i2i.usermanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies user cache invalidations broadcast by the other nodes to the caches of this node.
+ * <p>
+ * While this node has no broker connection it cannot hear invalidations, so the caches are cleared
+ * whenever the connection is closed or established again and refill from the database.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+@ConditionalOnProperty(name = "user.cache.invalidation", havingValue = "rabbitmq", matchIfMissing = true)
+public class UserCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCacheInvalidationListener.class);
+
+    private final UserCache userCache;
+    private final UserNameIndex userNameIndex;
+    private final String nodeId;
+    private final Counter receivedInvalidations;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param userCache         the cache of users by ID
+     * @param userNameIndex     the index of usernames to user IDs
+     * @param broadcaster       the broadcaster of this node, whose own messages are skipped
+     * @param connectionFactory the broker connection factory, watched for lost connections
+     * @param meterRegistry     the registry the invalidation metrics are published to
+     */
+    public UserCacheInvalidationListener(UserCache userCache, UserNameIndex userNameIndex,
+                                         RabbitUserCacheBroadcaster broadcaster,
+                                         ConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        this.userCache = userCache;
+        this.userNameIndex = userNameIndex;
+        this.nodeId = broadcaster.getNodeId();
+        this.receivedInvalidations = Counter.builder("users.cache.invalidations.received")
+                .description("User IDs evicted because they changed on another node")
+                .register(meterRegistry);
+        connectionFactory.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void onCreate(Connection connection) {
+                clear("broker connection established");
+            }
+
+            @Override
+            public void onClose(Connection connection) {
+                clear("broker connection closed");
+            }
+        });
+    }
+
+    /**
+     * Evicts the users of an invalidation message, or everything for an invalidate-all.
+     *
+     * @param message the invalidation message
+     */
+    @RabbitListener(queues = "#{userCacheInvalidationQueue.name}")
+    public void onInvalidation(Message message) {
+        if (nodeId.equals(message.getMessageProperties().getAppId())) {
+            return;
+        }
+        if (Boolean.TRUE.equals(message.getMessageProperties().getHeader(RabbitUserCacheBroadcaster.INVALIDATE_ALL_HEADER))) {
+            clear("another node lost invalidations");
+            return;
+        }
+        Set<UUID> userIds = new HashSet<>(RabbitUserCacheBroadcaster.decode(message.getBody()));
+        userCache.evictAll(userIds);
+        userNameIndex.evictUserIds(userIds);
+        receivedInvalidations.increment(userIds.size());
+    }
+
+    private void clear(String reason) {
+        userCache.clear();
+        userNameIndex.clear();
+        logger.info("User caches cleared: {}", reason);
+    }
+}
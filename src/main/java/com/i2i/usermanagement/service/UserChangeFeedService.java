@@ -0,0 +1,74 @@
+package com.i2i.usermanagement.service;
+
+import com.i2i.usermanagement.dto.UserChangesDTO;
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.mapper.UserMapper;
+import com.i2i.usermanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Service for the incremental user change feed.
+ * Every committed write to a user is numbered with a monotonic change sequence, so clients keep the last cursor
+ * they received and ask only for what changed after it, in pages walked along the change sequence index.
+ * <p>
+ * Numbers are assigned in commit order by the {@link com.i2i.usermanagement.task.UserChangeSequencer}
+ * and never become visible before a lower one, so the cursor cannot move past a change that commits later.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserChangeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangeFeedService.class);
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+
+    @Value("${user.changes.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param userRepository the user repository
+     * @param userMapper     the user mapper
+     */
+    public UserChangeFeedService(UserRepository userRepository, UserMapper userMapper) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+    }
+
+    /**
+     * Returns users created, updated or soft deleted after the given cursor.
+     *
+     * @param since    the cursor returned by the previous call, 0 to start from the beginning
+     * @param pageSize maximum number of users returned, capped at the configured maximum
+     * @return one page of changes and the cursor to continue from
+     */
+    public UserChangesDTO getChangesSince(long since, int pageSize) {
+        int limit = Math.max(1, Math.min(pageSize, maxPageSize));
+
+        // One extra row tells whether another page is ready without a count query
+        List<User> changed = userRepository.findChangedSince(since, PageRequest.of(0, limit + 1));
+        boolean hasMore = changed.size() > limit;
+        List<User> page = hasMore ? changed.subList(0, limit) : changed;
+
+        long nextCursor = page.isEmpty() ? since : page.get(page.size() - 1).getChangeSeq();
+        logger.debug("Returning {} user changes after cursor {}", page.size(), since);
+        return UserChangesDTO.builder()
+                .users(userMapper.toDTOList(page))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+}
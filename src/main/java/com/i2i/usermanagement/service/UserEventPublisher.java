@@ -1,57 +1,143 @@
 package com.i2i.usermanagement.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.i2i.usermanagement.config.RabbitMQConfig;
+import com.i2i.usermanagement.config.UserEventRouting;
 import com.i2i.usermanagement.dto.UserEventDTO;
+import com.i2i.usermanagement.entity.OutboxEvent;
 import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.repository.OutboxEventRepository;
+import com.i2i.usermanagement.repository.UserRepositoryCustom;
+import com.i2i.usermanagement.task.OutboxRelay;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Service for publishing user events to RabbitMQ.
  * Handles sending user lifecycle events to notification service.
+ * Events are written to the outbox table within the caller's transaction, so they are only
+ * sent for committed changes. After commit they are handed to the {@link OutboxRelay}, which publishes them
+ * asynchronously. Routing keys carry the user's partition when partitioning is enabled.
+ * Events are lean by default; user details are added only when {@code user.events.include-details} is set.
  *
  * @author Agnel Ruban
  * @version 1.0
  * @since 25-10-2025
  */
 @Service
+@Transactional
 public class UserEventPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(UserEventPublisher.class);
-    private final RabbitTemplate rabbitTemplate;
+    private static final List<String> REACTIVATED_FIELDS = List.of("isActive");
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay outboxRelay;
+    private final UserEventRouting userEventRouting;
+    private final boolean includeDetails;
 
-    public UserEventPublisher(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param outboxEventRepository the outbox repository
+     * @param objectMapper          the object mapper used to serialize events
+     * @param outboxRelay           the relay publishing committed events
+     * @param userEventRouting      the partition routing of events
+     * @param includeDetails        whether events carry user details in addition to the user ID
+     */
+    public UserEventPublisher(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                              OutboxRelay outboxRelay, UserEventRouting userEventRouting,
+                              @Value("${user.events.include-details:false}") boolean includeDetails) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.outboxRelay = outboxRelay;
+        this.userEventRouting = userEventRouting;
+        this.includeDetails = includeDetails;
     }
 
     /**
      * Publishes user created event.
      *
      * @param user         the created user
-     * @param userPassword the user's password (plain text)
+     * @param welcomeToken the one-time token the user sets a password with
      */
-    public void publishUserCreated(User user, String userPassword) {
-        UserEventDTO event = UserEventDTO.builder()
-            .eventType("USER_CREATED")
-            .userId(user.getId())
-            .userName(user.getName())
-            .userEmail(user.getEmail())
-            .userAge(user.getAge())
-            .userPhoneNumber(user.getPhoneNumber())
-            .userAddress(user.getAddress())
-            .isActive(user.getIsActive())
-            .eventTimestamp(LocalDateTime.now())
-            .eventData("New user account created")
-            .userPassword(userPassword)
-            .build();
-
-        publishEvent(event, RabbitMQConfig.USER_CREATED_ROUTING_KEY);
-        logger.info("Published USER_CREATED event for user: {}", user.getEmail());
+    public void publishUserCreated(User user, String welcomeToken) {
+        UserEventDTO.UserEventDTOBuilder event = leanEvent("USER_CREATED", user.getId())
+            .welcomeToken(welcomeToken);
+        if (includeDetails) {
+            event.userName(user.getName())
+                .userEmail(user.getEmail())
+                .userAge(user.getAge())
+                .userPhoneNumber(user.getPhoneNumber())
+                .userAddress(user.getAddress())
+                .isActive(user.getIsActive())
+                .eventData("New user account created");
+        }
+
+        publishEvent(event.build(), RabbitMQConfig.USER_CREATED_ROUTING_KEY);
+        logger.info("Queued USER_CREATED event for user: {}", user.getId());
+    }
+
+    /**
+     * Publishes user updated event naming the changed fields, with their new values when details are included.
+     * The password is reported as changed but never included.
+     *
+     * @param user          the updated user
+     * @param changedFields names of the changed user properties
+     */
+    public void publishUserUpdated(User user, List<String> changedFields) {
+        publishEvent(updatedEvent(user, changedFields), RabbitMQConfig.USER_UPDATED_ROUTING_KEY);
+        logger.info("Queued USER_UPDATED event for user {} with changes to {}", user.getId(), changedFields);
+    }
+
+    /**
+     * Publishes user updated events for users updated together, writing them to the outbox in one batch.
+     *
+     * @param updates the updated users with the names of their changed properties
+     */
+    public void publishUsersUpdated(List<UserChanges> updates) {
+        publishEvents(updates.stream()
+                .map(update -> updatedEvent(update.user(), update.changedFields()))
+                .toList(), RabbitMQConfig.USER_UPDATED_ROUTING_KEY);
+        logger.info("Queued USER_UPDATED events for {} users", updates.size());
+    }
+
+    /**
+     * Builds the user updated event of one user.
+     *
+     * @param user          the updated user
+     * @param changedFields names of the changed user properties
+     * @return the event
+     */
+    private UserEventDTO updatedEvent(User user, List<String> changedFields) {
+        UserEventDTO.UserEventDTOBuilder event = leanEvent("USER_UPDATED", user.getId())
+            .changedFields(changedFields);
+
+        if (includeDetails) {
+            for (String field : changedFields) {
+                switch (field) {
+                    case "name" -> event.userName(user.getName());
+                    case "email" -> event.userEmail(user.getEmail());
+                    case "age" -> event.userAge(user.getAge());
+                    case "phoneNumber" -> event.userPhoneNumber(user.getPhoneNumber());
+                    case "address" -> event.userAddress(user.getAddress());
+                    case "isActive" -> event.isActive(user.getIsActive());
+                    default -> logger.debug("Field {} is not carried in USER_UPDATED events", field);
+                }
+            }
+        }
+        return event.build();
     }
 
     /**
@@ -62,26 +148,133 @@ public class UserEventPublisher {
      * @param userName  the deleted username
      */
     public void publishUserDeleted(UUID userId, String userEmail, String userName) {
-        UserEventDTO event = UserEventDTO.builder()
-            .eventType("USER_DELETED")
+        UserEventDTO.UserEventDTOBuilder event = leanEvent("USER_DELETED", userId);
+        if (includeDetails) {
+            event.userName(userName)
+                .userEmail(userEmail)
+                .eventData("User account deleted");
+        }
+
+        publishEvent(event.build(), RabbitMQConfig.USER_DELETED_ROUTING_KEY);
+        logger.info("Queued USER_DELETED event for user: {}", userId);
+    }
+
+    /**
+     * Publishes user deleted events for users soft deleted together, writing them to the outbox in one batch.
+     *
+     * @param users the deleted users
+     */
+    public void publishUsersDeleted(List<UserRepositoryCustom.ChangedUser> users) {
+        publishEvents(users.stream()
+                .map(user -> {
+                    UserEventDTO.UserEventDTOBuilder event = leanEvent("USER_DELETED", user.id());
+                    if (includeDetails) {
+                        event.userName(user.name())
+                            .userEmail(user.email())
+                            .eventData("User account deleted");
+                    }
+                    return event.build();
+                })
+                .toList(), RabbitMQConfig.USER_DELETED_ROUTING_KEY);
+        logger.info("Queued USER_DELETED events for {} users", users.size());
+    }
+
+    /**
+     * Publishes user updated events for users reactivated together, writing them to the outbox in one batch.
+     * Each event names isActive as the changed field.
+     *
+     * @param users the reactivated users
+     */
+    public void publishUsersReactivated(List<UserRepositoryCustom.ChangedUser> users) {
+        publishEvents(users.stream()
+                .map(user -> {
+                    UserEventDTO.UserEventDTOBuilder event = leanEvent("USER_UPDATED", user.id())
+                        .changedFields(REACTIVATED_FIELDS);
+                    if (includeDetails) {
+                        event.isActive(true);
+                    }
+                    return event.build();
+                })
+                .toList(), RabbitMQConfig.USER_UPDATED_ROUTING_KEY);
+        logger.info("Queued USER_UPDATED events for {} reactivated users", users.size());
+    }
+
+    /**
+     * Starts an event with the fields every event carries.
+     *
+     * @param eventType the event type
+     * @param userId    the user the event is about
+     * @return builder with type, user ID, schema version and timestamp set
+     */
+    private UserEventDTO.UserEventDTOBuilder leanEvent(String eventType, UUID userId) {
+        return UserEventDTO.builder()
+            .schemaVersion(UserEventDTO.SCHEMA_VERSION)
+            .eventType(eventType)
             .userId(userId)
-            .userName(userName)
-            .userEmail(userEmail)
-            .eventTimestamp(LocalDateTime.now())
-            .eventData("User account deleted")
-            .build();
-
-        publishEvent(event, RabbitMQConfig.USER_DELETED_ROUTING_KEY);
-        logger.info("Published USER_DELETED event for user: {}", userEmail);
+            .eventTimestamp(LocalDateTime.now());
     }
 
     /**
-     * Publishes an event to RabbitMQ.
+     * Writes an event to the outbox and hands it to the relay once the transaction has committed.
      *
      * @param event      the event to publish
-     * @param routingKey the routing key
+     * @param eventKey   the routing key of the event type
+     */
+    private void publishEvent(UserEventDTO event, String eventKey) {
+        OutboxEvent outboxEvent = outboxEventRepository.save(toOutboxEvent(event, eventKey));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.enqueue(outboxEvent, event);
+            }
+        });
+    }
+
+    /**
+     * Writes events of one type to the outbox together and hands them to the relay once the transaction
+     * has committed.
+     *
+     * @param events     the events to publish
+     * @param eventKey   the routing key of the event type
+     */
+    private void publishEvents(List<UserEventDTO> events, String eventKey) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> outboxEvents = new ArrayList<>(events.size());
+        for (UserEventDTO event : events) {
+            outboxEvents.add(toOutboxEvent(event, eventKey));
+        }
+        List<OutboxEvent> savedEvents = outboxEventRepository.saveAll(outboxEvents);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (int i = 0; i < savedEvents.size(); i++) {
+                    outboxRelay.enqueue(savedEvents.get(i), events.get(i));
+                }
+            }
+        });
+    }
+
+    private OutboxEvent toOutboxEvent(UserEventDTO event, String eventKey) {
+        try {
+            return OutboxEvent.builder()
+                    .routingKey(userEventRouting.routingKeyFor(eventKey, event.getUserId()))
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Failed to serialize " + event.getEventType() + " event", exception);
+        }
+    }
+
+    /**
+     * An updated user and the names of its changed properties.
+     *
+     * @param user          the updated user
+     * @param changedFields names of the changed user properties
      */
-    private void publishEvent(UserEventDTO event, String routingKey) {
-         rabbitTemplate.convertAndSend(RabbitMQConfig.USER_EXCHANGE, routingKey, event);
+    public record UserChanges(User user, List<String> changedFields) {
     }
 }
@@ -0,0 +1,206 @@
+package com.i2i.usermanagement.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.i2i.usermanagement.dto.BulkImportErrorDTO;
+import com.i2i.usermanagement.dto.BulkImportResultDTO;
+import com.i2i.usermanagement.dto.UserCreateDTO;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service for streaming bulk imports of users.
+ * Reads NDJSON or CSV bodies row by row with Jackson's streaming parser,
+ * validates each row and hands bounded batches to {@link UserService#createBulkUsers(List)},
+ * so memory stays constant and inserts start as soon as the first batch is complete.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final UserService userService;
+    private final Validator validator;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    @Value("${user.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param userService  the user service used to persist each batch
+     * @param validator    the bean validator applied to every row
+     * @param objectMapper the application object mapper used for NDJSON rows
+     */
+    public UserImportService(UserService userService, Validator validator, ObjectMapper objectMapper) {
+        this.userService = userService;
+        this.validator = validator;
+        this.ndjsonReader = objectMapper.readerFor(UserCreateDTO.class);
+
+        CsvMapper csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.csvReader = csvMapper.readerFor(UserCreateDTO.class)
+                .with(CsvSchema.emptySchema().withHeader());
+    }
+
+    /**
+     * Imports users from a newline-delimited JSON stream (one UserCreateDTO object per line).
+     *
+     * @param inputStream the request body
+     * @return summary of the import
+     * @throws IOException if the stream cannot be read
+     */
+    public BulkImportResultDTO importNdjson(InputStream inputStream) throws IOException {
+        try (MappingIterator<UserCreateDTO> rows = ndjsonReader.readValues(inputStream)) {
+            return importRows(rows);
+        }
+    }
+
+    /**
+     * Imports users from a CSV stream whose first line is a header naming UserCreateDTO fields.
+     *
+     * @param inputStream the request body
+     * @return summary of the import
+     * @throws IOException if the stream cannot be read
+     */
+    public BulkImportResultDTO importCsv(InputStream inputStream) throws IOException {
+        try (MappingIterator<UserCreateDTO> rows = csvReader.readValues(inputStream)) {
+            return importRows(rows);
+        }
+    }
+
+    /**
+     * Pulls rows one at a time, validates them and flushes full batches to persistence.
+     *
+     * @param rows the row iterator over the import stream
+     * @return summary of the import
+     */
+    private BulkImportResultDTO importRows(MappingIterator<UserCreateDTO> rows) {
+        ImportProgress progress = new ImportProgress();
+        List<UserCreateDTO> batch = new ArrayList<>(batchSize);
+
+        while (hasNextRow(rows, progress)) {
+            progress.totalRows++;
+            UserCreateDTO row;
+            try {
+                row = rows.nextValue();
+            } catch (IOException | RuntimeException exception) {
+                // Binding errors only spoil the current row, the iterator resyncs on the next one
+                progress.reject(exception.getMessage());
+                continue;
+            }
+
+            String violation = validate(row);
+            if (violation != null) {
+                progress.reject(violation);
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                flush(batch, progress);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        flush(batch, progress);
+
+        logger.info("Streaming import finished: {} rows, {} created, {} failed",
+                progress.totalRows, progress.createdCount, progress.failedCount);
+
+        return BulkImportResultDTO.builder()
+                .totalRows(progress.totalRows)
+                .createdCount(progress.createdCount)
+                .failedCount(progress.failedCount)
+                .errors(progress.errors)
+                .build();
+    }
+
+    /**
+     * Checks for a further row. A malformed stream ends the import instead of failing it,
+     * so rows persisted so far are still reported.
+     */
+    private boolean hasNextRow(MappingIterator<UserCreateDTO> rows, ImportProgress progress) {
+        try {
+            return rows.hasNextValue();
+        } catch (IOException | RuntimeException exception) {
+            progress.totalRows++;
+            progress.reject("Unreadable input, import stopped: " + exception.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Validates a row and returns the first violation message, or null if the row is valid.
+     */
+    private String validate(UserCreateDTO row) {
+        if (row == null) {
+            return "Empty row";
+        }
+        Set<ConstraintViolation<UserCreateDTO>> violations = validator.validate(row);
+        return violations.stream()
+                .findFirst()
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+
+    /**
+     * Persists a batch and updates the counters.
+     * Rows rejected during persistence are counted but not itemised,
+     * the bulk task already logs them individually.
+     */
+    private void flush(List<UserCreateDTO> batch, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<UserResponseDTO> created = userService.createBulkUsers(batch);
+        progress.createdCount += created.size();
+        progress.failedCount += batch.size() - created.size();
+    }
+
+    /**
+     * Mutable counters for a single import run.
+     */
+    private static final class ImportProgress {
+
+        private long totalRows;
+        private long createdCount;
+        private long failedCount;
+        private final List<BulkImportErrorDTO> errors = new ArrayList<>();
+
+        private void reject(String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(BulkImportErrorDTO.builder()
+                        .row(totalRows)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.i2i.usermanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.mapper.UserMapper;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.util.UserETags;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory, versioned snapshot of the active user list, served pre-serialized.
+ * <p>
+ * Every active user is kept as its own JSON, ordered by ID. Writes reported through the {@link UserCache}
+ * only mark users as changed; the next request reads just those users, re-serializes them and joins the
+ * per-user JSON into a new snapshot, whose ETag is likewise updated from per-user digests. Until the next
+ * write every request is served the bytes of the current snapshot without touching the database or Jackson.
+ * The whole list is read at the first request and again whenever writes on other nodes may have been missed.
+ * Users are read and serialized in a read-only transaction, so their lazy associations load outside web requests too.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class UserListSnapshot implements UserWriteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserListSnapshot.class);
+    // Matches the JDBC batch size used for user writes and role loading
+    private static final int READ_CHUNK_SIZE = 50;
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final ObjectWriter userWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<UUID> changedUserIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuildRequired = new AtomicBoolean(true);
+    // Guarded by this, only touched while refreshing
+    private final NavigableMap<UUID, SerializedUser> serializedUsers = new TreeMap<>();
+    private long listDigest;
+    private volatile Snapshot snapshot;
+
+    private final Counter fullRebuilds;
+    private final Counter incrementalRefreshes;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param userRepository     the user repository
+     * @param userMapper         the user mapper
+     * @param objectMapper       the object mapper used for HTTP responses
+     * @param userCache          the user cache reporting the users written on this node and the others
+     * @param meterRegistry      the registry the snapshot metrics are published to
+     * @param transactionManager the transaction manager users are read in
+     */
+    public UserListSnapshot(UserRepository userRepository, UserMapper userMapper, ObjectMapper objectMapper,
+                            UserCache userCache, MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.userWriter = objectMapper.writerFor(UserResponseDTO.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        userCache.addWriteListener(this);
+
+        Gauge.builder("users.snapshot.size", this, UserListSnapshot::size)
+                .description("Active users in the user list snapshot")
+                .register(meterRegistry);
+        this.fullRebuilds = Counter.builder("users.snapshot.refreshes")
+                .tag("type", "full")
+                .description("User list snapshots built from all active users")
+                .register(meterRegistry);
+        this.incrementalRefreshes = Counter.builder("users.snapshot.refreshes")
+                .tag("type", "incremental")
+                .description("User list snapshots built by re-reading only changed users")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the snapshot of the active users, first applying the writes made since it was built.
+     *
+     * @return the current snapshot
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && changedUserIds.isEmpty() && !rebuildRequired.get()) {
+            return current;
+        }
+        return refresh();
+    }
+
+    @Override
+    public void usersWritten(Collection<UUID> userIds) {
+        changedUserIds.addAll(userIds);
+    }
+
+    @Override
+    public void allUsersWritten() {
+        rebuildRequired.set(true);
+    }
+
+    /**
+     * Builds the next snapshot. Pending changes are taken before the database is read, so a write
+     * reported meanwhile stays pending for the next refresh instead of being lost.
+     * The refresh is called from within this class, so it opens its read-only transaction itself.
+     */
+    private synchronized Snapshot refresh() {
+        boolean rebuild = rebuildRequired.getAndSet(false);
+        if (!rebuild && changedUserIds.isEmpty()) {
+            return snapshot;
+        }
+        List<UUID> changed = new ArrayList<>(changedUserIds);
+        changedUserIds.removeAll(changed);
+        try {
+            if (rebuild) {
+                transactionTemplate.executeWithoutResult(status -> rebuildAll());
+                fullRebuilds.increment();
+            } else {
+                transactionTemplate.executeWithoutResult(status -> applyChanges(changed));
+                incrementalRefreshes.increment();
+            }
+        } catch (RuntimeException exception) {
+            if (rebuild) {
+                rebuildRequired.set(true);
+            }
+            changedUserIds.addAll(changed);
+            throw exception;
+        }
+        long version = snapshot == null ? 1 : snapshot.version() + 1;
+        byte[] json = joinUsers();
+        snapshot = new Snapshot(version, serializedUsers.size(), json, UserETags.forUserCollection(listDigest));
+        logger.debug("User list snapshot {} built with {} users after {} changes",
+                version, serializedUsers.size(), rebuild ? "all" : changed.size());
+        return snapshot;
+    }
+
+    private void rebuildAll() {
+        List<User> users = userRepository.findByIsActiveTrue();
+        serializedUsers.clear();
+        listDigest = 0;
+        for (User user : users) {
+            put(user);
+        }
+    }
+
+    private void applyChanges(List<UUID> userIds) {
+        Set<UUID> missing = new HashSet<>(userIds);
+        for (int from = 0; from < userIds.size(); from += READ_CHUNK_SIZE) {
+            List<UUID> chunk = userIds.subList(from, Math.min(from + READ_CHUNK_SIZE, userIds.size()));
+            for (User user : userRepository.findAllById(chunk)) {
+                missing.remove(user.getId());
+                if (Boolean.TRUE.equals(user.getIsActive())) {
+                    put(user);
+                } else {
+                    remove(user.getId());
+                }
+            }
+        }
+        missing.forEach(this::remove);
+    }
+
+    private void put(User user) {
+        byte[] json;
+        try {
+            json = userWriter.writeValueAsBytes(userMapper.toDTO(user));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Failed to serialize user " + user.getId(), exception);
+        }
+        remove(user.getId());
+        SerializedUser serializedUser = new SerializedUser(json, UserETags.digest(json));
+        serializedUsers.put(user.getId(), serializedUser);
+        listDigest += serializedUser.digest();
+    }
+
+    private void remove(UUID userId) {
+        SerializedUser removed = serializedUsers.remove(userId);
+        if (removed != null) {
+            listDigest -= removed.digest();
+        }
+    }
+
+    /**
+     * Joins the serialized users into a JSON array with plain array copies.
+     */
+    private byte[] joinUsers() {
+        int length = 2 + Math.max(0, serializedUsers.size() - 1);
+        for (SerializedUser user : serializedUsers.values()) {
+            length += user.json().length;
+        }
+        byte[] json = new byte[length];
+        int position = 0;
+        json[position++] = '[';
+        for (SerializedUser user : serializedUsers.values()) {
+            if (position > 1) {
+                json[position++] = ',';
+            }
+            System.arraycopy(user.json(), 0, json, position, user.json().length);
+            position += user.json().length;
+        }
+        json[position] = ']';
+        return json;
+    }
+
+    private int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.size();
+    }
+
+    private record SerializedUser(byte[] json, long digest) {
+    }
+
+    /**
+     * An immutable version of the active user list.
+     *
+     * @param version increases with every snapshot built by this node
+     * @param size    number of users in the list
+     * @param json    the list serialized as a JSON array, not to be modified
+     * @param etag    the entity tag of the list
+     */
+    public record Snapshot(long version, int size, byte[] json, String etag) {
+    }
+}
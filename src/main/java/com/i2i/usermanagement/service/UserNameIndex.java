@@ -0,0 +1,150 @@
+package com.i2i.usermanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of usernames to the IDs of active users.
+ * Requests authenticated with tokens issued before they carried the user ID are resolved through it,
+ * so only their first request reads the user by name. A mapping only changes when the user is renamed
+ * or deleted, which remove it. Once the index is full the least recently used names are evicted,
+ * so the names in use stay indexed.
+ * <p>
+ * The names of each user are also kept by user ID, so users changed on other nodes are removed
+ * without scanning the index.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class UserNameIndex {
+
+    private final Cache<String, UUID> userIdsByName;
+    // Every indexed name is also here once put has returned; entries are removed only while not indexed
+    private final Map<UUID, Set<String>> namesByUserId = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param meterRegistry the registry the index size is published to
+     * @param maxSize       maximum number of indexed names, 0 disables the index
+     */
+    public UserNameIndex(MeterRegistry meterRegistry, @Value("${user.name-index.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.userIdsByName = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .executor(Runnable::run)
+                .<String, UUID>evictionListener((name, userId, cause) -> unindex(name, userId))
+                .build();
+        Gauge.builder("users.name-index.size", userIdsByName, Cache::estimatedSize)
+                .description("Usernames mapped to user IDs for tokens without a user ID")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the ID of the active user with the given name, if indexed.
+     *
+     * @param name the username
+     * @return Optional containing the user ID
+     */
+    public Optional<UUID> findUserId(String name) {
+        return Optional.ofNullable(userIdsByName.getIfPresent(name));
+    }
+
+    /**
+     * Indexes the ID of an active user read by name.
+     *
+     * @param name   the username
+     * @param userId the user ID
+     */
+    public void put(String name, UUID userId) {
+        if (maxSize <= 0) {
+            return;
+        }
+        UUID previousUserId = userIdsByName.asMap().put(name, userId);
+        if (previousUserId != null && !previousUserId.equals(userId)) {
+            unindex(name, previousUserId);
+        }
+        // Added after the name is indexed, so a concurrent unindex of an earlier mapping cannot remove it
+        namesByUserId.compute(userId, (id, names) -> {
+            Set<String> userNames = names == null ? new HashSet<>() : names;
+            userNames.add(name);
+            return userNames;
+        });
+    }
+
+    /**
+     * Removes a name once the current transaction has completed, or immediately without one.
+     *
+     * @param name the username that no longer maps to the user
+     */
+    public void evictAfterCommit(String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(name);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                remove(name);
+            }
+        });
+    }
+
+    /**
+     * Removes the names of users changed on another node, which may have been renamed or deleted there.
+     *
+     * @param userIds the user IDs
+     */
+    public void evictUserIds(Collection<UUID> userIds) {
+        for (UUID userId : userIds) {
+            Set<String> names = namesByUserId.remove(userId);
+            if (names != null) {
+                names.forEach(name -> userIdsByName.asMap().remove(name, userId));
+            }
+        }
+    }
+
+    /**
+     * Removes all names, when changes on other nodes may have been missed.
+     */
+    public void clear() {
+        userIdsByName.invalidateAll();
+        namesByUserId.clear();
+    }
+
+    private void remove(String name) {
+        UUID userId = userIdsByName.asMap().remove(name);
+        if (userId != null) {
+            unindex(name, userId);
+        }
+    }
+
+    /**
+     * Forgets a name of a user, unless it has been indexed for the user again meanwhile.
+     */
+    private void unindex(String name, UUID userId) {
+        namesByUserId.computeIfPresent(userId, (id, names) -> {
+            if (!userId.equals(userIdsByName.asMap().get(name))) {
+                names.remove(name);
+            }
+            return names.isEmpty() ? null : names;
+        });
+    }
+}
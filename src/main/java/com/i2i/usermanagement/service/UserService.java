@@ -1,10 +1,13 @@
 package com.i2i.usermanagement.service;
 
+import com.i2i.usermanagement.dto.BulkUserUpdateRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserUpdateResultDTO;
 import com.i2i.usermanagement.dto.UserResponseDTO;
 import com.i2i.usermanagement.dto.UserCreateDTO;
 import com.i2i.usermanagement.dto.UserUpdateDTO;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -27,40 +30,65 @@ public interface UserService {
     UserResponseDTO createUser(UserCreateDTO userCreateDTO);
 
     /**
-     * Retrieves all users.
+     * Retrieves a user by ID.
      * 
-     * @return List of all UserResponseDTOs
+     * @param id the unique identifier of the user
+     * @return UserResponseDTO representing the user
+     * @throws UserNotFoundException if user is not found
      */
-    List<UserResponseDTO> getAllUsers();
+    UserResponseDTO getUserById(UUID id);
 
     /**
-     * Retrieves a user by ID.
-     * 
+     * Returns the ETag of the user {@link #getUserById(UUID)} would return, without loading or mapping the user.
+     * The version is taken from the cache or read on its own.
+     *
+     * @param id the unique identifier of the user
+     * @return Optional containing the ETag, empty if the user is not found or cannot be resolved without
+     *         reading it by name
+     */
+    Optional<String> getUserETag(UUID id);
+
+    /**
+     * Retrieves the details of a user for consumers of lean user events, including deactivated users.
+     *
      * @param id the unique identifier of the user
      * @return UserResponseDTO representing the user
      * @throws UserNotFoundException if user is not found
      */
-    UserResponseDTO getUserById(UUID id);
+    UserResponseDTO getUserDetails(UUID id);
 
     /**
      * Updates an existing user completely.
      * 
      * @param id the unique identifier of the user to update
      * @param userCreateDTO the updated user data
+     * @param ifMatch the If-Match header of the request, null to update unconditionally
      * @return UserResponseDTO representing the updated user
      * @throws UserNotFoundException if user is not found
+     * @throws PreconditionFailedException if the user no longer matches the If-Match header
      */
-    UserResponseDTO updateUser(UUID id, UserCreateDTO userCreateDTO);
+    UserResponseDTO updateUser(UUID id, UserCreateDTO userCreateDTO, String ifMatch);
 
     /**
      * Updates an existing user partially.
      * 
      * @param id the unique identifier of the user to update
      * @param userUpdateDTO the updated user data
+     * @param ifMatch the If-Match header of the request, null to update unconditionally
      * @return UserResponseDTO representing the updated user
      * @throws UserNotFoundException if user is not found
+     * @throws PreconditionFailedException if the user no longer matches the If-Match header
+     */
+    UserResponseDTO updateUserPartially(UUID id, UserUpdateDTO userUpdateDTO, String ifMatch);
+
+    /**
+     * Updates many users partially, with the same rules as a single partial update.
+     * A user that cannot be updated is reported with its outcome and the others are still updated.
+     *
+     * @param request the users to update and their changes
+     * @return the outcome per user, in request order
      */
-    UserResponseDTO updateUserPartially(UUID id, UserUpdateDTO userUpdateDTO);
+    BulkUserUpdateResultDTO updateUsersPartially(BulkUserUpdateRequestDTO request);
 
     /**
      * Soft deletes a user by ID (sets isActive to false).
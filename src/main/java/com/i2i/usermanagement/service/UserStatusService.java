@@ -0,0 +1,179 @@
+package com.i2i.usermanagement.service;
+
+import com.i2i.usermanagement.dto.BulkUserStatusRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserStatusResultDTO;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.repository.UserRepositoryCustom.ChangedUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service deactivating (soft deleting) and reactivating many users at once.
+ * Users are changed in chunks, each with one set-based UPDATE in its own transaction, so locks are held
+ * briefly and a failure leaves earlier chunks applied. The events of a chunk are written to the outbox
+ * together and its users are evicted from the caches together once it has committed.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+public class UserStatusService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatusService.class);
+
+    private final UserRepository userRepository;
+    private final UserEventPublisher userEventPublisher;
+    private final UserCache userCache;
+    private final UserNameIndex userNameIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param userRepository     the user repository
+     * @param userEventPublisher the publisher of user lifecycle events
+     * @param userCache          the user cache
+     * @param userNameIndex      the username index
+     * @param transactionManager the transaction manager each chunk runs in
+     * @param chunkSize          the maximum number of users changed per statement and transaction
+     */
+    public UserStatusService(UserRepository userRepository, UserEventPublisher userEventPublisher,
+                             UserCache userCache, UserNameIndex userNameIndex,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${user.bulk-status.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.userEventPublisher = userEventPublisher;
+        this.userCache = userCache;
+        this.userNameIndex = userNameIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Deactivates the selected active users, publishing a USER_DELETED event for each.
+     *
+     * @param request the users to deactivate
+     * @return the outcome per user
+     */
+    public BulkUserStatusResultDTO deactivateUsers(BulkUserStatusRequestDTO request) {
+        return changeStatus(request, false);
+    }
+
+    /**
+     * Reactivates the selected inactive users, publishing a USER_UPDATED event for each.
+     *
+     * @param request the users to reactivate
+     * @return the outcome per user
+     */
+    public BulkUserStatusResultDTO reactivateUsers(BulkUserStatusRequestDTO request) {
+        return changeStatus(request, true);
+    }
+
+    private BulkUserStatusResultDTO changeStatus(BulkUserStatusRequestDTO request, boolean active) {
+        BulkUserStatusResultDTO result = request.getIds() != null
+                ? changeStatusByIds(request.getIds(), active)
+                : changeStatusByEmailDomain(request.getEmailDomain(), active);
+        logger.info("Bulk {} changed {} users, {} unchanged, {} not found", active ? "reactivation" : "deactivation",
+                result.getChangedCount(), result.getUnchangedCount(), result.getNotFoundCount());
+        return result;
+    }
+
+    private BulkUserStatusResultDTO changeStatusByIds(List<UUID> requestedIds, boolean active) {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(requestedIds));
+        List<BulkUserStatusResultDTO.UserOutcome> outcomes = new ArrayList<>(ids.size());
+        int changed = 0;
+        int unchanged = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            ChunkResult chunkResult = transactionTemplate.execute(status -> {
+                Set<UUID> changedIds = new HashSet<>();
+                for (ChangedUser user : applyChunk(userRepository.setActiveReturning(chunk, active), active)) {
+                    changedIds.add(user.id());
+                }
+                List<UUID> rest = chunk.stream().filter(id -> !changedIds.contains(id)).toList();
+                Set<UUID> existingIds = rest.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(rest));
+                return new ChunkResult(changedIds, existingIds);
+            });
+            for (UUID id : chunk) {
+                BulkUserStatusResultDTO.Outcome outcome = chunkResult.outcomeOf(id);
+                if (outcome == BulkUserStatusResultDTO.Outcome.CHANGED) {
+                    changed++;
+                } else if (outcome == BulkUserStatusResultDTO.Outcome.UNCHANGED) {
+                    unchanged++;
+                }
+                outcomes.add(new BulkUserStatusResultDTO.UserOutcome(id, outcome));
+            }
+        }
+        return BulkUserStatusResultDTO.builder()
+                .changedCount(changed)
+                .unchangedCount(unchanged)
+                .notFoundCount(ids.size() - changed - unchanged)
+                .outcomes(outcomes)
+                .build();
+    }
+
+    private BulkUserStatusResultDTO changeStatusByEmailDomain(String emailDomain, boolean active) {
+        List<BulkUserStatusResultDTO.UserOutcome> outcomes = new ArrayList<>();
+        List<ChangedUser> chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> applyChunk(
+                    userRepository.setActiveByEmailDomainReturning(emailDomain, active, chunkSize), active));
+            for (ChangedUser user : chunk) {
+                outcomes.add(new BulkUserStatusResultDTO.UserOutcome(user.id(), BulkUserStatusResultDTO.Outcome.CHANGED));
+            }
+        } while (chunk.size() == chunkSize);
+        return BulkUserStatusResultDTO.builder()
+                .changedCount(outcomes.size())
+                .outcomes(outcomes)
+                .build();
+    }
+
+    /**
+     * Publishes the events of the users changed by one chunk and evicts them once it has committed.
+     *
+     * @param changedUsers the users changed by the chunk
+     * @param active       whether they were reactivated or deactivated
+     * @return the changed users
+     */
+    private List<ChangedUser> applyChunk(List<ChangedUser> changedUsers, boolean active) {
+        if (changedUsers.isEmpty()) {
+            return changedUsers;
+        }
+        if (active) {
+            userEventPublisher.publishUsersReactivated(changedUsers);
+        } else {
+            userEventPublisher.publishUsersDeleted(changedUsers);
+            changedUsers.forEach(user -> userNameIndex.evictAfterCommit(user.name()));
+        }
+        userCache.evictAllAfterCommit(changedUsers.stream().map(ChangedUser::id).toList());
+        return changedUsers;
+    }
+
+    /**
+     * Users changed by one chunk of an ID request, and which of the others exist.
+     */
+    private record ChunkResult(Set<UUID> changedIds, Set<UUID> existingIds) {
+
+        BulkUserStatusResultDTO.Outcome outcomeOf(UUID id) {
+            if (changedIds.contains(id)) {
+                return BulkUserStatusResultDTO.Outcome.CHANGED;
+            }
+            return existingIds.contains(id)
+                    ? BulkUserStatusResultDTO.Outcome.UNCHANGED
+                    : BulkUserStatusResultDTO.Outcome.NOT_FOUND;
+        }
+    }
+}
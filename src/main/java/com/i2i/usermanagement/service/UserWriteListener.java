@@ -0,0 +1,27 @@
+package com.i2i.usermanagement.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Listener told by the {@link UserCache} about users written on this or another node,
+ * for state derived from users that is kept outside the cache.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public interface UserWriteListener {
+
+    /**
+     * Called once writes to the given users have completed. Must not block.
+     *
+     * @param userIds the IDs of the written users
+     */
+    void usersWritten(Collection<UUID> userIds);
+
+    /**
+     * Called when writes may have been missed, so that any user may have changed. Must not block.
+     */
+    void allUsersWritten();
+}
@@ -0,0 +1,126 @@
+package com.i2i.usermanagement.service;
+
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.entity.WelcomeToken;
+import com.i2i.usermanagement.exception.AuthenticationException;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.repository.WelcomeTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service issuing and redeeming one-time welcome tokens.
+ * A new user receives a token with the USER_CREATED event instead of their password and uses it once,
+ * before it expires, to set a password of their own.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+@Transactional
+public class WelcomeTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WelcomeTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+    private static final String INVALID_TOKEN = "Invalid or expired welcome token";
+    private static final List<String> REDEEMED_FIELDS = List.of("password");
+
+    private final WelcomeTokenRepository welcomeTokenRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final UserEventPublisher userEventPublisher;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${user.welcome-token.ttl-hours:72}")
+    private long ttlHours;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param welcomeTokenRepository the welcome token repository
+     * @param userRepository         the user repository
+     * @param passwordEncoder        the password encoder
+     * @param userCache              the cache of users by ID
+     * @param userEventPublisher     the publisher of user lifecycle events
+     */
+    public WelcomeTokenService(WelcomeTokenRepository welcomeTokenRepository, UserRepository userRepository,
+                               PasswordEncoder passwordEncoder, UserCache userCache,
+                               UserEventPublisher userEventPublisher) {
+        this.welcomeTokenRepository = welcomeTokenRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.userEventPublisher = userEventPublisher;
+    }
+
+    /**
+     * Issues a welcome token for a user. Only its hash is stored.
+     *
+     * @param userId the user ID
+     * @return the token, to be delivered to the user
+     */
+    public String issue(UUID userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        welcomeTokenRepository.save(WelcomeToken.builder()
+                .tokenHash(hash(token))
+                .userId(userId)
+                .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                .build());
+        return token;
+    }
+
+    /**
+     * Redeems a welcome token and sets the password of its user. The token cannot be used again.
+     * Setting the password changes the version of the user, so like any other update it publishes a USER_UPDATED
+     * event and evicts the user from the caches.
+     *
+     * @param token    the token delivered to the user
+     * @param password the new password
+     * @throws AuthenticationException if the token is unknown, already used or expired, or the user is inactive
+     */
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public void redeem(String token, String password) {
+        WelcomeToken welcomeToken = welcomeTokenRepository.findById(hash(token))
+                .orElseThrow(() -> new AuthenticationException(INVALID_TOKEN));
+        welcomeTokenRepository.delete(welcomeToken);
+        if (welcomeToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new AuthenticationException(INVALID_TOKEN);
+        }
+
+        User user = userRepository.findByIdAndIsActiveTrue(welcomeToken.getUserId())
+                .orElseThrow(() -> new AuthenticationException(INVALID_TOKEN));
+        user.setPassword(passwordEncoder.encode(password));
+        User updatedUser = userRepository.saveAndFlush(user);
+        userEventPublisher.publishUserUpdated(updatedUser, REDEEMED_FIELDS);
+        userCache.evictAfterCommit(user.getId());
+        logger.info("Welcome token redeemed for user {}", user.getId());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+}
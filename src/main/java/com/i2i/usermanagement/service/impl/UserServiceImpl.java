@@ -1,31 +1,47 @@
 package com.i2i.usermanagement.service.impl;
 
+import com.i2i.usermanagement.dto.BulkUserUpdateRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserUpdateResultDTO;
 import com.i2i.usermanagement.dto.UserResponseDTO;
 import com.i2i.usermanagement.dto.UserCreateDTO;
 import com.i2i.usermanagement.dto.UserUpdateDTO;
-import com.i2i.usermanagement.entity.Role;
 import com.i2i.usermanagement.entity.User;
-import com.i2i.usermanagement.entity.UserRole;
+import com.i2i.usermanagement.exception.PreconditionFailedException;
 import com.i2i.usermanagement.exception.UserAlreadyExistsException;
 import com.i2i.usermanagement.exception.UserNotFoundException;
 import com.i2i.usermanagement.mapper.UserMapper;
 import com.i2i.usermanagement.repository.RoleRepository;
 import com.i2i.usermanagement.repository.UserRepository;
-import com.i2i.usermanagement.repository.UserRoleRepository;
+import com.i2i.usermanagement.repository.UserRepositoryCustom;
+import com.i2i.usermanagement.service.RoleCatalog;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserNameIndex;
 import com.i2i.usermanagement.service.UserService;
 import com.i2i.usermanagement.service.UserEventPublisher;
-import com.i2i.usermanagement.task.BulkUserCreationTask;
+import com.i2i.usermanagement.service.WelcomeTokenService;
+import com.i2i.usermanagement.task.BulkUserCreationExecutor;
+import com.i2i.usermanagement.util.JwtPrincipal;
+import com.i2i.usermanagement.util.UserETags;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ForkJoinPool;
 
 /**
  * Implementation of UserService interface.
@@ -40,31 +56,51 @@ import java.util.concurrent.ForkJoinPool;
 public class UserServiceImpl implements UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+    private static final String DEFAULT_ROLE = "ROLE_USER";
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final UserRoleRepository userRoleRepository;
+    private final RoleCatalog roleCatalog;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final UserEventPublisher userEventPublisher;
+    private final BulkUserCreationExecutor bulkUserCreationExecutor;
+    private final WelcomeTokenService welcomeTokenService;
+    private final UserCache userCache;
+    private final UserNameIndex userNameIndex;
+    private final TransactionTemplate rowTransactionTemplate;
 
     /**
      * Constructor for dependency injection.
      *
      * @param userRepository the user repository
      * @param roleRepository the role repository
-     * @param userRoleRepository the user role repository
+     * @param roleCatalog    the cached role catalog
      * @param userMapper     the user mapper
      * @param passwordEncoder the password encoder
+     * @param userEventPublisher the user event publisher
+     * @param bulkUserCreationExecutor the executor bulk creation jobs run on
+     * @param welcomeTokenService the service issuing welcome tokens to new users
+     * @param userCache      the cache of users by ID
+     * @param userNameIndex  the index of usernames to user IDs
+     * @param transactionManager the transaction manager each row of a bulk creation runs in
      */
-    public UserServiceImpl(UserRepository userRepository, RoleRepository roleRepository,
-                          UserRoleRepository userRoleRepository, UserMapper userMapper, PasswordEncoder passwordEncoder,
-                          UserEventPublisher userEventPublisher) {
+    public UserServiceImpl(UserRepository userRepository, RoleRepository roleRepository, RoleCatalog roleCatalog,
+                          UserMapper userMapper, PasswordEncoder passwordEncoder,
+                          UserEventPublisher userEventPublisher, BulkUserCreationExecutor bulkUserCreationExecutor,
+                          WelcomeTokenService welcomeTokenService, UserCache userCache,
+                          UserNameIndex userNameIndex, PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
-        this.userRoleRepository = userRoleRepository;
+        this.roleCatalog = roleCatalog;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
         this.userEventPublisher = userEventPublisher;
+        this.bulkUserCreationExecutor = bulkUserCreationExecutor;
+        this.welcomeTokenService = welcomeTokenService;
+        this.userCache = userCache;
+        this.userNameIndex = userNameIndex;
+        this.rowTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.rowTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
@@ -80,27 +116,20 @@ public class UserServiceImpl implements UserService {
         // Convert DTO to entity
         User user = userMapper.toEntity(userCreateDTO);
 
-        // Store plain password for event publishing (before hashing)
-        String plainPassword = userCreateDTO.getPassword();
-
         // Hash the password before saving
         user.setPassword(passwordEncoder.encode(userCreateDTO.getPassword()));
 
-        // Save user
-        User savedUser = userRepository.save(user);
+        // Assign ROLE_USER to the new user, referencing the role by ID so no role row is selected
+        roleCatalog.findRoleId(DEFAULT_ROLE)
+                .ifPresent(roleId -> user.getRoles().add(roleRepository.getReferenceById(roleId)));
 
-        // Assign ROLE_USER to the new user
-        Role role = roleRepository.findByName("ROLE_USER").orElse(null);
-        if (role != null) {
-            UserRole userRoleMapping = UserRole.builder()
-                    .user(savedUser)
-                    .role(role)
-                    .build();
-            userRoleRepository.save(userRoleMapping);
-        }
+        // Save user together with its user_roles row
+        User savedUser = userRepository.save(user);
 
-        // Publish user created event AFTER successful database operations
-        userEventPublisher.publishUserCreated(savedUser, plainPassword);
+        // Publish user created event AFTER successful database operations, with a welcome token instead of the password
+        String welcomeToken = welcomeTokenService.issue(savedUser.getId());
+        userEventPublisher.publishUserCreated(savedUser, welcomeToken);
+        userCache.evictAfterCommit(savedUser.getId());
 
         // Create response with only id and name (timestamps will be null due to @JsonInclude(NON_NULL))
         return UserResponseDTO.builder()
@@ -109,16 +138,6 @@ public class UserServiceImpl implements UserService {
             .build();
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    @Transactional(readOnly = true)
-    public List<UserResponseDTO> getAllUsers() {
-        List<User> users = userRepository.findByIsActiveTrue();
-        return userMapper.toDTOList(users);
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -131,25 +150,117 @@ public class UserServiceImpl implements UserService {
 
         if (isAdmin) {
             // Admin can see any user
-            User user = userRepository.findByIdAndIsActiveTrue(id)
-                    .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
-            return userMapper.toDTO(user);
+            return getCachedUser(id, "User not found with ID: " + id);
         } else {
-            // User can only see their own data
+            // User can only see their own data, looked up by ID unless the token predates the ID claim
             String username = authentication.getName();
-            User user = userRepository.findByNameAndIsActiveTrue(username)
+            Optional<UUID> ownId = findAuthenticatedUserId(authentication);
+            if (ownId.isPresent()) {
+                return getCachedUser(ownId.get(), "User not found: " + username);
+            }
+            return userMapper.toDTO(findActiveUserByName(username));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getUserETag(UUID id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // Resolved like getUserById, so a user is only compared against their own data
+        Optional<UUID> userId = isAdmin(authentication) ? Optional.of(id) : findAuthenticatedUserId(authentication);
+        if (userId.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Long> version = userCache.get(userId.get())
+                .map(UserResponseDTO::getVersion)
+                .or(() -> userRepository.findActiveVersionById(userId.get()));
+        return version.map(userVersion -> UserETags.forUser(userId.get(), userVersion));
+    }
+
+    /**
+     * Returns an active user by ID, serving repeat lookups from the cache.
+     *
+     * @param id              the user ID
+     * @param notFoundMessage the message if no active user has the ID
+     * @return the user
+     */
+    private UserResponseDTO getCachedUser(UUID id, String notFoundMessage) {
+        Optional<UserResponseDTO> cachedUser = userCache.get(id);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get();
+        }
+        long cacheGeneration = userCache.generation();
+        User user = userRepository.findByIdAndIsActiveTrue(id)
+                .orElseThrow(() -> new UserNotFoundException(notFoundMessage));
+        UserResponseDTO userResponse = userMapper.toDTO(user);
+        userCache.put(userResponse, cacheGeneration);
+        return userResponse;
+    }
+
+    /**
+     * Returns the ID of the authenticated user, from the token or, for tokens issued without it, the name index.
+     *
+     * @param authentication the current authentication
+     * @return Optional containing the user ID if known without reading the user
+     */
+    private Optional<UUID> findAuthenticatedUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal && principal.userId() != null) {
+            return Optional.of(principal.userId());
+        }
+        return userNameIndex.findUserId(authentication.getName());
+    }
+
+    /**
+     * Returns the authenticated active user, by primary key whenever its ID is known.
+     *
+     * @param authentication the current authentication
+     * @return the user
+     */
+    private User findAuthenticatedUser(Authentication authentication) {
+        String username = authentication.getName();
+        Optional<UUID> userId = findAuthenticatedUserId(authentication);
+        if (userId.isPresent()) {
+            return userRepository.findByIdAndIsActiveTrue(userId.get())
                     .orElseThrow(() -> new UserNotFoundException("User not found: " + username));
-            return userMapper.toDTO(user);
         }
+        return findActiveUserByName(username);
+    }
+
+    /**
+     * Reads an active user by name and indexes its ID for the following requests.
+     *
+     * @param username the username
+     * @return the user
+     */
+    private User findActiveUserByName(String username) {
+        User user = userRepository.findByNameAndIsActiveTrue(username)
+                .orElseThrow(() -> new UserNotFoundException("User not found: " + username));
+        userNameIndex.put(username, user.getId());
+        return user;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserResponseDTO getUserDetails(UUID id) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
+        return userMapper.toDTO(user);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public UserResponseDTO updateUser(UUID id, UserCreateDTO userCreateDTO) {
+    public UserResponseDTO updateUser(UUID id, UserCreateDTO userCreateDTO, String ifMatch) {
         User existingUser = userRepository.findByIdAndIsActiveTrue(id)
             .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
+        checkIfMatch(existingUser, ifMatch);
 
         // Check if email is being updated and if it already exists for active users
         if (!userCreateDTO.getEmail().equals(existingUser.getEmail()) &&
@@ -158,6 +269,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // Update all fields
+        String previousName = existingUser.getName();
         existingUser.setName(userCreateDTO.getName());
         existingUser.setEmail(userCreateDTO.getEmail());
         existingUser.setAge(userCreateDTO.getAge());
@@ -169,8 +281,11 @@ public class UserServiceImpl implements UserService {
             existingUser.setPassword(passwordEncoder.encode(userCreateDTO.getPassword()));
         }
 
-        // Save updated user
-        User updatedUser = userRepository.save(existingUser);
+        // Save updated user, flushing so a concurrent update is detected here and the new version is returned
+        List<String> changedFields = userRepository.findDirtyFields(existingUser);
+        User updatedUser = userRepository.saveAndFlush(existingUser);
+        publishUserUpdated(updatedUser, changedFields);
+        evictAfterCommit(updatedUser, previousName);
 
         return userMapper.toDTO(updatedUser);
     }
@@ -179,10 +294,9 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      */
     @Override
-    public UserResponseDTO updateUserPartially(UUID id, UserUpdateDTO userUpdateDTO) {
+    public UserResponseDTO updateUserPartially(UUID id, UserUpdateDTO userUpdateDTO, String ifMatch) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        boolean isAdmin = authentication.getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+        boolean isAdmin = isAdmin(authentication);
 
         User existingUser;
         if (isAdmin) {
@@ -191,18 +305,166 @@ public class UserServiceImpl implements UserService {
                     .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
         } else {
             // User can only update their own data
-            String username = authentication.getName();
-            existingUser = userRepository.findByNameAndIsActiveTrue(username)
-                    .orElseThrow(() -> new UserNotFoundException("User not found: " + username));
+            existingUser = findAuthenticatedUser(authentication);
         }
+        checkIfMatch(existingUser, ifMatch);
+        String previousName = existingUser.getName();
 
         // Check if email is being updated and if it already exists for active users
-        if (userUpdateDTO.getEmail() != null &&
-            !userUpdateDTO.getEmail().equals(existingUser.getEmail()) &&
+        if (isEmailChange(existingUser, userUpdateDTO) &&
             userRepository.existsByEmailAndIsActiveTrue(userUpdateDTO.getEmail())) {
             throw new UserAlreadyExistsException("User with email " + userUpdateDTO.getEmail() + " already exists");
         }
 
+        applyChanges(existingUser, userUpdateDTO, isAdmin);
+
+        List<String> changedFields = userRepository.findDirtyFields(existingUser);
+        User updatedUser = userRepository.saveAndFlush(existingUser);
+        publishUserUpdated(updatedUser, changedFields);
+        evictAfterCommit(updatedUser, previousName);
+
+        return userMapper.toDTO(updatedUser);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkUserUpdateResultDTO updateUsersPartially(BulkUserUpdateRequestDTO request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean isAdmin = isAdmin(authentication);
+        List<BulkUserUpdateRequestDTO.UserUpdate> updates = request.getUpdates();
+
+        // Admin can update any active user, all read with one query; a user only their own data
+        Map<UUID, User> users = new HashMap<>();
+        if (isAdmin) {
+            List<UUID> ids = updates.stream().map(BulkUserUpdateRequestDTO.UserUpdate::id).toList();
+            for (User user : userRepository.findAllById(ids)) {
+                if (Boolean.TRUE.equals(user.getIsActive())) {
+                    users.put(user.getId(), user);
+                }
+            }
+        } else {
+            User ownUser = findAuthenticatedUser(authentication);
+            users.put(ownUser.getId(), ownUser);
+        }
+        // Only admins can change emails, so only their updates can conflict on them
+        Set<String> takenEmails = isAdmin ? findTakenEmails(updates, users) : Set.of();
+
+        // Apply the changes in memory, rejecting users one by one as the single update would
+        BulkUserUpdateResultDTO.Outcome[] outcomes = new BulkUserUpdateResultDTO.Outcome[updates.size()];
+        List<UserEventPublisher.UserChanges> changes = new ArrayList<>();
+        Map<UUID, String> previousNames = new HashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            BulkUserUpdateRequestDTO.UserUpdate update = updates.get(i);
+            User user = users.get(update.id());
+            if (user == null) {
+                outcomes[i] = isAdmin ? BulkUserUpdateResultDTO.Outcome.NOT_FOUND
+                        : BulkUserUpdateResultDTO.Outcome.FORBIDDEN;
+            } else if (!matchesIfMatch(user, update.ifMatch())) {
+                outcomes[i] = BulkUserUpdateResultDTO.Outcome.PRECONDITION_FAILED;
+            } else if (isAdmin && isEmailChange(user, update.changes())
+                    && !takenEmails.add(update.changes().getEmail())) {
+                outcomes[i] = BulkUserUpdateResultDTO.Outcome.EMAIL_CONFLICT;
+            } else {
+                String previousName = user.getName();
+                applyChanges(user, update.changes(), isAdmin);
+                List<String> changedFields = userRepository.findDirtyFields(user);
+                if (changedFields.isEmpty()) {
+                    outcomes[i] = BulkUserUpdateResultDTO.Outcome.UNCHANGED;
+                } else {
+                    outcomes[i] = BulkUserUpdateResultDTO.Outcome.UPDATED;
+                    changes.add(new UserEventPublisher.UserChanges(user, changedFields));
+                    previousNames.put(user.getId(), previousName);
+                }
+            }
+        }
+
+        // Write all changed users in one flush, batched by JDBC, so a concurrent update fails the request
+        // before any event is published
+        userRepository.flush();
+        if (!changes.isEmpty()) {
+            userEventPublisher.publishUsersUpdated(changes);
+            userCache.evictAllAfterCommit(previousNames.keySet());
+            for (UserEventPublisher.UserChanges change : changes) {
+                String previousName = previousNames.get(change.user().getId());
+                if (!previousName.equals(change.user().getName())) {
+                    userNameIndex.evictAfterCommit(previousName);
+                }
+            }
+        }
+
+        List<BulkUserUpdateResultDTO.UserOutcome> userOutcomes = new ArrayList<>(updates.size());
+        int unchanged = 0;
+        for (int i = 0; i < updates.size(); i++) {
+            UUID id = updates.get(i).id();
+            BulkUserUpdateResultDTO.Outcome outcome = outcomes[i];
+            boolean applied = outcome == BulkUserUpdateResultDTO.Outcome.UPDATED
+                    || outcome == BulkUserUpdateResultDTO.Outcome.UNCHANGED;
+            if (outcome == BulkUserUpdateResultDTO.Outcome.UNCHANGED) {
+                unchanged++;
+            }
+            userOutcomes.add(new BulkUserUpdateResultDTO.UserOutcome(id, outcome,
+                    applied ? userMapper.toDTO(users.get(id)) : null));
+        }
+        logger.info("Bulk update changed {} users, {} unchanged, {} rejected",
+                changes.size(), unchanged, updates.size() - changes.size() - unchanged);
+        return BulkUserUpdateResultDTO.builder()
+                .updatedCount(changes.size())
+                .unchangedCount(unchanged)
+                .rejectedCount(updates.size() - changes.size() - unchanged)
+                .outcomes(userOutcomes)
+                .build();
+    }
+
+    /**
+     * Checks whether the authenticated user is an admin.
+     *
+     * @param authentication the current authentication
+     * @return true if the user has ROLE_ADMIN
+     */
+    private boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    /**
+     * Checks whether a partial update changes the email of a user.
+     *
+     * @param user          the user as currently stored
+     * @param userUpdateDTO the changes
+     * @return true if a different email is given
+     */
+    private boolean isEmailChange(User user, UserUpdateDTO userUpdateDTO) {
+        return userUpdateDTO.getEmail() != null && !userUpdateDTO.getEmail().equals(user.getEmail());
+    }
+
+    /**
+     * Finds the new emails of a bulk update that active users already have, with one query.
+     *
+     * @param updates the requested updates
+     * @param users   the users to update by ID
+     * @return the taken emails, to which the emails claimed by the update are added
+     */
+    private Set<String> findTakenEmails(List<BulkUserUpdateRequestDTO.UserUpdate> updates, Map<UUID, User> users) {
+        Set<String> newEmails = new HashSet<>();
+        for (BulkUserUpdateRequestDTO.UserUpdate update : updates) {
+            User user = users.get(update.id());
+            if (user != null && isEmailChange(user, update.changes())) {
+                newEmails.add(update.changes().getEmail());
+            }
+        }
+        return newEmails.isEmpty() ? new HashSet<>() : new HashSet<>(userRepository.findActiveEmails(newEmails));
+    }
+
+    /**
+     * Applies the non-null fields of a partial update to a user.
+     *
+     * @param existingUser  the user to update
+     * @param userUpdateDTO the changes
+     * @param isAdmin       whether all fields may be changed, otherwise only phone and address
+     */
+    private void applyChanges(User existingUser, UserUpdateDTO userUpdateDTO, boolean isAdmin) {
         // Update only non-null fields manually
         if (isAdmin) {
             // Admin can update all fields
@@ -236,10 +498,56 @@ public class UserServiceImpl implements UserService {
                 existingUser.setAddress(userUpdateDTO.getAddress());
             }
         }
+    }
 
-        User updatedUser = userRepository.save(existingUser);
+    /**
+     * Rejects a conditional update of a user that changed since the client read it.
+     * The version checked here is also the one the update is conditioned on when it is flushed,
+     * so a write committed in between still fails with an optimistic locking conflict.
+     *
+     * @param user    the user as currently stored
+     * @param ifMatch the If-Match header of the request, null if unconditional
+     */
+    private void checkIfMatch(User user, String ifMatch) {
+        if (!matchesIfMatch(user, ifMatch)) {
+            throw new PreconditionFailedException("User " + user.getId() + " has been modified since it was read");
+        }
+    }
 
-        return userMapper.toDTO(updatedUser);
+    /**
+     * Checks a user against the If-Match header of a conditional update.
+     *
+     * @param user    the user as currently stored
+     * @param ifMatch the If-Match header, null if unconditional
+     * @return true if the update may be applied
+     */
+    private boolean matchesIfMatch(User user, String ifMatch) {
+        return UserETags.matches(ifMatch, UserETags.forUser(user.getId(), user.getVersion()));
+    }
+
+    /**
+     * Evicts an updated user from the cache and, if it was renamed, its previous name from the index.
+     *
+     * @param user         the updated user
+     * @param previousName the name before the update
+     */
+    private void evictAfterCommit(User user, String previousName) {
+        userCache.evictAfterCommit(user.getId());
+        if (!previousName.equals(user.getName())) {
+            userNameIndex.evictAfterCommit(previousName);
+        }
+    }
+
+    /**
+     * Publishes the changes of an update, unless it changed nothing.
+     *
+     * @param user          the updated user
+     * @param changedFields names of the changed user properties
+     */
+    private void publishUserUpdated(User user, List<String> changedFields) {
+        if (!changedFields.isEmpty()) {
+            userEventPublisher.publishUserUpdated(user, changedFields);
+        }
     }
 
     /**
@@ -247,26 +555,33 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public void deleteUser(UUID id) {
-        // Check if active user exists and get user details for event
-        User userToDelete = userRepository.findByIdAndIsActiveTrue(id)
+        // Soft delete in one statement: no row means no active user, the returned row has the event details
+        UserRepositoryCustom.ChangedUser deletedUser = userRepository.softDeleteReturning(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
 
-        // Soft delete: set isActive to false
-        userRepository.softDeleteById(id);
-
         // Publish user deleted event AFTER successful database operations
-        userEventPublisher.publishUserDeleted(id, userToDelete.getEmail(), userToDelete.getName());
+        userEventPublisher.publishUserDeleted(id, deletedUser.email(), deletedUser.name());
+        userCache.evictAfterCommit(id);
+        userNameIndex.evictAfterCommit(deletedUser.name());
     }
 
     /**
      * {@inheritDoc}
+     * Workers call this service directly rather than through its transactional proxy, so every row runs in
+     * a transaction of its own: its user, welcome token and outbox event commit or roll back together.
+     * The job itself holds no transaction, so neither does a row the calling thread happens to run.
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<UserResponseDTO> createBulkUsers(List<UserCreateDTO> userCreateDTOs) {
-        // Create Fork/Join task
-        BulkUserCreationTask task = new BulkUserCreationTask(userCreateDTOs, 0, userCreateDTOs.size(),this);
+        if (userCreateDTOs.isEmpty()) {
+            return List.of();
+        }
+        // Execute on the dedicated bulk pool
+        return bulkUserCreationExecutor.createAll(userCreateDTOs, this::createUserInOwnTransaction);
+    }
 
-        // Execute using common pool
-        return ForkJoinPool.commonPool().invoke(task);
+    private UserResponseDTO createUserInOwnTransaction(UserCreateDTO userCreateDTO) {
+        return rowTransactionTemplate.execute(status -> createUser(userCreateDTO));
     }
 }
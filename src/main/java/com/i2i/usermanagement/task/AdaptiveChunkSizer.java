@@ -0,0 +1,144 @@
+package com.i2i.usermanagement.task;
+
+import io.micrometer.core.instrument.DistributionSummary;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chunk sizer of one bulk job that derives its leaf size from measured per-row cost.
+ * Each leaf should run for roughly the configured target duration, jobs are always split
+ * into enough leaves to keep every usable worker busy (bounded by cores and connection pool size),
+ * and the target duration is tuned by hill climbing on the observed throughput of long jobs.
+ * <p>
+ * The state is the job's own, so jobs running at the same time do not steer each other. A job starts
+ * from what earlier jobs {@link #learned() learned}, as handed over by the {@link BulkUserCreationExecutor}.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class AdaptiveChunkSizer implements ChunkSizer {
+
+    private static final double COST_SMOOTHING = 0.2;
+    private static final double MIN_TARGET_FACTOR = 0.25;
+    private static final double MAX_TARGET_FACTOR = 4.0;
+    private static final double STEP = 1.25;
+    private static final int LEAVES_PER_WORKER = 2;
+    private static final long THROUGHPUT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkNanos;
+    private final int parallelism;
+    private final DistributionSummary chunkRows;
+
+    // Smoothed wall-clock cost of one row, NaN until the first leaf completes
+    private double rowCostNanos;
+    private double targetFactor;
+    private boolean growing = true;
+    private volatile int chunkSize;
+
+    // Throughput window used for the hill-climbing step
+    private long windowStartNanos = System.nanoTime();
+    private long windowRows;
+    private double lastThroughput;
+
+    /**
+     * Creates the chunk sizer of a new job.
+     *
+     * @param minChunkSize     smallest leaf size
+     * @param maxChunkSize     largest leaf size
+     * @param targetChunkNanos wall-clock time a single leaf should take
+     * @param parallelism      number of workers that can make progress at the same time
+     * @param learned          what earlier jobs learned, {@link Learned#NONE} for the first job
+     * @param chunkRows        the summary the rows of every leaf are recorded to
+     */
+    public AdaptiveChunkSizer(int minChunkSize, int maxChunkSize, long targetChunkNanos, int parallelism,
+                              Learned learned, DistributionSummary chunkRows) {
+        this.minChunkSize = Math.max(1, minChunkSize);
+        this.maxChunkSize = Math.max(this.minChunkSize, maxChunkSize);
+        this.targetChunkNanos = targetChunkNanos;
+        this.parallelism = Math.max(1, parallelism);
+        this.chunkRows = chunkRows;
+        this.rowCostNanos = learned.rowCostNanos();
+        this.targetFactor = learned.targetFactor();
+        this.chunkSize = Double.isNaN(rowCostNanos) ? this.minChunkSize : sizeForCost();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Caps the adaptive size so the job still yields a few leaves per usable worker.
+     */
+    @Override
+    public int chunkSizeFor(int jobRows) {
+        int perWorker = (int) Math.ceil((double) jobRows / (parallelism * LEAVES_PER_WORKER));
+        return Math.max(minChunkSize, Math.min(chunkSize, perWorker));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void recordChunk(int rows, long elapsedNanos) {
+        if (rows <= 0) {
+            return;
+        }
+        chunkRows.record(rows);
+
+        double cost = (double) elapsedNanos / rows;
+        rowCostNanos = Double.isNaN(rowCostNanos) ? cost : rowCostNanos + COST_SMOOTHING * (cost - rowCostNanos);
+
+        windowRows += rows;
+        long now = System.nanoTime();
+        long windowNanos = now - windowStartNanos;
+        if (windowNanos >= THROUGHPUT_WINDOW_NANOS) {
+            adjustTargetFactor(windowRows * 1e9 / windowNanos);
+            windowStartNanos = now;
+            windowRows = 0;
+        }
+
+        chunkSize = sizeForCost();
+    }
+
+    /**
+     * Returns what this job has learned so far, for the jobs that start after it.
+     *
+     * @return the smoothed row cost, leaf duration factor and leaf size
+     */
+    public synchronized Learned learned() {
+        return new Learned(rowCostNanos, targetFactor, chunkSize);
+    }
+
+    /**
+     * Keeps moving the leaf duration in the same direction while throughput improves
+     * and reverses direction once it drops.
+     */
+    private void adjustTargetFactor(double throughput) {
+        if (lastThroughput > 0 && throughput < lastThroughput) {
+            growing = !growing;
+        }
+        lastThroughput = throughput;
+        double factor = growing ? targetFactor * STEP : targetFactor / STEP;
+        targetFactor = Math.max(MIN_TARGET_FACTOR, Math.min(MAX_TARGET_FACTOR, factor));
+    }
+
+    private int sizeForCost() {
+        long size = Math.round(targetChunkNanos * targetFactor / rowCostNanos);
+        return (int) Math.max(minChunkSize, Math.min(maxChunkSize, size));
+    }
+
+    /**
+     * What a job learned about the cost of its rows.
+     *
+     * @param rowCostNanos smoothed wall-clock cost of one row, NaN if unknown
+     * @param targetFactor factor applied to the target leaf duration by hill climbing
+     * @param chunkSize    the leaf size the job ended with
+     */
+    public record Learned(double rowCostNanos, double targetFactor, int chunkSize) {
+
+        /**
+         * Nothing learned yet.
+         */
+        public static final Learned NONE = new Learned(Double.NaN, 1.0, 0);
+    }
+}
@@ -0,0 +1,138 @@
+package com.i2i.usermanagement.task;
+
+import com.i2i.usermanagement.dto.UserCreateDTO;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs bulk user creation jobs on a dedicated fork/join pool.
+ * The pool has one worker per row that can make progress at the same time, bounded by cores
+ * and connection pool size, so leaves never queue for a connection and bulk jobs do not compete
+ * with other users of the common pool.
+ * <p>
+ * Every job gets its own {@link AdaptiveChunkSizer}, seeded with what the last finished job learned,
+ * so concurrent jobs and imports do not steer each other's leaf sizes.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class BulkUserCreationExecutor implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkUserCreationExecutor.class);
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkNanos;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+    private final DistributionSummary chunkRows;
+
+    private volatile AdaptiveChunkSizer.Learned learned = AdaptiveChunkSizer.Learned.NONE;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param meterRegistry     the registry the chosen sizes are published to
+     * @param dataSource        the data source, used to read the connection pool capacity
+     * @param minChunkSize      smallest leaf size
+     * @param maxChunkSize      largest leaf size
+     * @param targetChunkMillis wall-clock time a single leaf should take
+     */
+    public BulkUserCreationExecutor(MeterRegistry meterRegistry, DataSource dataSource,
+                                    @Value("${user.bulk.chunk.min-size:5}") int minChunkSize,
+                                    @Value("${user.bulk.chunk.max-size:500}") int maxChunkSize,
+                                    @Value("${user.bulk.chunk.target-millis:200}") long targetChunkMillis) {
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetChunkNanos = TimeUnit.MILLISECONDS.toNanos(targetChunkMillis);
+        this.parallelism = resolveParallelism(dataSource);
+        this.pool = new ForkJoinPool(parallelism);
+        logger.info("Bulk user creation runs on {} workers", parallelism);
+
+        Gauge.builder("users.bulk.chunk.size", this, executor -> executor.learned.chunkSize())
+                .description("Leaf size the last bulk user creation job ended with")
+                .register(meterRegistry);
+        Gauge.builder("users.bulk.row.cost", this, executor -> executor.currentRowCostMillis())
+                .description("Smoothed wall-clock cost of creating one user")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.chunkRows = DistributionSummary.builder("users.bulk.chunk.rows")
+                .description("Rows processed per bulk creation leaf")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates all users of one job on the bulk pool.
+     *
+     * @param userDTOs    the users to create
+     * @param userCreator creates one user, rows it fails for are skipped
+     * @return the created users
+     */
+    public List<UserResponseDTO> createAll(List<UserCreateDTO> userDTOs,
+                                           Function<UserCreateDTO, UserResponseDTO> userCreator) {
+        AdaptiveChunkSizer chunkSizer = newJobSizer();
+        try {
+            return pool.invoke(new BulkUserCreationTask(userDTOs, 0, userDTOs.size(), userCreator, chunkSizer));
+        } finally {
+            AdaptiveChunkSizer.Learned jobLearned = chunkSizer.learned();
+            if (!Double.isNaN(jobLearned.rowCostNanos())) {
+                learned = jobLearned;
+            }
+        }
+    }
+
+    /**
+     * Creates the chunk sizer of a new job, seeded with what the last finished job learned.
+     *
+     * @return the chunk sizer
+     */
+    public AdaptiveChunkSizer newJobSizer() {
+        return new AdaptiveChunkSizer(minChunkSize, maxChunkSize, targetChunkNanos, parallelism, learned, chunkRows);
+    }
+
+    /**
+     * Returns the number of workers that can make progress at the same time.
+     *
+     * @return min(available processors, connection pool size)
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Shuts the bulk pool down with the application context.
+     */
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    private double currentRowCostMillis() {
+        double rowCostNanos = learned.rowCostNanos();
+        return Double.isNaN(rowCostNanos) ? 0 : rowCostNanos / 1_000_000;
+    }
+
+    private static int resolveParallelism(DataSource dataSource) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            return Math.max(1, Math.min(cores, hikariDataSource.getMaximumPoolSize()));
+        }
+        return cores;
+    }
+}
@@ -2,17 +2,20 @@ package com.i2i.usermanagement.task;
 
 import com.i2i.usermanagement.dto.UserCreateDTO;
 import com.i2i.usermanagement.dto.UserResponseDTO;
-import com.i2i.usermanagement.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
 
 /**
  * Fork/Join task for bulk user creation.
  * Splits user creation work into smaller chunks for parallel processing.
+ * The chunk size is decided by a {@link ChunkSizer} on every split, so long jobs
+ * pick up size adjustments made while earlier chunks were running. Rows are created one by one through
+ * the given function, which decides the transaction each row runs in.
  *
  * @author Agnel Ruban
  * @version 1.0
@@ -21,33 +24,37 @@ import java.util.concurrent.RecursiveTask;
 public class BulkUserCreationTask extends RecursiveTask<List<UserResponseDTO>> {
 
     private static final Logger logger = LoggerFactory.getLogger(BulkUserCreationTask.class);
-    private static final int THRESHOLD = 5;   //Process 5 users at a time
     private final List<UserCreateDTO> userDTOs;
     private final int start;
     private final int end;
-    private final UserService userService;
+    private final Function<UserCreateDTO, UserResponseDTO> userCreator;
+    private final ChunkSizer chunkSizer;
 
-    public BulkUserCreationTask(List<UserCreateDTO> userDTOs, int start, int end, UserService userService) {
+    public BulkUserCreationTask(List<UserCreateDTO> userDTOs, int start, int end,
+                                Function<UserCreateDTO, UserResponseDTO> userCreator, ChunkSizer chunkSizer) {
         this.userDTOs = userDTOs;
         this.start = start;
         this.end = end;
-        this.userService = userService;
+        this.userCreator = userCreator;
+        this.chunkSizer = chunkSizer;
     }
 
     @Override
     protected List<UserResponseDTO> compute() {
         // Base case: if chunk is small enough, process directly
-        if (end - start <= THRESHOLD) {
+        if (end - start <= chunkSizer.chunkSizeFor(userDTOs.size())) {
+            long startedAt = System.nanoTime();
             List<UserResponseDTO> results = new ArrayList<>();
             for (int i = start; i < end; i++) {
                 try {
-                    UserResponseDTO user = userService.createUser(userDTOs.get(i));
+                    UserResponseDTO user = userCreator.apply(userDTOs.get(i));
                     results.add(user);
                 } catch (Exception exception) {
                     // Log error but continue with other users
                     logger.error("Error creating user at index {}: {}", i, exception.getMessage());
                 }
             }
+            chunkSizer.recordChunk(end - start, System.nanoTime() - startedAt);
             return results;
         }
 
@@ -58,8 +65,8 @@ public class BulkUserCreationTask extends RecursiveTask<List<UserResponseDTO>> {
 
     private List<UserResponseDTO> getUserResponseDTOS() {
         int mid = (start + end) / 2;
-        BulkUserCreationTask leftTask = new BulkUserCreationTask(userDTOs, start, mid, userService);
-        BulkUserCreationTask rightTask = new BulkUserCreationTask(userDTOs, mid, end, userService);
+        BulkUserCreationTask leftTask = new BulkUserCreationTask(userDTOs, start, mid, userCreator, chunkSizer);
+        BulkUserCreationTask rightTask = new BulkUserCreationTask(userDTOs, mid, end, userCreator, chunkSizer);
 
         // Fork: start the left task asynchronously
         leftTask.fork();
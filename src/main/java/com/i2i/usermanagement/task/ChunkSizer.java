@@ -0,0 +1,28 @@
+package com.i2i.usermanagement.task;
+
+/**
+ * Strategy deciding how many rows a leaf of {@link BulkUserCreationTask} processes.
+ * Implementations receive the measured cost of every completed leaf so they can adapt.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public interface ChunkSizer {
+
+    /**
+     * Returns the maximum number of rows a leaf should process directly.
+     *
+     * @param jobRows total number of rows in the bulk job
+     * @return chunk size, at least 1
+     */
+    int chunkSizeFor(int jobRows);
+
+    /**
+     * Records the outcome of a processed leaf.
+     *
+     * @param rows         number of rows processed by the leaf
+     * @param elapsedNanos wall-clock time spent on the leaf
+     */
+    void recordChunk(int rows, long elapsedNanos);
+}
@@ -0,0 +1,198 @@
+package com.i2i.usermanagement.task;
+
+import com.i2i.usermanagement.dto.UserEventDTO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds user events per user for a fixed window and merges them before they are published.
+ * A user created and deleted within the window produces no events at all, and an event identical
+ * to the one before it is dropped. Windows start with the first event of a user, so steady churn
+ * on one user cannot hold its events back indefinitely.
+ * <p>
+ * Deadlines are kept in a hashed timer wheel: adding a user and expiring due users cost O(1) per
+ * user regardless of how many are pending, instead of one scheduled task per user.
+ * Not thread-safe; owned by the relay's publisher thread.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class EventCoalescer {
+
+    private static final String USER_CREATED = "USER_CREATED";
+    private static final String USER_DELETED = "USER_DELETED";
+
+    private final long tickNanos;
+    private final long windowTicks;
+    private final int wheelMask;
+    private final ArrayDeque<Window>[] wheel;
+    private final Map<UUID, Window> windowsByUser = new HashMap<>();
+    private final long startNanos;
+    private long currentTick;
+
+    /**
+     * Creates a coalescer.
+     *
+     * @param windowMillis how long events of a user are held
+     * @param tickMillis   resolution of the timer wheel
+     * @param wheelSize    number of wheel buckets, rounded up to a power of two
+     * @param nowNanos     current {@link System#nanoTime()}
+     */
+    @SuppressWarnings("unchecked")
+    public EventCoalescer(long windowMillis, long tickMillis, int wheelSize, long nowNanos) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        this.windowTicks = Math.max(1, (TimeUnit.MILLISECONDS.toNanos(windowMillis) + tickNanos - 1) / tickNanos);
+        int buckets = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.wheelMask = buckets - 1;
+        this.wheel = new ArrayDeque[buckets];
+        for (int i = 0; i < buckets; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.startNanos = nowNanos;
+    }
+
+    /**
+     * Adds an event to the window of its user, opening a window if the user has none.
+     *
+     * @param pendingEvent the event
+     * @param nowNanos     current {@link System#nanoTime()}
+     * @param result       collects events cancelled by this one
+     */
+    public void add(PendingEvent pendingEvent, long nowNanos, CoalescedEvents result) {
+        UUID userId = pendingEvent.event().getUserId();
+        Window window = windowsByUser.get(userId);
+        if (window == null) {
+            long deadline = tickAt(nowNanos) + windowTicks;
+            window = new Window(userId, deadline);
+            windowsByUser.put(userId, window);
+            wheel[(int) (deadline & wheelMask)].add(window);
+        }
+        window.merge(pendingEvent, result);
+        if (window.events.isEmpty()) {
+            // Cancelled; the emptied window stays on the wheel until its deadline and is skipped there
+            windowsByUser.remove(userId);
+        }
+    }
+
+    /**
+     * Expires all windows whose deadline has passed.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @param result   collects the merged events of expired windows, in window order
+     */
+    public void advance(long nowNanos, CoalescedEvents result) {
+        long targetTick = tickAt(nowNanos);
+        // Never walk the wheel more than once per call, older buckets would be visited again
+        long firstTick = Math.max(currentTick + 1, targetTick - wheelMask);
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            Iterator<Window> bucket = wheel[(int) (tick & wheelMask)].iterator();
+            while (bucket.hasNext()) {
+                Window window = bucket.next();
+                if (window.deadline <= targetTick) {
+                    bucket.remove();
+                    windowsByUser.remove(window.userId, window);
+                    result.published.addAll(window.events);
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+    }
+
+    /**
+     * Drops all held events. Their outbox rows are still in place.
+     */
+    public void clear() {
+        windowsByUser.clear();
+        for (ArrayDeque<Window> bucket : wheel) {
+            bucket.clear();
+        }
+    }
+
+    /**
+     * Returns the number of users with an open window.
+     *
+     * @return number of open windows
+     */
+    public int pendingUsers() {
+        return windowsByUser.size();
+    }
+
+    private long tickAt(long nowNanos) {
+        return (nowNanos - startNanos) / tickNanos;
+    }
+
+    /**
+     * Events held for one user.
+     */
+    private static final class Window {
+
+        private final UUID userId;
+        private final long deadline;
+        private final List<PendingEvent> events = new ArrayList<>(2);
+
+        private Window(UUID userId, long deadline) {
+            this.userId = userId;
+            this.deadline = deadline;
+        }
+
+        private void merge(PendingEvent next, CoalescedEvents result) {
+            String nextType = next.event().getEventType();
+            if (USER_DELETED.equals(nextType)
+                    && events.stream().anyMatch(held -> USER_CREATED.equals(held.event().getEventType()))) {
+                // Nobody has heard of this user yet, so nobody needs to hear it is gone
+                result.discarded.addAll(events);
+                result.discarded.add(next);
+                events.clear();
+                return;
+            }
+            if (!events.isEmpty() && sameContent(events.get(events.size() - 1).event(), next.event())) {
+                result.discarded.add(next);
+                return;
+            }
+            events.add(next);
+        }
+
+        private static boolean sameContent(UserEventDTO previous, UserEventDTO next) {
+            return Objects.equals(previous.getEventType(), next.getEventType())
+                    && Objects.equals(previous.getUserName(), next.getUserName())
+                    && Objects.equals(previous.getUserEmail(), next.getUserEmail())
+                    && Objects.equals(previous.getUserAge(), next.getUserAge())
+                    && Objects.equals(previous.getUserPhoneNumber(), next.getUserPhoneNumber())
+                    && Objects.equals(previous.getUserAddress(), next.getUserAddress())
+                    && Objects.equals(previous.getIsActive(), next.getIsActive())
+                    && Objects.equals(previous.getEventData(), next.getEventData())
+                    && Objects.equals(previous.getChangedFields(), next.getChangedFields());
+        }
+    }
+
+    /**
+     * Outcome of a coalescing step: events to publish and events merged away.
+     * Both lists must have their outbox rows deleted once the published ones are confirmed.
+     */
+    public static final class CoalescedEvents {
+
+        private final List<PendingEvent> published = new ArrayList<>();
+        private final List<PendingEvent> discarded = new ArrayList<>();
+
+        public List<PendingEvent> getPublished() {
+            return published;
+        }
+
+        public List<PendingEvent> getDiscarded() {
+            return discarded;
+        }
+
+        public boolean isEmpty() {
+            return published.isEmpty() && discarded.isEmpty();
+        }
+    }
+}
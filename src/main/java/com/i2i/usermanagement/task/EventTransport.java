@@ -0,0 +1,42 @@
+package com.i2i.usermanagement.task;
+
+import org.springframework.amqp.core.Message;
+
+import java.util.List;
+
+/**
+ * Transport the outbox relay hands encoded user events to.
+ * Selected with {@code user.events.transport}: {@code rabbitmq} (default) publishes to the broker,
+ * {@code in-memory} delivers in-process for tests, benchmarks and local runs without a broker.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public interface EventTransport {
+
+    /**
+     * Sends the messages in order and waits until the transport has accepted all of them.
+     *
+     * @param envelopes     the messages to send with their routing keys
+     * @param timeoutMillis how long to wait for the transport to confirm the batch
+     * @return true if every message was confirmed in time
+     */
+    boolean sendConfirmed(List<Envelope> envelopes, long timeoutMillis);
+
+    /**
+     * Checks that the transport can accept messages, without sending any.
+     *
+     * @throws org.springframework.amqp.AmqpException if the transport is unreachable
+     */
+    void checkConnection();
+
+    /**
+     * An encoded event and the routing key it is published with.
+     *
+     * @param routingKey the routing key within the user exchange
+     * @param message    the encoded event
+     */
+    record Envelope(String routingKey, Message message) {
+    }
+}
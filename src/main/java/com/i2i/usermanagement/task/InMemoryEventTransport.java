@@ -0,0 +1,83 @@
+package com.i2i.usermanagement.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for the broker. Every message is delivered synchronously to all subscribers
+ * on the publisher thread before the batch is confirmed, so a subscriber observes events in relay order.
+ * Like an exchange without bindings, messages are dropped when nobody subscribed.
+ * <p>
+ * Enabled with {@code user.events.transport=in-memory}, for pipeline tests and benchmarks without RabbitMQ.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+@ConditionalOnProperty(name = "user.events.transport", havingValue = "in-memory")
+public class InMemoryEventTransport implements EventTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryEventTransport.class);
+
+    private final List<Consumer<Envelope>> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong sentCount = new AtomicLong();
+
+    /**
+     * Registers a subscriber receiving every message sent from now on.
+     *
+     * @param subscriber the callback invoked with each message
+     */
+    public void subscribe(Consumer<Envelope> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Removes a subscriber registered earlier.
+     *
+     * @param subscriber the callback to remove
+     */
+    public void unsubscribe(Consumer<Envelope> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Gets the number of messages sent through this transport.
+     *
+     * @return the sent message count
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * Delivers the messages to the subscribers in order. A failing subscriber is logged and does not
+     * affect the confirm, as a consumer error does not nack a publish on a real broker.
+     */
+    @Override
+    public boolean sendConfirmed(List<Envelope> envelopes, long timeoutMillis) {
+        for (Envelope envelope : envelopes) {
+            for (Consumer<Envelope> subscriber : subscribers) {
+                try {
+                    subscriber.accept(envelope);
+                } catch (RuntimeException exception) {
+                    logger.warn("Subscriber failed on user event {}: {}", envelope.routingKey(), exception.getMessage());
+                }
+            }
+            sentCount.incrementAndGet();
+        }
+        return true;
+    }
+
+    @Override
+    public void checkConnection() {
+        // Always reachable
+    }
+}
@@ -0,0 +1,447 @@
+package com.i2i.usermanagement.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.usermanagement.config.UserEventContentTypes;
+import com.i2i.usermanagement.dto.UserEventDTO;
+import com.i2i.usermanagement.entity.OutboxDeadLetter;
+import com.i2i.usermanagement.entity.OutboxEvent;
+import com.i2i.usermanagement.repository.OutboxDeadLetterRepository;
+import com.i2i.usermanagement.repository.OutboxEventRepository;
+import com.i2i.usermanagement.util.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relay that forwards the user event outbox to the {@link EventTransport}, RabbitMQ unless configured
+ * otherwise, on a dedicated publisher thread.
+ * <p>
+ * Committed events are handed over through a bounded in-memory buffer, so the common case needs no
+ * outbox polling. The publisher thread drains the buffer in batches, claims their rows with row locks,
+ * sends each batch on a single channel, waits for the broker confirms and only then deletes the rows. Request threads never block:
+ * when the buffer is full, or a batch is not confirmed, the relay switches to draining the outbox table
+ * oldest first until it has caught up, then returns to the buffer. The table is also drained on startup,
+ * so events survive restarts and are delivered in commit order, at least once. With several instances,
+ * rows locked by one are skipped by the others (SKIP LOCKED) so each event is published by a single
+ * instance; events are then only ordered within the batches of one instance, and an instance stopping
+ * between the confirm and the commit leads to a redelivery, so consumers must be idempotent. Broker outages therefore
+ * never reach user writes: events accumulate in the outbox table and are replayed in order once the broker
+ * accepts connections again. An outbox row that cannot be read is moved to a dead-letter table rather than
+ * retried, so it does not hold back the events after it.
+ * <p>
+ * Optionally, buffered events are held per user for a short window by an {@link EventCoalescer},
+ * which merges them before publishing. Events are then in commit order per user rather than globally.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_BACKOFF_SHIFT = 16;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final EventTransport eventTransport;
+    private final MessageConverter messageConverter;
+    private final UserEventContentTypes contentTypes;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingEvent> buffer;
+    private final int batchSize;
+    private final long pollMillis;
+    private final long confirmTimeoutMillis;
+    private final long maxBackoffMillis;
+    private final long coalesceTickMillis;
+
+    private final Timer confirmLatency;
+    private final Counter publishedEvents;
+    private final Counter nackedBatches;
+    private final Counter bufferOverflows;
+    private final Counter coalescedEvents;
+    private final Counter deadLetteredEvents;
+
+    // Catching up from the outbox table, set on startup, overflow and failures
+    private volatile boolean drainingOutbox = true;
+    private volatile boolean running;
+    private Thread publisherThread;
+
+    // Only touched by the publisher thread
+    private final Set<UUID> relayedFromOutbox = new HashSet<>();
+    private final EventCoalescer coalescer;
+    private int consecutiveFailures;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param outboxEventRepository the outbox repository
+     * @param outboxDeadLetterRepository the repository unreadable outbox events are moved to
+     * @param eventTransport        the transport events are published to
+     * @param messageConverter      the converter encoding events for the broker
+     * @param contentTypes          the content type of each routing key
+     * @param objectMapper          the object mapper used to read stored events
+     * @param transactionManager    the transaction manager used for outbox reads and deletes
+     * @param meterRegistry         the registry the relay metrics are published to
+     * @param bufferCapacity        number of committed events the in-memory buffer holds
+     * @param batchSize             maximum events published per confirm round trip
+     * @param pollMillis            how long the publisher waits for new events before checking again
+     * @param confirmTimeoutMillis  how long to wait for broker confirms of a batch
+     * @param maxBackoffMillis      upper bound of the retry delay while the broker is failing
+     * @param coalesceWindowMillis  how long events of a user are held for merging, 0 to publish them directly
+     * @param coalesceTickMillis    resolution of the coalescing timer wheel
+     * @param coalesceWheelSize     number of buckets of the coalescing timer wheel
+     */
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxDeadLetterRepository outboxDeadLetterRepository,
+                       EventTransport eventTransport,
+                       MessageConverter messageConverter,
+                       UserEventContentTypes contentTypes,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${user.outbox.relay.buffer-capacity:4096}") int bufferCapacity,
+                       @Value("${user.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${user.outbox.relay.poll-millis:500}") long pollMillis,
+                       @Value("${user.outbox.relay.confirm-timeout-millis:5000}") long confirmTimeoutMillis,
+                       @Value("${user.outbox.relay.max-backoff-millis:30000}") long maxBackoffMillis,
+                       @Value("${user.events.coalesce.window-millis:0}") long coalesceWindowMillis,
+                       @Value("${user.events.coalesce.tick-millis:100}") long coalesceTickMillis,
+                       @Value("${user.events.coalesce.wheel-size:512}") int coalesceWheelSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDeadLetterRepository = outboxDeadLetterRepository;
+        this.eventTransport = eventTransport;
+        this.messageConverter = messageConverter;
+        this.contentTypes = contentTypes;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.pollMillis = pollMillis;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.coalesceTickMillis = coalesceTickMillis;
+        this.coalescer = coalesceWindowMillis > 0
+                ? new EventCoalescer(coalesceWindowMillis, coalesceTickMillis, coalesceWheelSize, System.nanoTime())
+                : null;
+
+        Gauge.builder("users.events.buffer.depth", buffer, BlockingQueue::size)
+                .description("Committed user events waiting in the publisher buffer")
+                .register(meterRegistry);
+        this.confirmLatency = Timer.builder("users.events.confirm.latency")
+                .description("Time from publishing a batch of user events until the broker confirmed it")
+                .register(meterRegistry);
+        this.publishedEvents = Counter.builder("users.events.published")
+                .description("User events confirmed by the broker")
+                .register(meterRegistry);
+        this.nackedBatches = Counter.builder("users.events.nacks")
+                .description("Batches of user events the broker did not acknowledge")
+                .register(meterRegistry);
+        this.bufferOverflows = Counter.builder("users.events.buffer.overflows")
+                .description("User events left to the outbox table because the publisher buffer was full")
+                .register(meterRegistry);
+        this.coalescedEvents = Counter.builder("users.events.coalesced")
+                .description("User events merged away before publishing")
+                .register(meterRegistry);
+        this.deadLetteredEvents = Counter.builder("users.events.dead-lettered")
+                .description("Unreadable user events moved from the outbox to the dead-letter table")
+                .register(meterRegistry);
+        if (coalescer != null) {
+            Gauge.builder("users.events.coalescer.pending", coalescer, EventCoalescer::pendingUsers)
+                    .description("Users whose events are held in the coalescing window")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Hands a committed outbox event to the publisher thread.
+     * Never blocks; if the buffer is full the event is picked up from the outbox table instead.
+     *
+     * @param outboxEvent the committed outbox event
+     * @param event       the event stored in it
+     */
+    public void enqueue(OutboxEvent outboxEvent, UserEventDTO event) {
+        if (drainingOutbox) {
+            return;
+        }
+        if (!buffer.offer(new PendingEvent(outboxEvent, event))) {
+            bufferOverflows.increment();
+            drainingOutbox = true;
+        }
+    }
+
+    /**
+     * Runs one step of the publisher loop: either one outbox batch or one buffered batch.
+     * Failures switch the relay to the outbox table and are retried with exponential backoff.
+     *
+     * @throws InterruptedException if the publisher thread is interrupted while waiting
+     */
+    public void relayOnce() throws InterruptedException {
+        try {
+            if (consecutiveFailures > 0) {
+                probeBroker();
+            }
+            if (drainingOutbox) {
+                relayFromOutbox();
+            } else {
+                relayFromBuffer();
+            }
+            consecutiveFailures = 0;
+        } catch (RuntimeException exception) {
+            drainingOutbox = true;
+            consecutiveFailures++;
+            long backoffMillis = Math.min(maxBackoffMillis,
+                    pollMillis << Math.min(consecutiveFailures, MAX_BACKOFF_SHIFT));
+            logger.warn("Outbox relay failed {} time(s) in a row, retrying in {} ms: {}",
+                    consecutiveFailures, backoffMillis, exception.getMessage());
+            TimeUnit.MILLISECONDS.sleep(backoffMillis);
+        }
+    }
+
+    /**
+     * Checks that the broker accepts connections before retrying after a failure.
+     * While the broker is down, retries then fail here instead of inside an outbox transaction,
+     * where they would hold row locks and a pooled database connection for the whole connect timeout.
+     *
+     * @throws AmqpException if no connection can be established
+     */
+    private void probeBroker() {
+        eventTransport.checkConnection();
+    }
+
+    /**
+     * Publishes the oldest outbox rows. Buffered and held events are dropped meanwhile, they are still in the table.
+     * Once a batch comes back short the table has caught up and new events go through the buffer again.
+     * Events rejected while switching over have ids older than the watermark taken after the switch,
+     * so they are sent from the table before anything buffered.
+     */
+    private void relayFromOutbox() throws InterruptedException {
+        buffer.clear();
+        relayedFromOutbox.clear();
+        if (coalescer != null) {
+            coalescer.clear();
+        }
+
+        int relayed = transactionTemplate.execute(status -> relayOutboxBatch(UuidV7.next()));
+        if (relayed < batchSize) {
+            drainingOutbox = false;
+            UUID watermark = UuidV7.next();
+            while (transactionTemplate.execute(status -> relayOutboxBatch(watermark)) == batchSize) {
+                logger.debug("Relaying user events committed while leaving outbox mode");
+            }
+            if (relayed == 0) {
+                TimeUnit.MILLISECONDS.sleep(pollMillis);
+            }
+        }
+    }
+
+    /**
+     * Locks the oldest pending events created before the given id, publishes them
+     * and deletes them in the same transaction. Events that cannot be read are moved to the
+     * dead-letter table instead, as retrying them would block every later event.
+     *
+     * @param before exclusive upper bound of the relayed ids
+     * @return number of events relayed or dead-lettered
+     */
+    private int relayOutboxBatch(UUID before) {
+        List<OutboxEvent> events = outboxEventRepository.findOldestForUpdate(before, PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        List<PendingEvent> readable = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            readEvent(event).ifPresent(readable::add);
+        }
+        if (!readable.isEmpty()) {
+            publishConfirmed(readable);
+        }
+        outboxEventRepository.deleteAllInBatch(events);
+        events.forEach(event -> relayedFromOutbox.add(event.getId()));
+        return events.size();
+    }
+
+    /**
+     * Waits for buffered events and publishes up to one batch of them, or hands them to the coalescer
+     * and publishes the events whose window has closed.
+     */
+    private void relayFromBuffer() throws InterruptedException {
+        long waitMillis = coalescer == null ? pollMillis : Math.min(pollMillis, coalesceTickMillis);
+        PendingEvent first = buffer.poll(waitMillis, TimeUnit.MILLISECONDS);
+        List<PendingEvent> events = new ArrayList<>(batchSize);
+        if (first == null) {
+            relayedFromOutbox.clear();
+        } else {
+            events.add(first);
+            buffer.drainTo(events, batchSize - 1);
+            // Events committed during the switch back may already have been sent from the table
+            events.removeIf(event -> relayedFromOutbox.contains(event.outboxEvent().getId()));
+        }
+
+        if (coalescer == null) {
+            if (!events.isEmpty()) {
+                relayClaimed(events, List.of());
+            }
+            return;
+        }
+
+        EventCoalescer.CoalescedEvents coalesced = new EventCoalescer.CoalescedEvents();
+        long nowNanos = System.nanoTime();
+        events.forEach(event -> coalescer.add(event, nowNanos, coalesced));
+        coalescer.advance(nowNanos, coalesced);
+        if (coalesced.isEmpty()) {
+            return;
+        }
+        relayClaimed(coalesced.getPublished(), coalesced.getDiscarded());
+        coalescedEvents.increment(coalesced.getDiscarded().size());
+    }
+
+    /**
+     * Claims the rows of buffered events, publishes the claimed ones and deletes them in the same transaction.
+     * Rows already relayed from the table by an instance catching up, or locked by one, are not claimed,
+     * so their events are dropped here instead of being published twice.
+     *
+     * @param published the events to publish, in order
+     * @param discarded the events merged away, only deleted
+     */
+    private void relayClaimed(List<PendingEvent> published, List<PendingEvent> discarded) {
+        List<UUID> ids = new ArrayList<>(published.size() + discarded.size());
+        published.forEach(event -> ids.add(event.outboxEvent().getId()));
+        discarded.forEach(event -> ids.add(event.outboxEvent().getId()));
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<UUID> claimed = new HashSet<>();
+            outboxEventRepository.findAllByIdForUpdate(ids).forEach(event -> claimed.add(event.getId()));
+            if (claimed.size() < ids.size()) {
+                logger.debug("{} buffered user events were already claimed by another relay",
+                        ids.size() - claimed.size());
+            }
+            List<PendingEvent> claimedEvents = published.stream()
+                    .filter(event -> claimed.contains(event.outboxEvent().getId()))
+                    .toList();
+            if (!claimedEvents.isEmpty()) {
+                publishConfirmed(claimedEvents);
+            }
+            if (!claimed.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(ids.stream().filter(claimed::contains).toList());
+            }
+        });
+    }
+
+    /**
+     * Sends the events in order and waits for the transport to confirm all of them.
+     *
+     * @param events the events to publish, in order
+     * @throws AmqpException if the broker nacks the batch or does not confirm it in time
+     */
+    private void publishConfirmed(List<PendingEvent> events) {
+        long startNanos = System.nanoTime();
+        List<EventTransport.Envelope> envelopes = events.stream()
+                .map(event -> new EventTransport.Envelope(event.routingKey(), toMessage(event)))
+                .toList();
+        boolean confirmed = eventTransport.sendConfirmed(envelopes, confirmTimeoutMillis);
+        if (!confirmed) {
+            nackedBatches.increment();
+            throw new AmqpException("Broker did not acknowledge " + events.size() + " user events");
+        }
+        confirmLatency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        publishedEvents.increment(events.size());
+        logger.debug("Relayed {} user events", events.size());
+    }
+
+    /**
+     * Encodes an event with the content type configured for its routing key.
+     */
+    private Message toMessage(PendingEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(contentTypes.contentTypeFor(event.routingKey()));
+        return messageConverter.toMessage(event.event(), properties);
+    }
+
+    /**
+     * Reads the event stored in an outbox row, or moves the row to the dead-letter table if it cannot be read.
+     *
+     * @param event the outbox row
+     * @return Optional containing the event, empty if it was dead-lettered
+     */
+    private Optional<PendingEvent> readEvent(OutboxEvent event) {
+        try {
+            return Optional.of(new PendingEvent(event, objectMapper.readValue(event.getPayload(), UserEventDTO.class)));
+        } catch (JsonProcessingException exception) {
+            String error = String.valueOf(exception.getOriginalMessage());
+            outboxDeadLetterRepository.save(OutboxDeadLetter.builder()
+                    .id(event.getId())
+                    .routingKey(event.getRoutingKey())
+                    .payload(event.getPayload())
+                    .createdAt(event.getCreatedAt())
+                    .error(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error)
+                    .build());
+            deadLetteredEvents.increment();
+            logger.error("Moved unreadable outbox event {} with routing key {} to the dead-letter table: {}",
+                    event.getId(), event.getRoutingKey(), error);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts the dedicated publisher thread.
+     */
+    @Override
+    public void start() {
+        running = true;
+        publisherThread = new Thread(this::runPublisher, "user-event-publisher");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+    }
+
+    /**
+     * Stops the publisher thread. Events still in the buffer or coalescer remain in the outbox table.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (publisherThread != null) {
+            publisherThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runPublisher() {
+        while (running) {
+            try {
+                relayOnce();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
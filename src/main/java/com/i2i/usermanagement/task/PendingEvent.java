@@ -0,0 +1,25 @@
+package com.i2i.usermanagement.task;
+
+import com.i2i.usermanagement.dto.UserEventDTO;
+import com.i2i.usermanagement.entity.OutboxEvent;
+
+/**
+ * An outbox row together with its decoded event, as handled by the relay.
+ *
+ * @param outboxEvent the stored outbox row
+ * @param event       the decoded event
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public record PendingEvent(OutboxEvent outboxEvent, UserEventDTO event) {
+
+    /**
+     * Returns the routing key the event is published with.
+     *
+     * @return the routing key
+     */
+    public String routingKey() {
+        return outboxEvent.getRoutingKey();
+    }
+}
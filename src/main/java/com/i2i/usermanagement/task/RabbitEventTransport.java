@@ -0,0 +1,55 @@
+package com.i2i.usermanagement.task;
+
+import com.i2i.usermanagement.config.UserEventRouting;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Event transport publishing to the user exchange of RabbitMQ, or the partitioned one, with publisher confirms.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+@ConditionalOnProperty(name = "user.events.transport", havingValue = "rabbitmq", matchIfMissing = true)
+public class RabbitEventTransport implements EventTransport {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rabbitTemplate   the template used to publish events
+     * @param userEventRouting the routing deciding the exchange events are published to
+     */
+    public RabbitEventTransport(RabbitTemplate rabbitTemplate, UserEventRouting userEventRouting) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = userEventRouting.getExchange();
+    }
+
+    /**
+     * Sends the messages on one channel and waits for the broker to confirm all of them.
+     */
+    @Override
+    public boolean sendConfirmed(List<Envelope> envelopes, long timeoutMillis) {
+        return Boolean.TRUE.equals(rabbitTemplate.invoke(operations -> {
+            for (Envelope envelope : envelopes) {
+                operations.send(exchange, envelope.routingKey(), envelope.message());
+            }
+            return operations.waitForConfirms(timeoutMillis);
+        }));
+    }
+
+    /**
+     * Opens and closes a broker connection, failing after the configured connection timeout.
+     */
+    @Override
+    public void checkConnection() {
+        rabbitTemplate.getConnectionFactory().createConnection().close();
+    }
+}
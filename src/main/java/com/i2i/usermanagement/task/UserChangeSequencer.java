@@ -0,0 +1,146 @@
+package com.i2i.usermanagement.task;
+
+import com.i2i.usermanagement.entity.UserChangeHead;
+import com.i2i.usermanagement.repository.UserChangeHeadRepository;
+import com.i2i.usermanagement.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Numbers committed user changes for the change feed, on a dedicated thread.
+ * <p>
+ * Writes leave the change sequence of a user empty. The sequencer only sees committed changes and numbers them
+ * while holding the lock on the {@link UserChangeHead}, so sequencers on different instances take turns and every
+ * number becomes visible after all lower ones. A feed reader that has seen a number therefore never misses a
+ * lower one, however long the transaction that wrote the change took to commit. Users still locked by a
+ * writing transaction are skipped and numbered after it has committed.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class UserChangeSequencer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangeSequencer.class);
+
+    private final UserRepository userRepository;
+    private final UserChangeHeadRepository userChangeHeadRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pollMillis;
+    private final Counter sequencedChanges;
+
+    private volatile boolean running;
+    private Thread sequencerThread;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param userRepository           the user repository
+     * @param userChangeHeadRepository the repository of the last assigned change sequence
+     * @param transactionManager       the transaction manager each batch runs in
+     * @param meterRegistry            the registry the sequencer metrics are published to
+     * @param batchSize                maximum changes numbered per transaction
+     * @param pollMillis               how long the sequencer waits once it has caught up
+     */
+    public UserChangeSequencer(UserRepository userRepository,
+                               UserChangeHeadRepository userChangeHeadRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${user.changes.sequencer.batch-size:500}") int batchSize,
+                               @Value("${user.changes.sequencer.poll-millis:200}") long pollMillis) {
+        this.userRepository = userRepository;
+        this.userChangeHeadRepository = userChangeHeadRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pollMillis = pollMillis;
+        this.sequencedChanges = Counter.builder("users.changes.sequenced")
+                .description("User changes numbered for the change feed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Numbers up to one batch of committed user changes in one transaction.
+     *
+     * @return number of changes numbered
+     */
+    public int sequenceOnce() {
+        int sequenced = transactionTemplate.execute(status -> {
+            UserChangeHead head = userChangeHeadRepository.findByIdForUpdate(UserChangeHead.ID)
+                    .orElseGet(() -> userChangeHeadRepository.save(new UserChangeHead(UserChangeHead.ID, 0L)));
+            List<UUID> ids = userRepository.findUnsequencedIdsForUpdate(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            userRepository.assignChangeSeqs(ids, head.getLastSeq() + 1);
+            head.setLastSeq(head.getLastSeq() + ids.size());
+            return ids.size();
+        });
+        if (sequenced > 0) {
+            sequencedChanges.increment(sequenced);
+            logger.debug("Numbered {} user changes", sequenced);
+        }
+        return sequenced;
+    }
+
+    /**
+     * Starts the dedicated sequencer thread.
+     */
+    @Override
+    public void start() {
+        running = true;
+        sequencerThread = new Thread(this::runSequencer, "user-change-sequencer");
+        sequencerThread.setDaemon(true);
+        sequencerThread.start();
+    }
+
+    /**
+     * Stops the sequencer thread. Changes not numbered yet are numbered by the next sequencer to run.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (sequencerThread != null) {
+            sequencerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runSequencer() {
+        while (running) {
+            try {
+                if (sequenceOnce() < batchSize) {
+                    TimeUnit.MILLISECONDS.sleep(pollMillis);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                logger.warn("Numbering user changes failed, retrying in {} ms: {}", pollMillis, exception.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.i2i.usermanagement.util;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.UUID;
+
+/**
+ * Principal of a request authenticated with a JWT token.
+ *
+ * @param userId the user ID from the token, null for tokens issued before it was included
+ * @param name   the username from the token subject
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public record JwtPrincipal(UUID userId, String name) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -1,5 +1,6 @@
 package com.i2i.usermanagement.util;
 
+import com.i2i.usermanagement.entity.Role;
 import com.i2i.usermanagement.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -13,6 +14,7 @@ import javax.crypto.SecretKey;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +28,8 @@ import java.util.stream.Collectors;
 @Component
 public class JwtUtil {
 
+    private static final String USER_ID_CLAIM = "uid";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -39,15 +43,16 @@ public class JwtUtil {
      * @return the generated JWT token string
      */
     public String generateToken(User user) {
-        List<String> roles = user.getUserRoles() != null ? 
-                user.getUserRoles().stream()
-                        .map(userRole -> userRole.getRole().getName())
-                        .collect(Collectors.toList()) : 
+        List<String> roles = user.getRoles() != null ?
+                user.getRoles().stream()
+                        .map(Role::getName)
+                        .collect(Collectors.toList()) :
                 Collections.emptyList();
 
         return Jwts.builder()
                 .setSubject(user.getName()) // Username as subject
                 .claim("roles", roles) // Add roles to token
+                .claim(USER_ID_CLAIM, user.getId() != null ? user.getId().toString() : null) // Resolve the user by key
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSignKey(), SignatureAlgorithm.HS256)
@@ -69,6 +74,21 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Extracts the user ID from JWT token.
+     *
+     * @param token the JWT token
+     * @return the user ID, null for tokens issued without it or invalid tokens
+     */
+    public UUID extractUserId(String token) {
+        try {
+            String userId = extractClaims(token).get(USER_ID_CLAIM, String.class);
+            return userId != null ? UUID.fromString(userId) : null;
+        } catch (Exception exception) {
+            return null;
+        }
+    }
+
     /**
      * Extracts roles from JWT token.
      *
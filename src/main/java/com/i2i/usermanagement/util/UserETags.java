@@ -0,0 +1,97 @@
+package com.i2i.usermanagement.util;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Entity tags and modification times of user resources for conditional requests.
+ * A user's tag is derived from its ID and its optimistic locking version, the tag of the user list
+ * from the digests of the JSON of its users, so every node serving the same list tags it alike.
+ * Both are strong tags.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public final class UserETags {
+
+    private static final String ANY = "*";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private UserETags() {
+    }
+
+    /**
+     * Returns the entity tag of a user.
+     *
+     * @param id      the user ID
+     * @param version the optimistic locking version of the user
+     * @return the quoted entity tag, or null if the version is unknown
+     */
+    public static String forUser(UUID id, Long version) {
+        if (id == null || version == null) {
+            return null;
+        }
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Returns the entity tag of the user list.
+     *
+     * @param digest the sum of the {@link #digest(byte[])} of every user in the list
+     * @return the quoted entity tag
+     */
+    public static String forUserCollection(long digest) {
+        return "\"users-" + HexFormat.of().toHexDigits(digest) + "\"";
+    }
+
+    /**
+     * Returns a 64 bit digest of a serialized user. The digests of the users of a list are summed into
+     * the digest of the list, which is thereby updated per changed user instead of hashing the whole list.
+     *
+     * @param json the serialized user
+     * @return the digest
+     */
+    public static long digest(byte[] json) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(json)).getLong();
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", exception);
+        }
+    }
+
+    /**
+     * Returns the Last-Modified time of a user in epoch milliseconds.
+     *
+     * @param updatedAt the time of the last update
+     * @return the epoch milliseconds, or -1 if the update time is unknown
+     */
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Evaluates an If-Match header against the current entity tag, using the strong comparison.
+     *
+     * @param ifMatch the If-Match header, null if the request is unconditional
+     * @param etag    the current entity tag
+     * @return true if the request may proceed
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (ANY.equals(tag) || (etag != null && tag.equals(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
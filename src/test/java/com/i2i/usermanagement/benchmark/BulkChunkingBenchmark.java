@@ -0,0 +1,121 @@
+package com.i2i.usermanagement.benchmark;
+
+import com.i2i.usermanagement.dto.UserCreateDTO;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.service.UserService;
+import com.i2i.usermanagement.task.BulkUserCreationExecutor;
+import com.i2i.usermanagement.task.BulkUserCreationTask;
+import com.i2i.usermanagement.task.ChunkSizer;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the fixed chunk size used before with the adaptive chunk sizer
+ * on a bulk job whose rows cost a simulated per-transaction round trip.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BulkChunkingBenchmark {
+
+    private static final int FIXED_CHUNK_SIZE = 5;
+
+    @Param({"FIXED", "ADAPTIVE"})
+    private String strategy;
+
+    @Param({"1000", "20000"})
+    private int rows;
+
+    @Param({"50"})
+    private int rowCostMicros;
+
+    private List<UserCreateDTO> userDTOs;
+    private UserService userService;
+    private BulkUserCreationExecutor bulkUserCreationExecutor;
+    private ForkJoinPool fixedPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userDTOs = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            userDTOs.add(TestDataBuilder.buildUserCreateDTO("User " + i, "user" + i + "@example.com", 30));
+        }
+        userService = simulatedUserService(TimeUnit.MICROSECONDS.toNanos(rowCostMicros));
+        bulkUserCreationExecutor = new BulkUserCreationExecutor(new SimpleMeterRegistry(), null, 5, 500, 200);
+        // Same number of workers for both strategies, so only the chunking differs
+        fixedPool = new ForkJoinPool(bulkUserCreationExecutor.getParallelism());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bulkUserCreationExecutor.destroy();
+        fixedPool.shutdown();
+    }
+
+    @Benchmark
+    public List<UserResponseDTO> createBulkUsers() {
+        if ("FIXED".equals(strategy)) {
+            return fixedPool.invoke(new BulkUserCreationTask(userDTOs, 0, userDTOs.size(), userService::createUser,
+                    new FixedChunkSizer(FIXED_CHUNK_SIZE)));
+        }
+        return bulkUserCreationExecutor.createAll(userDTOs, userService::createUser);
+    }
+
+    /**
+     * A UserService whose createUser only waits for the configured per-row cost.
+     * Stub-only, so the mock does not record the millions of calls of a run.
+     */
+    private static UserService simulatedUserService(long rowCostNanos) {
+        UserService userService = Mockito.mock(UserService.class, Mockito.withSettings().stubOnly());
+        when(userService.createUser(any(UserCreateDTO.class))).thenAnswer(invocation -> {
+            LockSupport.parkNanos(rowCostNanos);
+            UserCreateDTO userCreateDTO = invocation.getArgument(0);
+            return UserResponseDTO.builder().id(UUID.randomUUID()).name(userCreateDTO.getName()).build();
+        });
+        return userService;
+    }
+
+    /**
+     * The chunking used before adaptive sizing: a constant leaf size.
+     */
+    private record FixedChunkSizer(int size) implements ChunkSizer {
+
+        @Override
+        public int chunkSizeFor(int jobRows) {
+            return size;
+        }
+
+        @Override
+        public void recordChunk(int rows, long elapsedNanos) {
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.i2i.usermanagement.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the JMH benchmarks of this package from the test phase.
+ * Only active with the benchmark profile: {@code mvn test -Pbenchmark -Dbenchmark.include=<regex>}.
+ * Results are written to target/jmh-results.json. System properties prefixed with
+ * {@code benchmark.} are forwarded to the forked benchmark JVM.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Tag("benchmark")
+@DisplayName("JMH Benchmarks")
+class JmhBenchmarksTest {
+
+    @Test
+    @DisplayName("Should run the selected JMH benchmarks")
+    void runBenchmarks() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("benchmark.include", JmhBenchmarksTest.class.getPackageName() + ".*Benchmark"))
+                .forks(1)
+                .jvmArgsAppend(benchmarkProperties())
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-results.json")
+                .build();
+
+        assertThat(new Runner(options).run()).isNotEmpty();
+    }
+
+    private static String[] benchmarkProperties() {
+        return System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("benchmark."))
+                .map(name -> "-D" + name + "=" + System.getProperty(name))
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,133 @@
+package com.i2i.usermanagement.benchmark;
+
+import com.i2i.usermanagement.UserManagementApplication;
+import com.i2i.usermanagement.config.RabbitMQConfig;
+import com.i2i.usermanagement.dto.UserCreateDTO;
+import com.i2i.usermanagement.dto.UserEventDTO;
+import com.i2i.usermanagement.service.UserEventPublisher;
+import com.i2i.usermanagement.service.UserService;
+import com.i2i.usermanagement.task.InMemoryEventTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the user event pipeline end to end without external services: the application runs on H2
+ * with the in-memory event transport, and each operation waits until its event has been relayed from
+ * the outbox, encoded and received by a subscriber. Throughput is in events per millisecond, sample time
+ * gives the latency distribution from the call to the event arriving.
+ * <p>
+ * {@code createUser} includes password hashing and the user insert, {@code publishUserDeleted} only the
+ * outbox write and the relay. With a fixed number of waiting threads this is a closed loop, so throughput
+ * reflects how well the relay batches concurrent commits.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class UserEventPipelineBenchmark {
+
+    private static final long EVENT_TIMEOUT_SECONDS = 10;
+
+    private final ConcurrentMap<UUID, CompletableFuture<UserEventDTO>> arrivals = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final MessageConverter messageConverter = new RabbitMQConfig().messageConverter();
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserEventPublisher userEventPublisher;
+    private TransactionTemplate transactionTemplate;
+    private InMemoryEventTransport eventTransport;
+    private long sentAtSetup;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(UserManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test",
+                        "--spring.datasource.url=jdbc:h2:mem:pipeline-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--admin.username=benchmark-admin",
+                        "--admin.password=benchmark-password",
+                        "--user.events.transport=in-memory",
+                        "--user.cache.invalidation=local");
+        userService = context.getBean(UserService.class);
+        userEventPublisher = context.getBean(UserEventPublisher.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        eventTransport = context.getBean(InMemoryEventTransport.class);
+        eventTransport.subscribe(envelope -> {
+            UserEventDTO event = (UserEventDTO) messageConverter.fromMessage(envelope.message());
+            arrival(event.getUserId()).complete(event);
+        });
+        sentAtSetup = eventTransport.getSentCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%d events relayed, %d left unclaimed%n",
+                eventTransport.getSentCount() - sentAtSetup, arrivals.size());
+        context.close();
+    }
+
+    @Benchmark
+    public UserEventDTO createUser() throws Exception {
+        long n = sequence.incrementAndGet();
+        UUID userId = userService.createUser(UserCreateDTO.builder()
+                .name("Benchmark User")
+                .email("pipeline" + n + "@example.com")
+                .age(30)
+                .password("benchmark-password")
+                .build()).getId();
+        return awaitEvent(userId);
+    }
+
+    @Benchmark
+    public UserEventDTO publishUserDeleted() throws Exception {
+        UUID userId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status ->
+                userEventPublisher.publishUserDeleted(userId, "deleted@example.com", "Benchmark User"));
+        return awaitEvent(userId);
+    }
+
+    /**
+     * The event may arrive before the caller has its id, so both sides create the future on demand.
+     */
+    private CompletableFuture<UserEventDTO> arrival(UUID userId) {
+        return arrivals.computeIfAbsent(userId, id -> new CompletableFuture<>());
+    }
+
+    private UserEventDTO awaitEvent(UUID userId) throws Exception {
+        UserEventDTO event = arrival(userId).get(EVENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        arrivals.remove(userId);
+        return event;
+    }
+}
@@ -0,0 +1,119 @@
+package com.i2i.usermanagement.benchmark;
+
+import com.i2i.usermanagement.config.CborMessageConverter;
+import com.i2i.usermanagement.config.RabbitMQConfig;
+import com.i2i.usermanagement.config.SmileMessageConverter;
+import com.i2i.usermanagement.dto.UserEventDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of encoding and decoding user events as JSON (the previous format), CBOR and Smile
+ * through the application's message converter, for the full payload of schema version 1 and the lean
+ * payload of version 2. The encoded size of each event is printed at trial setup.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserEventSerializationBenchmark {
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "JSON", MessageProperties.CONTENT_TYPE_JSON,
+            "CBOR", CborMessageConverter.CONTENT_TYPE,
+            "SMILE", SmileMessageConverter.CONTENT_TYPE);
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private String format;
+
+    @Param({"USER_CREATED", "USER_DELETED"})
+    private String eventType;
+
+    @Param({"V1_FULL", "V2_LEAN"})
+    private String schema;
+
+    private MessageConverter messageConverter;
+    private String contentType;
+    private UserEventDTO event;
+    private Message encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        messageConverter = new RabbitMQConfig().messageConverter();
+        contentType = CONTENT_TYPES.get(format);
+        boolean lean = "V2_LEAN".equals(schema);
+        event = "USER_CREATED".equals(eventType) ? createdEvent(lean) : deletedEvent(lean);
+        encoded = serialize();
+        System.out.printf("%n%s %s %s: %d bytes per event%n", format, eventType, schema, encoded.getBody().length);
+    }
+
+    @Benchmark
+    public Message serialize() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(contentType);
+        return messageConverter.toMessage(event, properties);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return messageConverter.fromMessage(encoded);
+    }
+
+    /**
+     * Version 1 carried the full user and its plain-text password, approximated here by the welcome token.
+     */
+    private static UserEventDTO createdEvent(boolean lean) {
+        UserEventDTO.UserEventDTOBuilder event = UserEventDTO.builder()
+                .eventType("USER_CREATED")
+                .userId(UUID.randomUUID())
+                .eventTimestamp(LocalDateTime.now())
+                .welcomeToken("q3xYjC1cV0m9nH7tKpL2wE5rT8uI4oPaSdFgHjKlZx0");
+        if (lean) {
+            return event.schemaVersion(UserEventDTO.SCHEMA_VERSION).build();
+        }
+        return event.userName("Benchmark User")
+                .userEmail("benchmark.user@example.com")
+                .userAge(30)
+                .userPhoneNumber("+1234567890")
+                .userAddress("221B Baker Street, London")
+                .isActive(true)
+                .eventData("New user account created")
+                .build();
+    }
+
+    private static UserEventDTO deletedEvent(boolean lean) {
+        UserEventDTO.UserEventDTOBuilder event = UserEventDTO.builder()
+                .eventType("USER_DELETED")
+                .userId(UUID.randomUUID())
+                .eventTimestamp(LocalDateTime.now());
+        if (lean) {
+            return event.schemaVersion(UserEventDTO.SCHEMA_VERSION).build();
+        }
+        return event.userName("Benchmark User")
+                .userEmail("benchmark.user@example.com")
+                .eventData("User account deleted")
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.i2i.usermanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.mapper.UserMapper;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserListSnapshot;
+import com.i2i.usermanagement.util.UuidV7;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares serving the user list from its snapshot with mapping and serializing it on every request,
+ * as getAllUsers did, and measures the incremental refresh after one user was written.
+ * The repository is stubbed, so the cost of the database read the snapshot also saves is not included.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserListSnapshotBenchmark {
+
+    @Param({"100", "10000"})
+    private int userCount;
+
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private List<User> users;
+    private UserCache userCache;
+    private UserListSnapshot userListSnapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(User.builder()
+                    .id(UuidV7.next())
+                    .name("user" + i)
+                    .email("user" + i + "@example.com")
+                    .age(30)
+                    .phoneNumber("+1234567890")
+                    .address("221B Baker Street, London")
+                    .isActive(true)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        when(userRepository.findByIsActiveTrue()).thenReturn(users);
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(users.get(userCount / 2)));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(userId -> { }, meterRegistry, 0, 300);
+        userListSnapshot = new UserListSnapshot(userRepository, userMapper, objectMapper, userCache, meterRegistry,
+                Mockito.mock(PlatformTransactionManager.class));
+        System.out.printf("%n%d users: %d bytes per list%n", userCount, userListSnapshot.current().json().length);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userMapper.toDTOList(users));
+    }
+
+    @Benchmark
+    public byte[] snapshot() {
+        return userListSnapshot.current().json();
+    }
+
+    @Benchmark
+    public byte[] snapshotAfterOneWrite() {
+        userCache.evict(users.get(userCount / 2).getId());
+        return userListSnapshot.current().json();
+    }
+}
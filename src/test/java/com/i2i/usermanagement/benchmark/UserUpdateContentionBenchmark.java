@@ -0,0 +1,186 @@
+package com.i2i.usermanagement.benchmark;
+
+import com.i2i.usermanagement.util.UuidV7;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the throughput of concurrent read-modify-write updates of the same users, as updateUser does,
+ * with an optimistic version check and with a row lock held from the read until the commit.
+ * An optimistic update that lost the race is counted as a conflict, which the API answers with 409 right away;
+ * a pessimistic update instead waits for the lock. Conflicts and applied updates are reported per second.
+ * Runs against in-memory H2 by default. For the Postgres comparison point it at a database with
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://... -Dbenchmark.jdbc.username=... -Dbenchmark.jdbc.password=...}.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+public class UserUpdateContentionBenchmark {
+
+    private static final String TABLE = "user_contention_bench";
+
+    @Param({"OPTIMISTIC", "PESSIMISTIC"})
+    private String locking;
+
+    @Param({"1", "64"})
+    private int hotUsers;
+
+    // Time between reading and writing the user, standing in for the round trips to a remote database
+    @Param({"0", "200"})
+    private long roundTripMicros;
+
+    private UUID[] userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE
+                    + " (id UUID PRIMARY KEY, address VARCHAR(255), version BIGINT NOT NULL)");
+            userIds = new UUID[hotUsers];
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + TABLE + " (id, address, version) VALUES (?, ?, 0)")) {
+                for (int i = 0; i < hotUsers; i++) {
+                    userIds[i] = UuidV7.next();
+                    insert.setObject(1, userIds[i]);
+                    insert.setString(2, "Address " + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + TABLE);
+            connection.commit();
+        }
+    }
+
+    @Benchmark
+    public void updateUser(Session session, Blackhole blackhole) throws SQLException {
+        UUID userId = userIds[ThreadLocalRandom.current().nextInt(hotUsers)];
+        if ("OPTIMISTIC".equals(locking)) {
+            session.updateOptimistically(userId, roundTripMicros);
+        } else {
+            session.updatePessimistically(userId, roundTripMicros);
+        }
+        blackhole.consume(userId);
+    }
+
+    private static Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:user_contention_bench;DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.jdbc.username", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    /**
+     * The connection of one benchmark thread, with its counts of applied updates and conflicts.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Session {
+
+        public long applied;
+        public long conflicts;
+
+        private Connection connection;
+        private PreparedStatement read;
+        private PreparedStatement readForUpdate;
+        private PreparedStatement write;
+        private PreparedStatement writeIfUnchanged;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = connect();
+            read = connection.prepareStatement("SELECT address, version FROM " + TABLE + " WHERE id = ?");
+            readForUpdate = connection.prepareStatement(
+                    "SELECT address, version FROM " + TABLE + " WHERE id = ? FOR UPDATE");
+            write = connection.prepareStatement(
+                    "UPDATE " + TABLE + " SET address = ?, version = version + 1 WHERE id = ?");
+            writeIfUnchanged = connection.prepareStatement(
+                    "UPDATE " + TABLE + " SET address = ?, version = version + 1 WHERE id = ? AND version = ?");
+        }
+
+        @Setup(Level.Iteration)
+        public void resetCounters() {
+            applied = 0;
+            conflicts = 0;
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+
+        void updateOptimistically(UUID userId, long roundTripMicros) throws SQLException {
+            long version = readVersion(read, userId);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+            writeIfUnchanged.setString(1, "Address " + version);
+            writeIfUnchanged.setObject(2, userId);
+            writeIfUnchanged.setLong(3, version);
+            int updated = writeIfUnchanged.executeUpdate();
+            connection.commit();
+            if (updated == 1) {
+                applied++;
+            } else {
+                conflicts++;
+            }
+        }
+
+        void updatePessimistically(UUID userId, long roundTripMicros) throws SQLException {
+            long version = readVersion(readForUpdate, userId);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+            write.setString(1, "Address " + version);
+            write.setObject(2, userId);
+            write.executeUpdate();
+            connection.commit();
+            applied++;
+        }
+
+        private long readVersion(PreparedStatement statement, UUID userId) throws SQLException {
+            statement.setObject(1, userId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong("version");
+            }
+        }
+    }
+}
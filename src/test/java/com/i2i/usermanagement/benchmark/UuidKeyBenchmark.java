@@ -0,0 +1,118 @@
+package com.i2i.usermanagement.benchmark;
+
+import com.i2i.usermanagement.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of inserting into a UUID primary key for random v4 and time-ordered v7 keys.
+ * Each measured invocation inserts a fixed number of rows into a preloaded table, so both key versions
+ * do the same work and the table size stays bounded.
+ * Runs against in-memory H2 by default. For the Postgres comparison point it at a database with
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://... -Dbenchmark.jdbc.username=... -Dbenchmark.jdbc.password=...}
+ * and {@code -Dbenchmark.uuid.preload-rows=5000000}; the primary key index size is then printed after each trial.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class UuidKeyBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int ROWS_PER_INVOCATION = 100_000;
+    private static final String TABLE = "uuid_key_bench";
+
+    @Param({"V4", "V7"})
+    private String keyVersion;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private boolean postgres;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:uuid_key_bench;DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.jdbc.username", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        connection.setAutoCommit(false);
+        postgres = url.startsWith("jdbc:postgresql:");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id UUID PRIMARY KEY, name VARCHAR(50) NOT NULL)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, name) VALUES (?, ?)");
+
+        long preloadRows = Long.getLong("benchmark.uuid.preload-rows", 200_000L);
+        for (long row = 0; row < preloadRows; row += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void insertRows() throws SQLException {
+        for (int row = 0; row < ROWS_PER_INVOCATION; row += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (postgres) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(
+                         "SELECT count(*), pg_relation_size('" + TABLE + "_pkey') FROM " + TABLE)) {
+                resultSet.next();
+                System.out.printf("%n%s keys: %d rows, primary key index %d MB%n",
+                        keyVersion, resultSet.getLong(1), resultSet.getLong(2) / (1024 * 1024));
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    private void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, nextKey());
+            insert.setString(2, "User " + i);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private UUID nextKey() {
+        return "V7".equals(keyVersion) ? UuidV7.next() : UUID.randomUUID();
+    }
+}
@@ -1,5 +1,7 @@
 package com.i2i.usermanagement.integration;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.i2i.usermanagement.controller.UserController;
 import com.i2i.usermanagement.dto.UserCreateDTO;
 import com.i2i.usermanagement.dto.UserResponseDTO;
@@ -7,7 +9,6 @@ import com.i2i.usermanagement.entity.Role;
 import com.i2i.usermanagement.entity.User;
 import com.i2i.usermanagement.repository.RoleRepository;
 import com.i2i.usermanagement.repository.UserRepository;
-import com.i2i.usermanagement.repository.UserRoleRepository;
 import com.i2i.usermanagement.testutil.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,15 +17,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -65,15 +69,14 @@ class UserTestContainersTest {
     private UserRepository userRepository;
 
     @Autowired
-    private RoleRepository roleRepository;
+    private ObjectMapper objectMapper;
 
     @Autowired
-    private UserRoleRepository userRoleRepository;
+    private RoleRepository roleRepository;
 
     @BeforeEach
     void setUp() {
         // Clear database before each test
-        userRoleRepository.deleteAll();
         userRepository.deleteAll();
         roleRepository.deleteAll();
 
@@ -116,7 +119,8 @@ class UserTestContainersTest {
         User savedUser = userRepository.save(user);
 
         // When - Call controller endpoint
-        ResponseEntity<UserResponseDTO> response = userController.getUserById(savedUser.getId());
+        ResponseEntity<UserResponseDTO> response = userController.getUserById(savedUser.getId(),
+                new ServletWebRequest(new MockHttpServletRequest()));
 
         // Then - Verify complete flow with real PostgreSQL
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -170,7 +174,7 @@ class UserTestContainersTest {
         updateDTO.setEmail("updatedtestcontainers@example.com");
 
         // When - Call controller endpoint
-        ResponseEntity<UserResponseDTO> response = userController.updateUser(savedUser.getId(), updateDTO);
+        ResponseEntity<UserResponseDTO> response = userController.updateUser(savedUser.getId(), updateDTO, null);
 
         // Then - Verify user was updated in real PostgreSQL
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -219,7 +223,7 @@ class UserTestContainersTest {
     @WithMockUser(roles = "ADMIN")
     @Transactional
     @DisplayName("Testcontainers: GET All Users Flow - Controller to Real PostgreSQL")
-    void testGetAllUsers_WithRealPostgreSQL_ShouldWorkEndToEnd() {
+    void testGetAllUsers_WithRealPostgreSQL_ShouldWorkEndToEnd() throws IOException {
         // Given - Create multiple users in real PostgreSQL
         User user1 = TestDataBuilder.buildUser();
         user1.setName("testcontainersUser1");
@@ -234,15 +238,17 @@ class UserTestContainersTest {
         userRepository.save(user2);
 
         // When - Call controller endpoint
-        ResponseEntity<List<UserResponseDTO>> response = userController.getAllUsers();
+        ResponseEntity<byte[]> response = userController.getAllUsers();
 
         // Then - Verify all users are returned from real PostgreSQL
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).hasSize(2);
+        List<UserResponseDTO> users = objectMapper.readValue(response.getBody(), new TypeReference<>() {
+        });
+        assertThat(users).hasSize(2);
 
         // Verify usernames are in the response
-        List<String> userNames = response.getBody().stream()
+        List<String> userNames = users.stream()
                 .map(UserResponseDTO::getName)
                 .toList();
         assertThat(userNames).containsExactlyInAnyOrder("testcontainersUser1", "testcontainersUser2");
@@ -3,7 +3,6 @@ package com.i2i.usermanagement.security;
 import com.i2i.usermanagement.dto.AuthRequestDTO;
 import com.i2i.usermanagement.entity.Role;
 import com.i2i.usermanagement.entity.User;
-import com.i2i.usermanagement.entity.UserRole;
 import com.i2i.usermanagement.exception.AuthenticationException;
 import com.i2i.usermanagement.repository.UserRepository;
 import com.i2i.usermanagement.service.AuthService;
@@ -54,7 +53,6 @@ class AuthServiceSecurityTest {
 
     private User testUser;
     private Role testRole;
-    private UserRole testUserRole;
     private AuthRequestDTO validAuthRequest;
 
     @BeforeEach
@@ -73,13 +71,7 @@ class AuthServiceSecurityTest {
             .name("ROLE_USER")
             .build();
 
-        testUserRole = UserRole.builder()
-            .id(UUID.randomUUID())
-            .user(testUser)
-            .role(testRole)
-            .build();
-
-        testUser.setUserRoles(Arrays.asList(testUserRole));
+        testUser.setRoles(Arrays.asList(testRole));
 
         validAuthRequest = AuthRequestDTO.builder()
             .username("testuser")
@@ -1,6 +1,7 @@
 package com.i2i.usermanagement.security;
 
 import com.i2i.usermanagement.filter.JwtAuthenticationFilter;
+import com.i2i.usermanagement.util.JwtPrincipal;
 import com.i2i.usermanagement.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -16,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -183,6 +185,26 @@ class JwtAuthenticationFilterSecurityTest {
         assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("testuser");
     }
 
+    @Test
+    @DisplayName("Should expose the user ID from the JWT token on the principal")
+    void testFilter_TokenWithUserId_ShouldSetPrincipalUserId() throws ServletException, IOException {
+        // Given
+        String validToken = "valid.jwt.token";
+        UUID userId = UUID.randomUUID();
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(jwtUtil.extractUsername(validToken)).thenReturn("testuser");
+        when(jwtUtil.isTokenValid(validToken)).thenReturn(true);
+        when(jwtUtil.extractRoles(validToken)).thenReturn(java.util.Arrays.asList("ROLE_USER"));
+        when(jwtUtil.extractUserId(validToken)).thenReturn(userId);
+
+        // When
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .isEqualTo(new JwtPrincipal(userId, "testuser"));
+    }
+
     @Test
     @DisplayName("Should handle request with very long Authorization header")
     void testFilter_VeryLongAuthHeader_ShouldHandleGracefully() throws ServletException, IOException {
@@ -2,7 +2,6 @@ package com.i2i.usermanagement.security;
 
 import com.i2i.usermanagement.entity.Role;
 import com.i2i.usermanagement.entity.User;
-import com.i2i.usermanagement.entity.UserRole;
 import com.i2i.usermanagement.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,7 +33,6 @@ class JwtSecurityTest {
     private JwtUtil jwtUtil;
     private User testUser;
     private Role testRole;
-    private UserRole testUserRole;
 
     @BeforeEach
     void setUp() {
@@ -59,13 +57,7 @@ class JwtSecurityTest {
                 .name("ROLE_USER")
                 .build();
 
-        testUserRole = UserRole.builder()
-                .id(UUID.randomUUID())
-                .user(testUser)
-                .role(testRole)
-                .build();
-
-        testUser.setUserRoles(Arrays.asList(testUserRole));
+        testUser.setRoles(Arrays.asList(testRole));
     }
 
     @Test
@@ -180,7 +172,7 @@ class JwtSecurityTest {
                 .age(25)
                 .password("hashedPassword")
                 .isActive(true)
-                .userRoles(Arrays.asList()) // Empty roles
+                .roles(Arrays.asList()) // Empty roles
                 .build();
 
         // When
@@ -216,7 +208,7 @@ class JwtSecurityTest {
                 .age(25)
                 .password("hashedPassword")
                 .isActive(true)
-                .userRoles(Arrays.asList(testUserRole))
+                .roles(Arrays.asList(testRole))
                 .build();
 
         // When
@@ -239,7 +231,7 @@ class JwtSecurityTest {
                 .age(25)
                 .password("hashedPassword")
                 .isActive(true)
-                .userRoles(Arrays.asList(testUserRole))
+                .roles(Arrays.asList(testRole))
                 .build();
 
         // When
@@ -262,7 +254,7 @@ class JwtSecurityTest {
                 .age(25)
                 .password("hashedPassword")
                 .isActive(true)
-                .userRoles(Arrays.asList(testUserRole))
+                .roles(Arrays.asList(testRole))
                 .build();
 
         // When
@@ -293,13 +285,7 @@ class JwtSecurityTest {
                 .name("ROLE_ADMIN")
                 .build();
 
-        UserRole adminUserRole = UserRole.builder()
-                .id(UUID.randomUUID())
-                .user(testUser)
-                .role(adminRole)
-                .build();
-
-        testUser.setUserRoles(Arrays.asList(testUserRole, adminUserRole));
+        testUser.setRoles(Arrays.asList(testRole, adminRole));
 
         // When
         String token = jwtUtil.generateToken(testUser);
@@ -310,4 +296,27 @@ class JwtSecurityTest {
         List<String> roles = jwtUtil.extractRoles(token);
         assertThat(roles).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
     }
+
+    @Test
+    @DisplayName("Should carry the user ID in the JWT token")
+    void testJwtToken_UserId_ShouldRoundTrip() {
+        // When
+        String token = jwtUtil.generateToken(testUser);
+
+        // Then
+        assertThat(jwtUtil.extractUserId(token)).isEqualTo(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should return no user ID for tokens issued without it")
+    void testJwtToken_WithoutUserId_ShouldReturnNull() {
+        // Given
+        testUser.setId(null);
+        String token = jwtUtil.generateToken(testUser);
+
+        // When & Then
+        assertThat(jwtUtil.isTokenValid(token)).isTrue();
+        assertThat(jwtUtil.extractUserId(token)).isNull();
+        assertThat(jwtUtil.extractUserId("invalid.token.here")).isNull();
+    }
 }
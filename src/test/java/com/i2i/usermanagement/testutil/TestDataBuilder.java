@@ -6,7 +6,6 @@ import com.i2i.usermanagement.dto.UserResponseDTO;
 import com.i2i.usermanagement.dto.AuthRequestDTO;
 import com.i2i.usermanagement.entity.User;
 import com.i2i.usermanagement.entity.Role;
-import com.i2i.usermanagement.entity.UserRole;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -219,20 +218,6 @@ public class TestDataBuilder {
                 .build();
     }
 
-    /**
-     * Creates a UserRole entity with default test values.
-     * 
-     * @param user the user
-     * @param role the role
-     * @return UserRole entity with default values
-     */
-    public static UserRole buildUserRole(User user, Role role) {
-        return UserRole.builder()
-                .user(user)
-                .role(role)
-                .build();
-    }
-
     /**
      * Creates a list of test users.
      * 
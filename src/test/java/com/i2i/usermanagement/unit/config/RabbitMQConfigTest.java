@@ -0,0 +1,147 @@
+package com.i2i.usermanagement.unit.config;
+
+import com.i2i.usermanagement.config.CborMessageConverter;
+import com.i2i.usermanagement.config.RabbitMQConfig;
+import com.i2i.usermanagement.config.SmileMessageConverter;
+import com.i2i.usermanagement.config.UserEventRouting;
+import com.i2i.usermanagement.dto.UserEventDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the message converter configured in RabbitMQConfig.
+ * Tests content type based encoding and decoding of user events and the partitioned topology.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("RabbitMQConfig Message Converter Unit Tests")
+class RabbitMQConfigTest {
+
+    private final MessageConverter messageConverter = new RabbitMQConfig().messageConverter();
+
+    @ParameterizedTest
+    @ValueSource(strings = {MessageProperties.CONTENT_TYPE_JSON, CborMessageConverter.CONTENT_TYPE,
+            SmileMessageConverter.CONTENT_TYPE})
+    @DisplayName("Should encode and decode user events with the requested content type")
+    void testMessageConverter_ContentType_ShouldRoundTrip(String contentType) {
+        // Given
+        UserEventDTO event = deletedEvent();
+
+        // When
+        Message message = messageConverter.toMessage(event, properties(contentType));
+        Object decoded = messageConverter.fromMessage(message);
+
+        // Then
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(contentType);
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Should encode user events in fewer bytes with CBOR than with JSON")
+    void testMessageConverter_Cbor_ShouldBeSmallerThanJson() {
+        // Given
+        UserEventDTO event = deletedEvent();
+
+        // When
+        int jsonBytes = messageConverter.toMessage(event, properties(MessageProperties.CONTENT_TYPE_JSON)).getBody().length;
+        int cborBytes = messageConverter.toMessage(event, properties(CborMessageConverter.CONTENT_TYPE)).getBody().length;
+
+        // Then
+        assertThat(cborBytes).isLessThan(jsonBytes);
+    }
+
+    @Test
+    @DisplayName("Should fall back to JSON when no content type is set")
+    void testMessageConverter_NoContentType_ShouldUseJson() {
+        // When
+        Message message = messageConverter.toMessage(deletedEvent(), new MessageProperties());
+
+        // Then
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+
+    @Test
+    @DisplayName("Should declare nothing when events are not partitioned")
+    void testUserEventPartitions_NotPartitioned_ShouldBeEmpty() {
+        // When
+        Declarables declarables = new RabbitMQConfig().userEventPartitions(new UserEventRouting(0));
+
+        // Then
+        assertThat(declarables.getDeclarables()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should declare one single-consumer queue per partition bound to its routing keys")
+    void testUserEventPartitions_Partitioned_ShouldDeclareQueuePerPartition() {
+        // When
+        Declarables declarables = new RabbitMQConfig().userEventPartitions(new UserEventRouting(3));
+
+        // Then
+        assertThat(declarables.getDeclarablesByType(TopicExchange.class))
+                .extracting(TopicExchange::getName)
+                .containsExactly(RabbitMQConfig.USER_PARTITIONED_EXCHANGE);
+        assertThat(declarables.getDeclarablesByType(Queue.class))
+                .allSatisfy(queue -> assertThat(queue.getArguments()).containsEntry("x-single-active-consumer", true))
+                .extracting(Queue::getName)
+                .containsExactly("user.events.partition.0", "user.events.partition.1", "user.events.partition.2");
+        assertThat(declarables.getDeclarablesByType(Binding.class))
+                .extracting(Binding::getRoutingKey)
+                .containsExactly("user.*.0", "user.*.1", "user.*.2");
+    }
+
+    @Test
+    @DisplayName("Should bind the anonymous queue of this node to the cache invalidation fanout exchange")
+    void testUserCacheInvalidationTopology_ShouldBindNodeQueueToFanout() {
+        // Given
+        RabbitMQConfig config = new RabbitMQConfig();
+        Queue queue = config.userCacheInvalidationQueue();
+
+        // When
+        Declarables declarables = config.userCacheInvalidationTopology(queue);
+
+        // Then
+        assertThat(queue.isExclusive()).isTrue();
+        assertThat(queue.isAutoDelete()).isTrue();
+        assertThat(queue.getName()).startsWith(RabbitMQConfig.USER_CACHE_INVALIDATION_EXCHANGE + ".");
+        assertThat(declarables.getDeclarablesByType(FanoutExchange.class))
+                .extracting(FanoutExchange::getName)
+                .containsExactly(RabbitMQConfig.USER_CACHE_INVALIDATION_EXCHANGE);
+        assertThat(declarables.getDeclarablesByType(Binding.class))
+                .extracting(Binding::getDestination)
+                .containsExactly(queue.getName());
+    }
+
+    private static MessageProperties properties(String contentType) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(contentType);
+        return properties;
+    }
+
+    private static UserEventDTO deletedEvent() {
+        return UserEventDTO.builder()
+                .eventType("USER_DELETED")
+                .userId(UUID.randomUUID())
+                .userName("testuser")
+                .userEmail("test@example.com")
+                .eventTimestamp(LocalDateTime.of(2026, 10, 19, 12, 30, 15))
+                .eventData("User account deleted")
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.i2i.usermanagement.unit.config;
+
+import com.i2i.usermanagement.config.RabbitMQConfig;
+import com.i2i.usermanagement.config.UserEventRouting;
+import com.i2i.usermanagement.util.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for UserEventRouting class.
+ * Tests partition assignment and partitioned routing keys.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("UserEventRouting Unit Tests")
+class UserEventRoutingTest {
+
+    @Test
+    @DisplayName("Should keep plain routing keys when not partitioned")
+    void testRoutingKeyFor_NoPartitions_ShouldReturnEventKey() {
+        // Given
+        UserEventRouting routing = new UserEventRouting(0);
+
+        // When
+        String routingKey = routing.routingKeyFor(RabbitMQConfig.USER_CREATED_ROUTING_KEY, UUID.randomUUID());
+
+        // Then
+        assertThat(routing.isPartitioned()).isFalse();
+        assertThat(routingKey).isEqualTo(RabbitMQConfig.USER_CREATED_ROUTING_KEY);
+    }
+
+    @Test
+    @DisplayName("Should publish partitioned events to their own exchange and plain events to the user exchange")
+    void testGetExchange_ShouldDependOnPartitioning() {
+        // When
+        String plain = new UserEventRouting(0).getExchange();
+        String partitioned = new UserEventRouting(8).getExchange();
+
+        // Then
+        assertThat(plain).isEqualTo(RabbitMQConfig.USER_EXCHANGE);
+        assertThat(partitioned).isEqualTo(RabbitMQConfig.USER_PARTITIONED_EXCHANGE);
+    }
+
+    @Test
+    @DisplayName("Should route all events of a user to the same partition")
+    void testRoutingKeyFor_SameUser_ShouldUseSamePartition() {
+        // Given
+        UserEventRouting routing = new UserEventRouting(8);
+        UUID userId = UuidV7.next();
+        int partition = routing.partitionOf(userId);
+
+        // When
+        String created = routing.routingKeyFor(RabbitMQConfig.USER_CREATED_ROUTING_KEY, userId);
+        String deleted = routing.routingKeyFor(RabbitMQConfig.USER_DELETED_ROUTING_KEY, userId);
+
+        // Then
+        assertThat(partition).isBetween(0, 7);
+        assertThat(created).isEqualTo("user.created." + partition);
+        assertThat(deleted).isEqualTo("user.deleted." + partition);
+    }
+
+    @Test
+    @DisplayName("Should spread time-ordered user ids over all partitions")
+    void testPartitionOf_SequentialIds_ShouldSpreadEvenly() {
+        // Given
+        UserEventRouting routing = new UserEventRouting(8);
+        int[] counts = new int[8];
+
+        // When
+        for (int i = 0; i < 8000; i++) {
+            counts[routing.partitionOf(UuidV7.next())]++;
+        }
+
+        // Then
+        assertThat(Arrays.stream(counts).min().orElseThrow()).isGreaterThan(800);
+        assertThat(Arrays.stream(counts).max().orElseThrow()).isLessThan(1200);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative partition count")
+    void testConstructor_NegativePartitions_ShouldThrowException() {
+        assertThatThrownBy(() -> new UserEventRouting(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,7 +3,9 @@ package com.i2i.usermanagement.unit.controller;
 import com.i2i.usermanagement.controller.AuthController;
 import com.i2i.usermanagement.dto.AuthRequestDTO;
 import com.i2i.usermanagement.dto.AuthResponseDTO;
+import com.i2i.usermanagement.dto.WelcomeTokenRedeemDTO;
 import com.i2i.usermanagement.service.AuthService;
+import com.i2i.usermanagement.service.WelcomeTokenService;
 import com.i2i.usermanagement.testutil.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +37,9 @@ class AuthControllerTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private WelcomeTokenService welcomeTokenService;
+
     @InjectMocks
     private AuthController authController;
 
@@ -70,6 +75,23 @@ class AuthControllerTest {
         verify(authService).authenticate(testAuthRequestDTO);
     }
 
+    @Test
+    @DisplayName("Should redeem welcome token and return 204 status")
+    void testRedeemWelcomeToken_ValidToken_ShouldReturnNoContent() {
+        // Given
+        WelcomeTokenRedeemDTO redeemRequest = WelcomeTokenRedeemDTO.builder()
+                .token("welcome-token")
+                .password("newPassword123")
+                .build();
+
+        // When
+        ResponseEntity<Void> response = authController.redeemWelcomeToken(redeemRequest);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(welcomeTokenService).redeem("welcome-token", "newPassword123");
+    }
+
     @Test
     @DisplayName("Should handle authentication with different token types")
     void testLogin_DifferentTokenTypes_ShouldReturnAuthResponse() {
@@ -1,11 +1,20 @@
 package com.i2i.usermanagement.unit.controller;
 
 import com.i2i.usermanagement.controller.UserController;
+import com.i2i.usermanagement.dto.BulkUserStatusRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserStatusResultDTO;
+import com.i2i.usermanagement.dto.BulkUserUpdateRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserUpdateResultDTO;
+import com.i2i.usermanagement.dto.UserChangesDTO;
 import com.i2i.usermanagement.dto.UserCreateDTO;
 import com.i2i.usermanagement.dto.UserResponseDTO;
 import com.i2i.usermanagement.dto.UserUpdateDTO;
+import com.i2i.usermanagement.service.UserChangeFeedService;
+import com.i2i.usermanagement.service.UserListSnapshot;
 import com.i2i.usermanagement.service.UserService;
+import com.i2i.usermanagement.service.UserStatusService;
 import com.i2i.usermanagement.testutil.TestDataBuilder;
+import com.i2i.usermanagement.util.UserETags;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,16 +24,26 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +62,15 @@ class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserChangeFeedService userChangeFeedService;
+
+    @Mock
+    private UserListSnapshot userListSnapshot;
+
+    @Mock
+    private UserStatusService userStatusService;
+
     @InjectMocks
     private UserController userController;
 
@@ -80,42 +108,150 @@ class UserControllerTest {
     }
 
     @Test
-    @DisplayName("Should return all users successfully")
-    void testGetAllUsers_ShouldReturnAllUsers() {
+    @DisplayName("Should return the user list snapshot with its ETag")
+    void testGetAllUsers_ShouldReturnSnapshot() {
         // Given
-        List<UserResponseDTO> users = TestDataBuilder.buildUserResponseDTOList(3);
-        when(userService.getAllUsers()).thenReturn(users);
+        byte[] json = "[{\"name\":\"user1\"},{\"name\":\"user2\"}]".getBytes(StandardCharsets.UTF_8);
+        when(userListSnapshot.current())
+                .thenReturn(new UserListSnapshot.Snapshot(3, 2, json, UserETags.forUserCollection(42L)));
 
         // When
-        ResponseEntity<List<UserResponseDTO>> response = userController.getAllUsers();
+        ResponseEntity<byte[]> response = userController.getAllUsers();
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).hasSize(3);
-        assertThat(response.getBody()).containsExactlyElementsOf(users);
+        assertThat(response.getBody()).isSameAs(json);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getETag()).isEqualTo(UserETags.forUserCollection(42L));
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache");
+    }
 
-        // Verify service method was called
-        verify(userService).getAllUsers();
+    @Test
+    @DisplayName("Should return user details for event consumers")
+    void testGetUserDetails_ShouldReturnUser() {
+        // Given
+        when(userService.getUserDetails(testUserId)).thenReturn(testUserResponseDTO);
+
+        // When
+        ResponseEntity<UserResponseDTO> response = userController.getUserDetails(testUserId);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(testUserResponseDTO);
+        verify(userService).getUserDetails(testUserId);
+    }
+
+    @Test
+    @DisplayName("Should return user changes after the cursor")
+    void testGetUserChanges_ShouldReturnChangesPage() {
+        // Given
+        UserChangesDTO changes = UserChangesDTO.builder()
+                .users(TestDataBuilder.buildUserResponseDTOList(2))
+                .nextCursor(12)
+                .hasMore(false)
+                .build();
+        when(userChangeFeedService.getChangesSince(10, 100)).thenReturn(changes);
+
+        // When
+        ResponseEntity<UserChangesDTO> response = userController.getUserChanges(10, 100);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(changes);
+        verify(userChangeFeedService).getChangesSince(10, 100);
     }
 
     @Test
     @DisplayName("Should return empty list when no users exist")
     void testGetAllUsers_NoUsersExist_ShouldReturnEmptyList() {
         // Given
-        List<UserResponseDTO> emptyUsers = Arrays.asList();
-        when(userService.getAllUsers()).thenReturn(emptyUsers);
+        byte[] json = "[]".getBytes(StandardCharsets.UTF_8);
+        when(userListSnapshot.current())
+                .thenReturn(new UserListSnapshot.Snapshot(1, 0, json, UserETags.forUserCollection(0L)));
 
         // When
-        ResponseEntity<List<UserResponseDTO>> response = userController.getAllUsers();
+        ResponseEntity<byte[]> response = userController.getAllUsers();
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).isEmpty();
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
 
-        // Verify service method was called
-        verify(userService).getAllUsers();
+    @Test
+    @DisplayName("Should tag a user with its ETag and Last-Modified time")
+    void testGetUserById_ShouldReturnValidators() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 19, 9, 30);
+        testUserResponseDTO.setId(testUserId);
+        testUserResponseDTO.setUpdatedAt(updatedAt);
+        testUserResponseDTO.setVersion(3L);
+        when(userService.getUserById(testUserId)).thenReturn(testUserResponseDTO);
+
+        // When
+        ResponseEntity<UserResponseDTO> response = userController.getUserById(testUserId, getRequest());
+
+        // Then
+        assertThat(response.getHeaders().getETag()).isEqualTo(UserETags.forUser(testUserId, 3L));
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(UserETags.lastModified(updatedAt));
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the ETag alone when If-None-Match still holds, without loading the user")
+    void testGetUserById_IfNoneMatchHolds_ShouldReturnNotModified() {
+        // Given
+        String etag = UserETags.forUser(testUserId, 3L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/" + testUserId);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        when(userService.getUserETag(testUserId)).thenReturn(Optional.of(etag));
+
+        // When
+        ResponseEntity<UserResponseDTO> response = userController.getUserById(testUserId,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+        verify(userService, never()).getUserById(any());
+    }
+
+    @Test
+    @DisplayName("Should load the user when If-None-Match holds an outdated ETag")
+    void testGetUserById_IfNoneMatchOutdated_ShouldReturnUser() {
+        // Given
+        testUserResponseDTO.setId(testUserId);
+        testUserResponseDTO.setVersion(4L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/" + testUserId);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, UserETags.forUser(testUserId, 3L));
+        when(userService.getUserETag(testUserId)).thenReturn(Optional.of(UserETags.forUser(testUserId, 4L)));
+        when(userService.getUserById(testUserId)).thenReturn(testUserResponseDTO);
+
+        // When
+        ResponseEntity<UserResponseDTO> response = userController.getUserById(testUserId,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(testUserResponseDTO);
+    }
+
+    @Test
+    @DisplayName("Should pass the If-Match header of an update to the service and tag the response with the new version")
+    void testUpdateUser_IfMatch_ShouldPassToService() {
+        // Given
+        String etag = UserETags.forUser(testUserId, 3L);
+        testUserResponseDTO.setId(testUserId);
+        testUserResponseDTO.setVersion(4L);
+        when(userService.updateUser(testUserId, testUserCreateDTO, etag)).thenReturn(testUserResponseDTO);
+
+        // When
+        ResponseEntity<UserResponseDTO> response = userController.updateUser(testUserId, testUserCreateDTO, etag);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(UserETags.forUser(testUserId, 4L));
+        verify(userService).updateUser(testUserId, testUserCreateDTO, etag);
     }
 
     @Test
@@ -125,7 +261,7 @@ class UserControllerTest {
         when(userService.getUserById(testUserId)).thenReturn(testUserResponseDTO);
 
         // When
-        ResponseEntity<UserResponseDTO> response = userController.getUserById(testUserId);
+        ResponseEntity<UserResponseDTO> response = userController.getUserById(testUserId, getRequest());
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -141,11 +277,11 @@ class UserControllerTest {
     @DisplayName("Should update user completely and return updated user")
     void testUpdateUser_ValidData_ShouldReturnUpdatedUser() {
         // Given
-        when(userService.updateUser(any(UUID.class), any(UserCreateDTO.class)))
+        when(userService.updateUser(any(UUID.class), any(UserCreateDTO.class), isNull()))
                 .thenReturn(testUserResponseDTO);
 
         // When
-        ResponseEntity<UserResponseDTO> response = userController.updateUser(testUserId, testUserCreateDTO);
+        ResponseEntity<UserResponseDTO> response = userController.updateUser(testUserId, testUserCreateDTO, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -153,18 +289,18 @@ class UserControllerTest {
         assertThat(response.getBody().getName()).isEqualTo(testUserResponseDTO.getName());
 
         // Verify service method was called
-        verify(userService).updateUser(testUserId, testUserCreateDTO);
+        verify(userService).updateUser(testUserId, testUserCreateDTO, null);
     }
 
     @Test
     @DisplayName("Should update user partially and return updated user")
     void testUpdateUserPartially_ValidData_ShouldReturnUpdatedUser() {
         // Given
-        when(userService.updateUserPartially(any(UUID.class), any(UserUpdateDTO.class)))
+        when(userService.updateUserPartially(any(UUID.class), any(UserUpdateDTO.class), isNull()))
                 .thenReturn(testUserResponseDTO);
 
         // When
-        ResponseEntity<UserResponseDTO> response = userController.updateUserPartially(testUserId, testUserUpdateDTO);
+        ResponseEntity<UserResponseDTO> response = userController.updateUserPartially(testUserId, testUserUpdateDTO, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -172,7 +308,7 @@ class UserControllerTest {
         assertThat(response.getBody().getName()).isEqualTo(testUserResponseDTO.getName());
 
         // Verify service method was called
-        verify(userService).updateUserPartially(testUserId, testUserUpdateDTO);
+        verify(userService).updateUserPartially(testUserId, testUserUpdateDTO, null);
     }
 
     @Test
@@ -192,6 +328,50 @@ class UserControllerTest {
         verify(userService).deleteUser(testUserId);
     }
 
+    @Test
+    @DisplayName("Should deactivate users in bulk and return the outcome per user")
+    void testDeactivateUsers_ShouldReturnOutcomes() {
+        // Given
+        BulkUserStatusRequestDTO request = BulkUserStatusRequestDTO.builder().ids(List.of(testUserId)).build();
+        BulkUserStatusResultDTO result = BulkUserStatusResultDTO.builder()
+                .changedCount(1)
+                .outcomes(List.of(new BulkUserStatusResultDTO.UserOutcome(testUserId,
+                        BulkUserStatusResultDTO.Outcome.CHANGED)))
+                .build();
+        when(userStatusService.deactivateUsers(request)).thenReturn(result);
+
+        // When
+        ResponseEntity<BulkUserStatusResultDTO> response = userController.deactivateUsers(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(result);
+        verify(userService, never()).deleteUser(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should update users partially in bulk and return the outcome per user")
+    void testUpdateUsersPartially_ShouldReturnOutcomes() {
+        // Given
+        BulkUserUpdateRequestDTO request = BulkUserUpdateRequestDTO.builder()
+                .updates(List.of(new BulkUserUpdateRequestDTO.UserUpdate(testUserId, null, testUserUpdateDTO)))
+                .build();
+        BulkUserUpdateResultDTO result = BulkUserUpdateResultDTO.builder()
+                .updatedCount(1)
+                .outcomes(List.of(new BulkUserUpdateResultDTO.UserOutcome(testUserId,
+                        BulkUserUpdateResultDTO.Outcome.UPDATED, testUserResponseDTO)))
+                .build();
+        when(userService.updateUsersPartially(request)).thenReturn(result);
+
+        // When
+        ResponseEntity<BulkUserUpdateResultDTO> response = userController.updateUsersPartially(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(result);
+        verify(userService, never()).updateUserPartially(any(UUID.class), any(UserUpdateDTO.class), any());
+    }
+
     @Test
     @DisplayName("Should create bulk users successfully and return 201 status")
     void testCreateBulkUsers_ValidData_ShouldReturnCreatedResponse() {
@@ -259,36 +439,36 @@ class UserControllerTest {
     @DisplayName("Should handle user update with valid data")
     void testUpdateUser_ValidData_ShouldPassToService() {
         // Given
-        when(userService.updateUser(testUserId, testUserCreateDTO))
+        when(userService.updateUser(testUserId, testUserCreateDTO, null))
                 .thenReturn(testUserResponseDTO);
 
         // When
-        ResponseEntity<UserResponseDTO> response = userController.updateUser(testUserId, testUserCreateDTO);
+        ResponseEntity<UserResponseDTO> response = userController.updateUser(testUserId, testUserCreateDTO, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
 
         // Verify service method was called
-        verify(userService).updateUser(testUserId, testUserCreateDTO);
+        verify(userService).updateUser(testUserId, testUserCreateDTO, null);
     }
 
     @Test
     @DisplayName("Should handle partial user update with valid data")
     void testUpdateUserPartially_ValidData_ShouldPassToService() {
         // Given
-        when(userService.updateUserPartially(testUserId, testUserUpdateDTO))
+        when(userService.updateUserPartially(testUserId, testUserUpdateDTO, null))
                 .thenReturn(testUserResponseDTO);
 
         // When
-        ResponseEntity<UserResponseDTO> response = userController.updateUserPartially(testUserId, testUserUpdateDTO);
+        ResponseEntity<UserResponseDTO> response = userController.updateUserPartially(testUserId, testUserUpdateDTO, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
 
         // Verify service method was called
-        verify(userService).updateUserPartially(testUserId, testUserUpdateDTO);
+        verify(userService).updateUserPartially(testUserId, testUserUpdateDTO, null);
     }
 
     @ParameterizedTest
@@ -305,7 +485,7 @@ class UserControllerTest {
         when(userService.getUserById(differentUuid)).thenReturn(testUserResponseDTO);
 
         // When
-        ResponseEntity<UserResponseDTO> response = userController.getUserById(differentUuid);
+        ResponseEntity<UserResponseDTO> response = userController.getUserById(differentUuid, getRequest());
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -320,18 +500,18 @@ class UserControllerTest {
     void testUpdateUser_DifferentUuidFormats_ShouldPassToService() {
         // Given
         UUID differentUuid = UUID.fromString("987fcdeb-51a2-43d7-8f9e-123456789abc");
-        when(userService.updateUser(any(UUID.class), any(UserCreateDTO.class)))
+        when(userService.updateUser(any(UUID.class), any(UserCreateDTO.class), isNull()))
                 .thenReturn(testUserResponseDTO);
 
         // When
-        ResponseEntity<UserResponseDTO> response = userController.updateUser(differentUuid, testUserCreateDTO);
+        ResponseEntity<UserResponseDTO> response = userController.updateUser(differentUuid, testUserCreateDTO, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
 
         // Verify service method was called with specific UUID
-        verify(userService).updateUser(differentUuid, testUserCreateDTO);
+        verify(userService).updateUser(differentUuid, testUserCreateDTO, null);
     }
 
     @Test
@@ -339,18 +519,18 @@ class UserControllerTest {
     void testUpdateUserPartially_DifferentUuidFormats_ShouldPassToService() {
         // Given
         UUID differentUuid = UUID.fromString("456789ab-cdef-1234-5678-9abcdef01234");
-        when(userService.updateUserPartially(any(UUID.class), any(UserUpdateDTO.class)))
+        when(userService.updateUserPartially(any(UUID.class), any(UserUpdateDTO.class), isNull()))
                 .thenReturn(testUserResponseDTO);
 
         // When
-        ResponseEntity<UserResponseDTO> response = userController.updateUserPartially(differentUuid, testUserUpdateDTO);
+        ResponseEntity<UserResponseDTO> response = userController.updateUserPartially(differentUuid, testUserUpdateDTO, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
 
         // Verify service method was called with specific UUID
-        verify(userService).updateUserPartially(differentUuid, testUserUpdateDTO);
+        verify(userService).updateUserPartially(differentUuid, testUserUpdateDTO, null);
     }
 
     @Test
@@ -369,4 +549,8 @@ class UserControllerTest {
         // Verify service method was called with specific UUID
         verify(userService).deleteUser(differentUuid);
     }
+
+    private static ServletWebRequest getRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/users"), new MockHttpServletResponse());
+    }
 }
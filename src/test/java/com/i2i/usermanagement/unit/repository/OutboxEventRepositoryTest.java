@@ -0,0 +1,95 @@
+package com.i2i.usermanagement.unit.repository;
+
+import com.i2i.usermanagement.entity.OutboxEvent;
+import com.i2i.usermanagement.repository.OutboxEventRepository;
+import com.i2i.usermanagement.util.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for OutboxEventRepository class.
+ * Tests that pending events are returned oldest first, bounded by the watermark and the batch size.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("OutboxEventRepository Unit Tests")
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    @DisplayName("Should return the oldest events before the watermark first, limited to the batch size")
+    void testFindOldestForUpdate_ShouldReturnOldestEventsInOrder() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(OutboxEvent.builder()
+                    .routingKey("user.created")
+                    .payload("{\"sequence\":" + i + "}")
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        UUID watermark = UuidV7.next();
+
+        // When
+        List<OutboxEvent> result = outboxEventRepository.findOldestForUpdate(watermark, PageRequest.of(0, 3));
+
+        // Then
+        assertThat(result)
+                .extracting(OutboxEvent::getPayload)
+                .containsExactly("{\"sequence\":0}", "{\"sequence\":1}", "{\"sequence\":2}");
+    }
+
+    @Test
+    @DisplayName("Should not return events created after the watermark")
+    void testFindOldestForUpdate_EventsAfterWatermark_ShouldBeExcluded() {
+        // Given
+        UUID watermark = UuidV7.next();
+        entityManager.persistAndFlush(OutboxEvent.builder()
+                .routingKey("user.created")
+                .payload("{}")
+                .build());
+
+        // When
+        List<OutboxEvent> result = outboxEventRepository.findOldestForUpdate(watermark, PageRequest.of(0, 3));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should claim only the given events that are still pending")
+    void testFindAllByIdForUpdate_SomeEventsRelayed_ShouldReturnPendingOnes() {
+        // Given
+        OutboxEvent pending = entityManager.persist(OutboxEvent.builder()
+                .routingKey("user.created")
+                .payload("{}")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<OutboxEvent> result = outboxEventRepository.findAllByIdForUpdate(List.of(pending.getId(), UuidV7.next()));
+
+        // Then
+        assertThat(result).extracting(OutboxEvent::getId).containsExactly(pending.getId());
+    }
+}
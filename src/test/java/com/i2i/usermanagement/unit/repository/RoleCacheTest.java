@@ -0,0 +1,126 @@
+package com.i2i.usermanagement.unit.repository;
+
+import com.i2i.usermanagement.entity.Role;
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.repository.RoleRepository;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the second-level caching of roles and the role collections of users.
+ * The cache is only written once a transaction has committed, so every step runs in a transaction
+ * of its own, as each login does.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Role Second-Level Cache Unit Tests")
+class RoleCacheTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Role testRole;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        testRole = roleRepository.save(TestDataBuilder.buildRole("ROLE_CACHE_TEST"));
+        testUser = TestDataBuilder.buildUser();
+        testUser.setName("cacheuser");
+        testUser.setEmail("cache@example.com");
+        testUser.getRoles().add(testRole);
+        testUser = userRepository.save(testUser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(testUser.getId());
+        roleRepository.deleteById(testRole.getId());
+    }
+
+    @Test
+    @DisplayName("Should not query roles again on the second login")
+    void testLoginRoles_SecondLogin_ShouldIssueNoRoleQueries() {
+        // Given
+        assertThat(loadRoleNames()).containsExactly("ROLE_CACHE_TEST");
+        statistics.clear();
+
+        // When
+        List<String> roleNames = loadRoleNames();
+
+        // Then
+        assertThat(roleNames).containsExactly("ROLE_CACHE_TEST");
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionStatistics(User.class.getName() + ".roles").getCacheHitCount())
+                .isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(Role.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated role lookup by name from the query cache")
+    void testFindByName_RepeatedLookup_ShouldIssueNoQuery() {
+        // Given
+        assertThat(roleRepository.findByName("ROLE_CACHE_TEST")).isPresent();
+        statistics.clear();
+
+        // When
+        String roleName = roleRepository.findByName("ROLE_CACHE_TEST").map(Role::getName).orElseThrow();
+
+        // Then
+        assertThat(roleName).isEqualTo("ROLE_CACHE_TEST");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    /**
+     * Reads the user by name and the names of their roles, as a login does for the token.
+     */
+    private List<String> loadRoleNames() {
+        return transactionTemplate.execute(status -> userRepository.findByNameAndIsActiveTrue(testUser.getName())
+                .orElseThrow()
+                .getRoles().stream()
+                .map(Role::getName)
+                .toList());
+    }
+}
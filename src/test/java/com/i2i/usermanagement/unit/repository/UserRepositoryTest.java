@@ -2,6 +2,7 @@ package com.i2i.usermanagement.unit.repository;
 
 import com.i2i.usermanagement.entity.User;
 import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.repository.UserRepositoryCustom;
 import com.i2i.usermanagement.testutil.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,13 +10,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Unit tests for UserRepository class.
@@ -156,6 +162,17 @@ class UserRepositoryTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("Should find only the given emails that active users have")
+    void testFindActiveEmails_MixedEmails_ShouldReturnActiveOnes() {
+        // When
+        List<String> result = userRepository.findActiveEmails(
+                List.of("test@example.com", "inactive@example.com", "nonexistent@example.com"));
+
+        // Then
+        assertThat(result).containsExactly("test@example.com");
+    }
+
     @Test
     @DisplayName("Should find active user by name")
     void testFindByNameAndIsActiveTrue_ActiveUserExists_ShouldReturnUser() {
@@ -177,4 +194,218 @@ class UserRepositoryTest {
         // Then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should report the fields changed since the user was loaded")
+    void testFindDirtyFields_ChangedUser_ShouldReturnChangedFields() {
+        // Given
+        entityManager.clear();
+        User user = userRepository.findByIdAndIsActiveTrue(testUser.getId()).orElseThrow();
+        user.setEmail("changed@example.com");
+        user.setAddress(null);
+
+        // When
+        List<String> result = userRepository.findDirtyFields(user);
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder("email", "address");
+    }
+
+    @Test
+    @DisplayName("Should report no fields when values are set to what was loaded")
+    void testFindDirtyFields_UnchangedUser_ShouldReturnEmpty() {
+        // Given
+        entityManager.clear();
+        User user = userRepository.findByIdAndIsActiveTrue(testUser.getId()).orElseThrow();
+        user.setEmail("test@example.com");
+
+        // When
+        List<String> result = userRepository.findDirtyFields(user);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return numbered users changed after the cursor in change order, including inactive ones")
+    void testFindChangedSince_ShouldReturnNumberedChangesInOrder() {
+        // Given
+        stampChange(testUser, 2L, LocalDateTime.now());
+        stampChange(inactiveUser, 3L, LocalDateTime.now());
+        User unnumbered = TestDataBuilder.buildUser();
+        unnumbered.setName("unnumbereduser");
+        unnumbered.setEmail("unnumbered@example.com");
+        entityManager.persistAndFlush(unnumbered);
+        entityManager.clear();
+
+        // When
+        List<User> all = userRepository.findChangedSince(0, PageRequest.of(0, 10));
+        List<User> afterFirst = userRepository.findChangedSince(2, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(all).extracting(User::getId).containsExactly(testUser.getId(), inactiveUser.getId());
+        assertThat(afterFirst).extracting(User::getId).containsExactly(inactiveUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should number unnumbered changes in change order without changing the version")
+    void testAssignChangeSeqs_UnnumberedUsers_ShouldNumberThemInOrder() {
+        // Given
+        // Truncated to the column precision, so the stored order is the one asserted
+        LocalDateTime changedAt = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MICROS);
+        stampChange(inactiveUser, null, changedAt);
+        stampChange(testUser, null, changedAt.plusSeconds(1));
+        entityManager.clear();
+        long version = userRepository.findById(testUser.getId()).orElseThrow().getVersion();
+        entityManager.clear();
+
+        // When
+        List<UUID> unnumbered = userRepository.findUnsequencedIdsForUpdate(PageRequest.of(0, 10));
+        userRepository.assignChangeSeqs(unnumbered, 7);
+
+        // Then
+        assertThat(unnumbered).containsExactly(inactiveUser.getId(), testUser.getId());
+        assertThat(userRepository.findUnsequencedIdsForUpdate(PageRequest.of(0, 10))).isEmpty();
+        User numbered = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(numbered.getChangeSeq()).isEqualTo(8);
+        assertThat(numbered.getVersion()).isEqualTo(version);
+        assertThat(userRepository.findById(inactiveUser.getId()).orElseThrow().getChangeSeq()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should increment the version on update and reject a write from a stale read")
+    void testSaveAndFlush_ConcurrentUpdate_ShouldThrowOptimisticLockingFailure() {
+        // Given
+        entityManager.clear();
+        User user = userRepository.findByIdAndIsActiveTrue(testUser.getId()).orElseThrow();
+        long readVersion = user.getVersion();
+        user.setAddress("Updated address");
+        userRepository.saveAndFlush(user);
+        entityManager.clear();
+        User stale = userRepository.findByIdAndIsActiveTrue(testUser.getId()).orElseThrow();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE users SET version = version + 1 WHERE id = :id")
+                .setParameter("id", testUser.getId())
+                .executeUpdate();
+        stale.setAddress("Lost update");
+
+        // When & Then
+        assertThat(stale.getVersion()).isEqualTo(readVersion + 1);
+        assertThatThrownBy(() -> userRepository.saveAndFlush(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("Should read the version of an active user only")
+    void testFindActiveVersionById_ShouldReturnVersionOfActiveUser() {
+        // When & Then
+        assertThat(userRepository.findActiveVersionById(testUser.getId())).contains(testUser.getVersion());
+        assertThat(userRepository.findActiveVersionById(inactiveUser.getId())).isEmpty();
+        assertThat(userRepository.findActiveVersionById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should soft delete an active user in one statement and return its email and name")
+    void testSoftDeleteReturning_ActiveUser_ShouldReturnDeletedUser() {
+        // Given
+        long readVersion = testUser.getVersion();
+
+        // When
+        Optional<UserRepositoryCustom.ChangedUser> result = userRepository.softDeleteReturning(testUser.getId());
+
+        // Then
+        assertThat(result).contains(new UserRepositoryCustom.ChangedUser(testUser.getId(), "test@example.com", "testuser"));
+        entityManager.clear();
+        User deleted = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(deleted.getIsActive()).isFalse();
+        assertThat(deleted.getVersion()).isEqualTo(readVersion + 1);
+    }
+
+    @Test
+    @DisplayName("Should detach a managed instance of the soft deleted user, so its stale state is not read or flushed")
+    void testSoftDeleteReturning_ManagedUser_ShouldDetachIt() {
+        // Given
+        User managed = userRepository.findById(testUser.getId()).orElseThrow();
+        long readVersion = managed.getVersion();
+
+        // When
+        userRepository.softDeleteReturning(testUser.getId());
+        managed.setAddress("Stale change");
+        entityManager.flush();
+
+        // Then
+        assertThat(entityManager.getEntityManager().contains(managed)).isFalse();
+        User deleted = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(deleted).isNotSameAs(managed);
+        assertThat(deleted.getIsActive()).isFalse();
+        assertThat(deleted.getVersion()).isEqualTo(readVersion + 1);
+        assertThat(deleted.getAddress()).isNotEqualTo("Stale change");
+    }
+
+    @Test
+    @DisplayName("Should not soft delete a user that is already inactive or does not exist")
+    void testSoftDeleteReturning_InactiveOrMissingUser_ShouldReturnEmpty() {
+        // When & Then
+        assertThat(userRepository.softDeleteReturning(inactiveUser.getId())).isEmpty();
+        assertThat(userRepository.softDeleteReturning(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should change the active flag of the given users in one statement, skipping those that have it")
+    void testSetActiveReturning_ShouldReturnChangedUsersOnly() {
+        // When
+        List<UserRepositoryCustom.ChangedUser> reactivated =
+                userRepository.setActiveReturning(List.of(testUser.getId(), inactiveUser.getId()), true);
+
+        // Then
+        assertThat(reactivated).extracting(UserRepositoryCustom.ChangedUser::id).containsExactly(inactiveUser.getId());
+        assertThat(reactivated.get(0).name()).isEqualTo("inactiveuser");
+        entityManager.clear();
+        assertThat(userRepository.findByIsActiveTrue()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should change at most the limit of users of an email domain per statement")
+    void testSetActiveByEmailDomainReturning_ShouldRespectLimitAndDomain() {
+        // Given
+        User other = TestDataBuilder.buildUser("otheruser", "other@EXAMPLE.com", true);
+        User outside = TestDataBuilder.buildUser("outsider", "outsider@example.org", true);
+        entityManager.persistAndFlush(other);
+        entityManager.persistAndFlush(outside);
+
+        // When
+        List<UserRepositoryCustom.ChangedUser> first = userRepository.setActiveByEmailDomainReturning("example.com", false, 1);
+        List<UserRepositoryCustom.ChangedUser> second = userRepository.setActiveByEmailDomainReturning("Example.com", false, 1);
+        List<UserRepositoryCustom.ChangedUser> third = userRepository.setActiveByEmailDomainReturning("example.com", false, 1);
+
+        // Then
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        assertThat(third).isEmpty();
+        assertThat(List.of(first.get(0).id(), second.get(0).id())).containsExactlyInAnyOrder(testUser.getId(), other.getId());
+        entityManager.clear();
+        assertThat(userRepository.findByIsActiveTrue()).extracting(User::getId).containsExactly(outside.getId());
+    }
+
+    @Test
+    @DisplayName("Should find which IDs belong to a user, active or not")
+    void testFindExistingIds_ShouldReturnOnlyExistingIds() {
+        // When
+        List<UUID> result = userRepository.findExistingIds(List.of(testUser.getId(), inactiveUser.getId(), UUID.randomUUID()));
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(testUser.getId(), inactiveUser.getId());
+    }
+
+    /**
+     * Sets the change sequence and the write time the database stamps, which the test schema does not do.
+     */
+    private void stampChange(User user, Long changeSeq, LocalDateTime updatedAt) {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE users SET change_seq = :changeSeq, updated_at = :updatedAt WHERE id = :id")
+                .setParameter("changeSeq", changeSeq)
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", user.getId())
+                .executeUpdate();
+    }
 }
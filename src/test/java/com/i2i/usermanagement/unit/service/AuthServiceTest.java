@@ -4,7 +4,6 @@ import com.i2i.usermanagement.dto.AuthRequestDTO;
 import com.i2i.usermanagement.dto.AuthResponseDTO;
 import com.i2i.usermanagement.entity.Role;
 import com.i2i.usermanagement.entity.User;
-import com.i2i.usermanagement.entity.UserRole;
 import com.i2i.usermanagement.exception.AuthenticationException;
 import com.i2i.usermanagement.repository.UserRepository;
 import com.i2i.usermanagement.service.AuthService;
@@ -58,7 +57,6 @@ class AuthServiceTest {
 
     private User testUser;
     private Role testRole;
-    private UserRole testUserRole;
     private AuthRequestDTO validAuthRequest;
 
     @BeforeEach
@@ -74,8 +72,7 @@ class AuthServiceTest {
         testUser.setName("testuser");
 
         // Create user role mapping
-        testUserRole = TestDataBuilder.buildUserRole(testUser, testRole);
-        testUser.setUserRoles(Arrays.asList(testUserRole));
+        testUser.setRoles(Arrays.asList(testRole));
 
         // Create valid auth request
         validAuthRequest = TestDataBuilder.buildAuthRequestDTO("testuser", "password123");
@@ -183,8 +180,7 @@ class AuthServiceTest {
     void testAuthenticate_AdminUser_ShouldReturnAuthResponse() {
         // Given
         Role adminRole = TestDataBuilder.buildRole("ROLE_ADMIN");
-        UserRole adminUserRole = TestDataBuilder.buildUserRole(testUser, adminRole);
-        testUser.setUserRoles(Arrays.asList(adminUserRole));
+        testUser.setRoles(Arrays.asList(adminRole));
 
         String expectedToken = "admin.jwt.token";
 
@@ -216,9 +212,7 @@ class AuthServiceTest {
         Role userRole = TestDataBuilder.buildRole("ROLE_USER");
         Role adminRole = TestDataBuilder.buildRole("ROLE_ADMIN");
 
-        UserRole userUserRole = TestDataBuilder.buildUserRole(testUser, userRole);
-        UserRole adminUserRole = TestDataBuilder.buildUserRole(testUser, adminRole);
-        testUser.setUserRoles(Arrays.asList(userUserRole, adminUserRole));
+        testUser.setRoles(Arrays.asList(userRole, adminRole));
 
         String expectedToken = "multirole.jwt.token";
 
@@ -247,7 +241,7 @@ class AuthServiceTest {
     @DisplayName("Should handle user with no roles")
     void testAuthenticate_UserWithNoRoles_ShouldReturnAuthResponse() {
         // Given
-        testUser.setUserRoles(List.of()); // No roles
+        testUser.setRoles(List.of()); // No roles
 
         String expectedToken = "no.roles.jwt.token";
 
@@ -276,7 +270,7 @@ class AuthServiceTest {
     @DisplayName("Should handle user with null roles")
     void testAuthenticate_UserWithNullRoles_ShouldReturnAuthResponse() {
         // Given
-        testUser.setUserRoles(null); // Null roles
+        testUser.setRoles(null); // Null roles
 
         String expectedToken = "null.roles.jwt.token";
 
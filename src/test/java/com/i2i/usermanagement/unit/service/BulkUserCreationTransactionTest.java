@@ -0,0 +1,128 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.usermanagement.config.UserEventRouting;
+import com.i2i.usermanagement.dto.UserCreateDTO;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.mapper.UserMapper;
+import com.i2i.usermanagement.repository.OutboxEventRepository;
+import com.i2i.usermanagement.repository.RoleRepository;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.repository.WelcomeTokenRepository;
+import com.i2i.usermanagement.service.RoleCatalog;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserEventPublisher;
+import com.i2i.usermanagement.service.UserNameIndex;
+import com.i2i.usermanagement.service.WelcomeTokenService;
+import com.i2i.usermanagement.service.impl.UserServiceImpl;
+import com.i2i.usermanagement.task.BulkUserCreationExecutor;
+import com.i2i.usermanagement.task.OutboxRelay;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Unit tests for the transactions of bulk user creation against a real database.
+ * The job runs outside any transaction, as a request does, so every row commits or rolls back on its own.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Bulk User Creation Transaction Unit Tests")
+class BulkUserCreationTransactionTest {
+
+    private static final String FAILING_EMAIL = "failing@example.com";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private WelcomeTokenRepository welcomeTokenRepository;
+
+    private BulkUserCreationExecutor bulkUserCreationExecutor;
+
+    private UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+        UserCache userCache = Mockito.mock(UserCache.class);
+        // Fails the row of one user after its user, welcome token and outbox rows have been written
+        doAnswer(invocation -> {
+            UUID userId = invocation.getArgument(0);
+            if (userRepository.findById(userId).orElseThrow().getEmail().equals(FAILING_EMAIL)) {
+                throw new IllegalStateException("Failure after insert");
+            }
+            return null;
+        }).when(userCache).evictAfterCommit(any(UUID.class));
+        bulkUserCreationExecutor = new BulkUserCreationExecutor(new SimpleMeterRegistry(), null, 1, 1, 200);
+
+        UserEventPublisher userEventPublisher = new UserEventPublisher(outboxEventRepository,
+                new ObjectMapper().findAndRegisterModules(), Mockito.mock(OutboxRelay.class),
+                new UserEventRouting(0), false);
+        WelcomeTokenService welcomeTokenService = new WelcomeTokenService(welcomeTokenRepository, userRepository,
+                passwordEncoder, userCache, userEventPublisher);
+        userService = new UserServiceImpl(userRepository, roleRepository, new RoleCatalog(roleRepository),
+                Mappers.getMapper(UserMapper.class), passwordEncoder, userEventPublisher, bulkUserCreationExecutor,
+                welcomeTokenService, userCache, Mockito.mock(UserNameIndex.class), transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkUserCreationExecutor.destroy();
+        outboxEventRepository.deleteAll();
+        welcomeTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should roll back the user, welcome token and outbox event of a row that fails after its insert")
+    void testCreateBulkUsers_RowFailsAfterInsert_ShouldRollBackItsUserAndOutboxRow() {
+        // Given
+        List<UserCreateDTO> users = List.of(
+                TestDataBuilder.buildUserCreateDTO("Created User", "created@example.com", 30),
+                TestDataBuilder.buildUserCreateDTO("Failing User", FAILING_EMAIL, 30));
+
+        // When
+        List<UserResponseDTO> created = userService.createBulkUsers(users);
+
+        // Then
+        assertThat(created).extracting(UserResponseDTO::getName).containsExactly("Created User");
+        assertThat(userRepository.existsByEmailAndIsActiveTrue("created@example.com")).isTrue();
+        assertThat(userRepository.existsByEmailAndIsActiveTrue(FAILING_EMAIL)).isFalse();
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+        assertThat(welcomeTokenRepository.count()).isEqualTo(1);
+    }
+}
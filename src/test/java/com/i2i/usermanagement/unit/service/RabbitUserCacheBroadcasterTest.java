@@ -0,0 +1,134 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.i2i.usermanagement.config.RabbitMQConfig;
+import com.i2i.usermanagement.service.RabbitUserCacheBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for RabbitUserCacheBroadcaster class.
+ * Tests batched invalidation messages and the local-only fallback while the broker is unreachable.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RabbitUserCacheBroadcaster Unit Tests")
+class RabbitUserCacheBroadcasterTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RabbitUserCacheBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new RabbitUserCacheBroadcaster(rabbitTemplate, meterRegistry, 2, 10, 1);
+    }
+
+    @Test
+    @DisplayName("Should send the buffered invalidations in one message of 16 bytes per user")
+    void testBroadcastOnce_BufferedInvalidations_ShouldSendOneMessage() throws Exception {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        broadcaster.broadcast(first);
+        broadcaster.broadcast(second);
+
+        // When
+        broadcaster.broadcastOnce();
+
+        // Then
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(RabbitMQConfig.USER_CACHE_INVALIDATION_EXCHANGE), eq(""), message.capture());
+        assertThat(message.getValue().getBody()).hasSize(32);
+        assertThat(RabbitUserCacheBroadcaster.decode(message.getValue().getBody())).containsExactly(first, second);
+        assertThat(message.getValue().getMessageProperties().getAppId()).isEqualTo(broadcaster.getNodeId());
+        assertThat(meterRegistry.get("users.cache.invalidations.sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should send nothing when no invalidation is buffered")
+    void testBroadcastOnce_NothingBuffered_ShouldNotSend() throws Exception {
+        // When
+        broadcaster.broadcastOnce();
+
+        // Then
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("Should tell the other nodes to clear their caches once the broker is back after a failure")
+    void testBroadcastOnce_BrokerRecovered_ShouldSendInvalidateAll() throws Exception {
+        // Given
+        doThrow(new AmqpConnectException(new IOException("connection refused")))
+                .doNothing()
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+        broadcaster.broadcast(UUID.randomUUID());
+        broadcaster.broadcastOnce();
+
+        // When
+        broadcaster.broadcastOnce();
+
+        // Then
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(2)).send(anyString(), anyString(), messages.capture());
+        Message invalidateAll = messages.getAllValues().get(1);
+        assertThat(invalidateAll.getMessageProperties().<Boolean>getHeader(RabbitUserCacheBroadcaster.INVALIDATE_ALL_HEADER))
+                .isTrue();
+        assertThat(meterRegistry.get("users.cache.invalidations.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to an invalidate-all when the buffer overflows")
+    void testBroadcast_BufferFull_ShouldSendInvalidateAll() throws Exception {
+        // Given
+        broadcaster.broadcast(UUID.randomUUID());
+        broadcaster.broadcast(UUID.randomUUID());
+        broadcaster.broadcast(UUID.randomUUID());
+
+        // When
+        broadcaster.broadcastOnce();
+
+        // Then
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(anyString(), anyString(), message.capture());
+        assertThat(message.getValue().getMessageProperties().<Boolean>getHeader(RabbitUserCacheBroadcaster.INVALIDATE_ALL_HEADER))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Should decode what it encodes")
+    void testEncode_Decode_ShouldRoundTrip() {
+        // Given
+        List<UUID> userIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        // When & Then
+        assertThat(RabbitUserCacheBroadcaster.decode(RabbitUserCacheBroadcaster.encode(userIds))).isEqualTo(userIds);
+    }
+}
@@ -0,0 +1,85 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.i2i.usermanagement.entity.Role;
+import com.i2i.usermanagement.repository.RoleRepository;
+import com.i2i.usermanagement.service.RoleCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RoleCatalog class.
+ * Tests that role IDs are served from memory and reloaded only on demand.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoleCatalog Unit Tests")
+class RoleCatalogTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleCatalog roleCatalog;
+
+    private Role userRole;
+    private Role adminRole;
+
+    @BeforeEach
+    void setUp() {
+        userRole = Role.builder().id(UUID.randomUUID()).name("ROLE_USER").build();
+        adminRole = Role.builder().id(UUID.randomUUID()).name("ROLE_ADMIN").build();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from memory")
+    void testFindRoleId_RepeatedLookups_ShouldQueryOnce() {
+        // Given
+        when(roleRepository.findAll()).thenReturn(List.of(userRole, adminRole));
+
+        // When
+        roleCatalog.findRoleId("ROLE_USER");
+        roleCatalog.findRoleId("ROLE_ADMIN");
+
+        // Then
+        assertThat(roleCatalog.findRoleId("ROLE_USER")).contains(userRole.getId());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reload once when an unknown role is requested")
+    void testFindRoleId_UnknownRole_ShouldReloadCatalog() {
+        // Given
+        when(roleRepository.findAll()).thenReturn(List.of(userRole), List.of(userRole, adminRole));
+        roleCatalog.refresh();
+
+        // When & Then
+        assertThat(roleCatalog.findRoleId("ROLE_ADMIN")).contains(adminRole.getId());
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should return empty when the role does not exist")
+    void testFindRoleId_MissingRole_ShouldReturnEmpty() {
+        // Given
+        when(roleRepository.findAll()).thenReturn(List.of(userRole));
+
+        // When & Then
+        assertThat(roleCatalog.findRoleId("ROLE_AUDITOR")).isEmpty();
+    }
+}
@@ -0,0 +1,122 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.i2i.usermanagement.service.RabbitUserCacheBroadcaster;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserCacheInvalidationListener;
+import com.i2i.usermanagement.service.UserNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserCacheInvalidationListener class.
+ * Tests applying invalidations of other nodes and clearing the caches around lost connections.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCacheInvalidationListener Unit Tests")
+class UserCacheInvalidationListenerTest {
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private RabbitUserCacheBroadcaster broadcaster;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private UserCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(broadcaster.getNodeId()).thenReturn("this-node");
+        listener = new UserCacheInvalidationListener(userCache, userNameIndex, broadcaster, connectionFactory,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should evict the users changed on another node")
+    void testOnInvalidation_OtherNode_ShouldEvictUsers() {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When
+        listener.onInvalidation(message("other-node", RabbitUserCacheBroadcaster.encode(List.of(userId)), false));
+
+        // Then
+        verify(userCache).evictAll(Set.of(userId));
+        verify(userNameIndex).evictUserIds(Set.of(userId));
+    }
+
+    @Test
+    @DisplayName("Should skip invalidations sent by this node")
+    void testOnInvalidation_OwnMessage_ShouldSkip() {
+        // When
+        listener.onInvalidation(message("this-node", RabbitUserCacheBroadcaster.encode(List.of(UUID.randomUUID())), false));
+
+        // Then
+        verify(userCache, never()).evictAll(any());
+    }
+
+    @Test
+    @DisplayName("Should clear the caches on an invalidate-all")
+    void testOnInvalidation_InvalidateAll_ShouldClearCaches() {
+        // When
+        listener.onInvalidation(message("other-node", new byte[0], true));
+
+        // Then
+        verify(userCache).clear();
+        verify(userNameIndex).clear();
+    }
+
+    @Test
+    @DisplayName("Should clear the caches when the broker connection is lost")
+    void testConnectionClosed_ShouldClearCaches() {
+        // Given
+        ArgumentCaptor<ConnectionListener> connectionListener = ArgumentCaptor.forClass(ConnectionListener.class);
+        verify(connectionFactory).addConnectionListener(connectionListener.capture());
+
+        // When
+        connectionListener.getValue().onClose(mock(Connection.class));
+
+        // Then
+        verify(userCache).clear();
+        verify(userNameIndex).clear();
+    }
+
+    private static Message message(String nodeId, byte[] body, boolean invalidateAll) {
+        MessageProperties properties = new MessageProperties();
+        properties.setAppId(nodeId);
+        if (invalidateAll) {
+            properties.setHeader(RabbitUserCacheBroadcaster.INVALIDATE_ALL_HEADER, true);
+        }
+        return new Message(body, properties);
+    }
+}
@@ -0,0 +1,225 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserCacheBroadcaster;
+import com.i2i.usermanagement.service.UserWriteListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for UserCache class.
+ * Tests read-through caching, size bound, expiry, after-commit eviction, broadcasts, write listeners
+ * and hit ratio metrics.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCache Unit Tests")
+class UserCacheTest {
+
+    @Mock
+    private UserCacheBroadcaster broadcaster;
+
+    @Mock
+    private UserWriteListener writeListener;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(broadcaster, meterRegistry, 2, 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve a cached user and count hits and misses")
+    void testGet_AfterPut_ShouldHit() {
+        // Given
+        UserResponseDTO user = user();
+        assertThat(userCache.get(user.getId())).isEmpty();
+        userCache.put(user, userCache.generation());
+
+        // When & Then
+        assertThat(userCache.get(user.getId())).containsSame(user);
+        assertThat(meterRegistry.get("users.cache.hits").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("users.cache.misses").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("users.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should not cache a user loaded while an eviction happened")
+    void testPut_EvictedDuringLoad_ShouldNotCache() {
+        // Given
+        UserResponseDTO user = user();
+        long generation = userCache.generation();
+        userCache.evict(user.getId());
+
+        // When
+        userCache.put(user, generation);
+
+        // Then
+        assertThat(userCache.get(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest users beyond the maximum size")
+    void testPut_BeyondMaxSize_ShouldEvictOldest() {
+        // Given
+        UserResponseDTO first = user();
+        UserResponseDTO second = user();
+        UserResponseDTO third = user();
+
+        // When
+        userCache.put(first, userCache.generation());
+        userCache.put(second, userCache.generation());
+        userCache.put(third, userCache.generation());
+
+        // Then
+        assertThat(userCache.get(first.getId())).isEmpty();
+        assertThat(userCache.get(second.getId())).isPresent();
+        assertThat(userCache.get(third.getId())).isPresent();
+        assertThat(meterRegistry.get("users.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not serve users after their time to live")
+    void testGet_Expired_ShouldMiss() {
+        // Given
+        userCache = new UserCache(broadcaster, new SimpleMeterRegistry(), 2, 0);
+        UserResponseDTO user = user();
+        userCache.put(user, userCache.generation());
+
+        // When & Then
+        assertThat(userCache.get(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should cache nothing when the maximum size is 0")
+    void testPut_Disabled_ShouldNotCache() {
+        // Given
+        userCache = new UserCache(broadcaster, new SimpleMeterRegistry(), 0, 300);
+        UserResponseDTO user = user();
+
+        // When
+        userCache.put(user, userCache.generation());
+
+        // Then
+        assertThat(userCache.get(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict a user only once the transaction has completed")
+    void testEvictAfterCommit_InTransaction_ShouldEvictOnCompletion() {
+        // Given
+        UserResponseDTO user = user();
+        userCache.put(user, userCache.generation());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        userCache.evictAfterCommit(user.getId());
+
+        // Then
+        assertThat(userCache.get(user.getId())).isPresent();
+        verify(broadcaster, never()).broadcast(any());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(userCache.get(user.getId())).isEmpty();
+        assertThat(meterRegistry.get("users.cache.evictions").counter().count()).isEqualTo(1);
+        verify(broadcaster).broadcast(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should evict users written together once the transaction has completed and broadcast each")
+    void testEvictAllAfterCommit_InTransaction_ShouldEvictAndBroadcastOnCompletion() {
+        // Given
+        UserResponseDTO first = user();
+        UserResponseDTO second = user();
+        userCache.put(first, userCache.generation());
+        userCache.put(second, userCache.generation());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        userCache.evictAllAfterCommit(List.of(first.getId(), second.getId()));
+
+        // Then
+        assertThat(userCache.get(first.getId())).isPresent();
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(userCache.get(first.getId())).isEmpty();
+        assertThat(userCache.get(second.getId())).isEmpty();
+        verify(broadcaster).broadcast(first.getId());
+        verify(broadcaster).broadcast(second.getId());
+    }
+
+    @Test
+    @DisplayName("Should evict users changed on another node without broadcasting them again")
+    void testEvictAll_RemoteInvalidation_ShouldEvictLocally() {
+        // Given
+        UserResponseDTO changed = user();
+        UserResponseDTO unchanged = user();
+        userCache.put(changed, userCache.generation());
+        userCache.put(unchanged, userCache.generation());
+
+        // When
+        userCache.evictAll(List.of(changed.getId()));
+
+        // Then
+        assertThat(userCache.get(changed.getId())).isEmpty();
+        assertThat(userCache.get(unchanged.getId())).isPresent();
+        verify(broadcaster, never()).broadcast(any());
+    }
+
+    @Test
+    @DisplayName("Should tell write listeners about local, remote and missed writes")
+    void testWriteListener_ShouldBeToldAboutWrites() {
+        // Given
+        UUID localId = UUID.randomUUID();
+        UUID remoteId = UUID.randomUUID();
+        userCache.addWriteListener(writeListener);
+
+        // When
+        userCache.evictAfterCommit(localId);
+        userCache.evictAll(List.of(remoteId));
+        userCache.clear();
+
+        // Then
+        verify(writeListener).usersWritten(List.of(localId));
+        verify(writeListener).usersWritten(List.of(remoteId));
+        verify(writeListener).allUsersWritten();
+    }
+
+    private static UserResponseDTO user() {
+        return UserResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .name("cached")
+                .build();
+    }
+}
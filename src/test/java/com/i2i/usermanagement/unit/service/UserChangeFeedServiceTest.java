@@ -0,0 +1,99 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.i2i.usermanagement.dto.UserChangesDTO;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.mapper.UserMapper;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.service.UserChangeFeedService;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserChangeFeedService class.
+ * Tests cursor handling and paging of the user change feed.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserChangeFeedService Unit Tests")
+class UserChangeFeedServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserMapper userMapper;
+
+    private UserChangeFeedService userChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        userChangeFeedService = new UserChangeFeedService(userRepository, userMapper);
+        ReflectionTestUtils.setField(userChangeFeedService, "maxPageSize", 2);
+        when(userMapper.toDTOList(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                .map(user -> new UserResponseDTO())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should return one page and the cursor of its last change when more changes are ready")
+    void testGetChangesSince_MoreThanOnePage_ShouldReturnPageAndCursor() {
+        // Given
+        when(userRepository.findChangedSince(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(changedUser(11), changedUser(12), changedUser(13)));
+
+        // When
+        UserChangesDTO result = userChangeFeedService.getChangesSince(10, 100);
+
+        // Then
+        assertThat(result.getUsers()).hasSize(2);
+        assertThat(result.getNextCursor()).isEqualTo(12);
+        assertThat(result.isHasMore()).isTrue();
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(userRepository).findChangedSince(eq(10L), pageable.capture());
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep the cursor when nothing changed")
+    void testGetChangesSince_NoChanges_ShouldKeepCursor() {
+        // Given
+        when(userRepository.findChangedSince(eq(42L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        UserChangesDTO result = userChangeFeedService.getChangesSince(42, 100);
+
+        // Then
+        assertThat(result.getUsers()).isEmpty();
+        assertThat(result.getNextCursor()).isEqualTo(42);
+        assertThat(result.isHasMore()).isFalse();
+    }
+
+    private static User changedUser(long changeSeq) {
+        User user = TestDataBuilder.buildUser();
+        user.setChangeSeq(changeSeq);
+        return user;
+    }
+}
@@ -0,0 +1,247 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.i2i.usermanagement.config.RabbitMQConfig;
+import com.i2i.usermanagement.config.UserEventRouting;
+import com.i2i.usermanagement.dto.UserEventDTO;
+import com.i2i.usermanagement.entity.OutboxEvent;
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.repository.OutboxEventRepository;
+import com.i2i.usermanagement.repository.UserRepositoryCustom;
+import com.i2i.usermanagement.service.UserEventPublisher;
+import com.i2i.usermanagement.task.OutboxRelay;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserEventPublisher class.
+ * Tests that events are written to the outbox and handed to the relay only after commit.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserEventPublisher Unit Tests")
+class UserEventPublisherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxRelay outboxRelay;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private UserEventPublisher userEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        userEventPublisher = new UserEventPublisher(outboxEventRepository, objectMapper, outboxRelay,
+                new UserEventRouting(0), false);
+        lenient().when(outboxEventRepository.save(any(OutboxEvent.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(outboxEventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Should write a lean USER_CREATED event with the welcome token to the outbox")
+    void testPublishUserCreated_ShouldWriteLeanOutboxEvent() throws Exception {
+        // Given
+        User user = TestDataBuilder.buildUser();
+        user.setId(UUID.randomUUID());
+
+        // When
+        userEventPublisher.publishUserCreated(user, "welcome-token");
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo(RabbitMQConfig.USER_CREATED_ROUTING_KEY);
+        assertThat(captor.getValue().getPayload()).doesNotContain(user.getPassword());
+
+        UserEventDTO event = objectMapper.readValue(captor.getValue().getPayload(), UserEventDTO.class);
+        assertThat(event.getSchemaVersion()).isEqualTo(UserEventDTO.SCHEMA_VERSION);
+        assertThat(event.getEventType()).isEqualTo("USER_CREATED");
+        assertThat(event.getUserId()).isEqualTo(user.getId());
+        assertThat(event.getWelcomeToken()).isEqualTo("welcome-token");
+        assertThat(event.getEventTimestamp()).isNotNull();
+        assertThat(event.getUserEmail()).isNull();
+        assertThat(event.getUserName()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should include user details in USER_CREATED events when configured")
+    void testPublishUserCreated_IncludeDetails_ShouldWriteDetails() throws Exception {
+        // Given
+        userEventPublisher = new UserEventPublisher(outboxEventRepository, objectMapper, outboxRelay,
+                new UserEventRouting(0), true);
+        User user = TestDataBuilder.buildUser();
+        user.setId(UUID.randomUUID());
+
+        // When
+        userEventPublisher.publishUserCreated(user, "welcome-token");
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        UserEventDTO event = objectMapper.readValue(captor.getValue().getPayload(), UserEventDTO.class);
+        assertThat(event.getUserEmail()).isEqualTo(user.getEmail());
+        assertThat(event.getUserName()).isEqualTo(user.getName());
+        assertThat(captor.getValue().getPayload()).doesNotContain(user.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should write USER_DELETED event to the outbox")
+    void testPublishUserDeleted_ShouldWriteOutboxEvent() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When
+        userEventPublisher.publishUserDeleted(userId, "deleted@example.com", "Deleted User");
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo(RabbitMQConfig.USER_DELETED_ROUTING_KEY);
+
+        UserEventDTO event = objectMapper.readValue(captor.getValue().getPayload(), UserEventDTO.class);
+        assertThat(event.getEventType()).isEqualTo("USER_DELETED");
+        assertThat(event.getUserId()).isEqualTo(userId);
+        assertThat(event.getUserEmail()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should write USER_UPDATED event carrying only the changed fields")
+    void testPublishUserUpdated_ShouldWriteChangedFieldsOnly() throws Exception {
+        // Given
+        userEventPublisher = new UserEventPublisher(outboxEventRepository, objectMapper, outboxRelay,
+                new UserEventRouting(0), true);
+        User user = TestDataBuilder.buildUser();
+        user.setId(UUID.randomUUID());
+
+        // When
+        userEventPublisher.publishUserUpdated(user, List.of("email", "password"));
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo(RabbitMQConfig.USER_UPDATED_ROUTING_KEY);
+
+        UserEventDTO event = objectMapper.readValue(captor.getValue().getPayload(), UserEventDTO.class);
+        assertThat(event.getEventType()).isEqualTo("USER_UPDATED");
+        assertThat(event.getUserId()).isEqualTo(user.getId());
+        assertThat(event.getChangedFields()).containsExactly("email", "password");
+        assertThat(event.getUserEmail()).isEqualTo(user.getEmail());
+        assertThat(event.getUserName()).isNull();
+        assertThat(captor.getValue().getPayload()).doesNotContain(user.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should route the event to the partition of its user when partitioned")
+    void testPublishUserDeleted_Partitioned_ShouldUsePartitionRoutingKey() {
+        // Given
+        UserEventRouting routing = new UserEventRouting(4);
+        userEventPublisher = new UserEventPublisher(outboxEventRepository, objectMapper, outboxRelay, routing, false);
+        UUID userId = UUID.randomUUID();
+
+        // When
+        userEventPublisher.publishUserDeleted(userId, "deleted@example.com", "Deleted User");
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getRoutingKey())
+                .isEqualTo(RabbitMQConfig.USER_DELETED_ROUTING_KEY + "." + routing.partitionOf(userId));
+    }
+
+    @Test
+    @DisplayName("Should hand the event to the relay only after the transaction commits")
+    void testPublishUserDeleted_ShouldEnqueueAfterCommit() {
+        // Given
+        userEventPublisher.publishUserDeleted(UUID.randomUUID(), "deleted@example.com", "Deleted User");
+        verify(outboxRelay, never()).enqueue(any(), any());
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        verify(outboxRelay).enqueue(any(OutboxEvent.class), any(UserEventDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should write the USER_DELETED events of a bulk deactivation to the outbox in one batch")
+    void testPublishUsersDeleted_ShouldWriteOutboxEventsTogether() throws Exception {
+        // Given
+        List<UserRepositoryCustom.ChangedUser> users = List.of(
+                new UserRepositoryCustom.ChangedUser(UUID.randomUUID(), "first@example.com", "First"),
+                new UserRepositoryCustom.ChangedUser(UUID.randomUUID(), "second@example.com", "Second"));
+
+        // When
+        userEventPublisher.publishUsersDeleted(users);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+        assertThat(captor.getValue()).hasSize(2)
+                .extracting(OutboxEvent::getRoutingKey).containsOnly(RabbitMQConfig.USER_DELETED_ROUTING_KEY);
+        UserEventDTO event = objectMapper.readValue(captor.getValue().get(1).getPayload(), UserEventDTO.class);
+        assertThat(event.getEventType()).isEqualTo("USER_DELETED");
+        assertThat(event.getUserId()).isEqualTo(users.get(1).id());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        verify(outboxRelay, times(2)).enqueue(any(OutboxEvent.class), any(UserEventDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should write USER_UPDATED events naming isActive for reactivated users")
+    void testPublishUsersReactivated_ShouldWriteIsActiveChange() throws Exception {
+        // Given
+        userEventPublisher = new UserEventPublisher(outboxEventRepository, objectMapper, outboxRelay,
+                new UserEventRouting(0), true);
+        UUID userId = UUID.randomUUID();
+
+        // When
+        userEventPublisher.publishUsersReactivated(
+                List.of(new UserRepositoryCustom.ChangedUser(userId, "back@example.com", "Back")));
+
+        // Then
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        assertThat(captor.getValue().get(0).getRoutingKey()).isEqualTo(RabbitMQConfig.USER_UPDATED_ROUTING_KEY);
+        UserEventDTO event = objectMapper.readValue(captor.getValue().get(0).getPayload(), UserEventDTO.class);
+        assertThat(event.getEventType()).isEqualTo("USER_UPDATED");
+        assertThat(event.getUserId()).isEqualTo(userId);
+        assertThat(event.getChangedFields()).containsExactly("isActive");
+        assertThat(event.getIsActive()).isTrue();
+    }
+}
@@ -0,0 +1,151 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.usermanagement.dto.BulkImportResultDTO;
+import com.i2i.usermanagement.dto.UserCreateDTO;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.service.UserImportService;
+import com.i2i.usermanagement.service.UserService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserImportService class.
+ * Tests streaming NDJSON and CSV imports with a mocked UserService.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportService Unit Tests")
+class UserImportServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        userImportService = new UserImportService(userService, validator, new ObjectMapper());
+        ReflectionTestUtils.setField(userImportService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON rows in bounded batches")
+    void testImportNdjson_ValidRows_ShouldPersistInBatches() throws Exception {
+        // Given
+        when(userService.createBulkUsers(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+        String body = ndjsonRow("user1@example.com") + "\n"
+                + ndjsonRow("user2@example.com") + "\n"
+                + ndjsonRow("user3@example.com") + "\n";
+
+        // When
+        BulkImportResultDTO result = userImportService.importNdjson(stream(body));
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getCreatedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(result.getErrors()).isEmpty();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserCreateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userService, times(2)).createBulkUsers(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(2);
+        assertThat(captor.getAllValues().get(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid NDJSON rows and keep importing")
+    void testImportNdjson_InvalidRows_ShouldReportErrors() throws Exception {
+        // Given
+        when(userService.createBulkUsers(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+        String body = ndjsonRow("not-an-email") + "\n"
+                + "{\"name\":\"Bad Age\",\"email\":\"age@example.com\",\"age\":\"abc\",\"password\":\"secret123\"}\n"
+                + ndjsonRow("valid@example.com") + "\n";
+
+        // When
+        BulkImportResultDTO result = userImportService.importNdjson(stream(body));
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getCreatedCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors().get(0).getRow()).isEqualTo(1);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Email should be valid");
+        assertThat(result.getErrors().get(1).getRow()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should import CSV rows with header and optional empty columns")
+    void testImportCsv_ValidRows_ShouldPersistRows() throws Exception {
+        // Given
+        when(userService.createBulkUsers(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+        String body = "name,email,age,phoneNumber,address,password\n"
+                + "Csv One,csv1@example.com,25,+1234567890,Street 1,secret123\n"
+                + "Csv Two,csv2@example.com,31,,,secret123\n";
+
+        // When
+        BulkImportResultDTO result = userImportService.importCsv(stream(body));
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getCreatedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count rows that fail during persistence")
+    void testImportCsv_PersistenceFailure_ShouldCountFailedRows() throws Exception {
+        // Given
+        when(userService.createBulkUsers(anyList())).thenReturn(List.of());
+        String body = "name,email,age,password\n"
+                + "Csv One,csv1@example.com,25,secret123\n";
+
+        // When
+        BulkImportResultDTO result = userImportService.importCsv(stream(body));
+
+        // Then
+        assertThat(result.getCreatedCount()).isZero();
+        assertThat(result.getFailedCount()).isEqualTo(1);
+    }
+
+    private static String ndjsonRow(String email) {
+        return "{\"name\":\"Import User\",\"email\":\"" + email + "\",\"age\":30,\"password\":\"secret123\"}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<UserResponseDTO> created(List<UserCreateDTO> batch) {
+        return batch.stream()
+                .map(dto -> UserResponseDTO.builder().id(UUID.randomUUID()).name(dto.getName()).build())
+                .collect(Collectors.toList());
+    }
+}
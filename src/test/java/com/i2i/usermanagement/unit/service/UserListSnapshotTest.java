@@ -0,0 +1,213 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.mapper.UserMapper;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserCacheBroadcaster;
+import com.i2i.usermanagement.service.UserListSnapshot;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import com.i2i.usermanagement.util.UserETags;
+import com.i2i.usermanagement.util.UuidV7;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserListSnapshot class.
+ * Tests serving, incremental refreshes and full rebuilds of the user list snapshot.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserListSnapshot Unit Tests")
+class UserListSnapshotTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCacheBroadcaster broadcaster;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private UserCache userCache;
+    private SimpleMeterRegistry meterRegistry;
+    private UserListSnapshot userListSnapshot;
+    private User first;
+    private User second;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(broadcaster, meterRegistry, 10, 300);
+        userListSnapshot = new UserListSnapshot(userRepository, Mappers.getMapper(UserMapper.class), objectMapper,
+                userCache, meterRegistry, transactionManager);
+        first = user("first");
+        second = user("second");
+    }
+
+    @Test
+    @DisplayName("Should build the snapshot once and serve its bytes until a user is written")
+    void testCurrent_NoWrites_ShouldServeSameSnapshot() throws IOException {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(second, first));
+
+        // When
+        UserListSnapshot.Snapshot snapshot = userListSnapshot.current();
+        UserListSnapshot.Snapshot repeated = userListSnapshot.current();
+
+        // Then
+        assertThat(repeated).isSameAs(snapshot);
+        assertThat(snapshot.version()).isEqualTo(1);
+        assertThat(names(snapshot)).containsExactly("first", "second");
+        assertThat(meterRegistry.get("users.snapshot.size").gauge().value()).isEqualTo(2);
+        verify(userRepository, times(1)).findByIsActiveTrue();
+    }
+
+    @Test
+    @DisplayName("Should re-read only the written users and drop deactivated or missing ones")
+    void testCurrent_AfterWrites_ShouldRefreshIncrementally() throws IOException {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(first, second));
+        UserListSnapshot.Snapshot initial = userListSnapshot.current();
+        User renamed = user("renamed");
+        renamed.setId(first.getId());
+        User deactivated = user("second");
+        deactivated.setId(second.getId());
+        deactivated.setIsActive(false);
+        User created = user("created");
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(renamed, deactivated, created));
+
+        // When
+        userCache.evictAfterCommit(first.getId());
+        userCache.evictAll(List.of(second.getId(), created.getId()));
+        UserListSnapshot.Snapshot refreshed = userListSnapshot.current();
+
+        // Then
+        assertThat(refreshed.version()).isEqualTo(2);
+        assertThat(names(refreshed)).containsExactly("renamed", "created");
+        assertThat(refreshed.etag()).isNotEqualTo(initial.etag());
+        assertThat(refreshed.etag()).isEqualTo(etagOf(renamed, created));
+        verify(userRepository, times(1)).findByIsActiveTrue();
+        assertThat(meterRegistry.get("users.snapshot.refreshes").tag("type", "incremental").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read all users again when writes may have been missed")
+    void testCurrent_AfterClear_ShouldRebuild() throws IOException {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(first, second)).thenReturn(List.of(second));
+        userListSnapshot.current();
+
+        // When
+        userCache.clear();
+        UserListSnapshot.Snapshot rebuilt = userListSnapshot.current();
+
+        // Then
+        assertThat(names(rebuilt)).containsExactly("second");
+        assertThat(rebuilt.etag()).isEqualTo(etagOf(second));
+        verify(userRepository, times(2)).findByIsActiveTrue();
+        verify(userRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("Should re-read written users in chunks within a read-only transaction")
+    void testCurrent_ManyWrites_ShouldReadInChunksInReadOnlyTransaction() {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of());
+        userListSnapshot.current();
+        List<UUID> written = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            written.add(UuidV7.next());
+        }
+        when(userRepository.findAllById(anyList())).thenReturn(List.of());
+
+        // When
+        userCache.evictAll(written);
+        userListSnapshot.current();
+
+        // Then
+        ArgumentCaptor<List<UUID>> chunks = ArgumentCaptor.captor();
+        verify(userRepository, times(3)).findAllById(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(50, 50, 20);
+        assertThat(chunks.getAllValues().stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(written);
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).allMatch(TransactionDefinition::isReadOnly);
+    }
+
+    @Test
+    @DisplayName("Should keep written users pending when a refresh fails")
+    void testCurrent_RefreshFails_ShouldRetryChanges() throws IOException {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(first));
+        userListSnapshot.current();
+        when(userRepository.findAllById(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Database unavailable"))
+                .thenReturn(List.of(second));
+        userCache.evictAll(List.of(second.getId()));
+
+        // When
+        assertThatThrownBy(() -> userListSnapshot.current()).isInstanceOf(DataAccessResourceFailureException.class);
+        UserListSnapshot.Snapshot retried = userListSnapshot.current();
+
+        // Then
+        assertThat(names(retried)).containsExactly("first", "second");
+    }
+
+    private List<String> names(UserListSnapshot.Snapshot snapshot) throws IOException {
+        List<UserResponseDTO> users = objectMapper.readValue(snapshot.json(), new TypeReference<>() {
+        });
+        assertThat(users).hasSize(snapshot.size());
+        return users.stream().map(UserResponseDTO::getName).toList();
+    }
+
+    /**
+     * Computes the ETag of a list of users from scratch, as a node that just started would.
+     */
+    private String etagOf(User... users) throws IOException {
+        UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+        long digest = 0;
+        for (User user : users) {
+            digest += UserETags.digest(objectMapper.writeValueAsBytes(userMapper.toDTO(user)));
+        }
+        return UserETags.forUserCollection(digest);
+    }
+
+    private static User user(String name) {
+        User user = TestDataBuilder.buildUser(name, name + "@example.com", true);
+        user.setId(UuidV7.next());
+        return user;
+    }
+}
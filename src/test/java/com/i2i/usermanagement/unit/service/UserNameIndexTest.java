@@ -0,0 +1,99 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.i2i.usermanagement.service.UserNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for UserNameIndex class.
+ * Tests name to ID mapping, its size bound, eviction by user ID and eviction after commit.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("UserNameIndex Unit Tests")
+class UserNameIndexTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserNameIndex userNameIndex = new UserNameIndex(meterRegistry, 2);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve indexed names and keep indexing recent names once full")
+    void testPut_BeyondMaxSize_ShouldEvictAndIndexRecentNames() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        userNameIndex.put("first", UUID.randomUUID());
+        userNameIndex.put("second", UUID.randomUUID());
+
+        // When
+        userNameIndex.put("third", userId);
+
+        // Then
+        assertThat(userNameIndex.findUserId("third")).contains(userId);
+        assertThat(meterRegistry.get("users.name-index.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should remove the names of users changed on another node and keep the others")
+    void testEvictUserIds_ShouldRemoveNamesOfUsers() {
+        // Given
+        UUID changed = UUID.randomUUID();
+        UUID unchanged = UUID.randomUUID();
+        userNameIndex.put("changed", changed);
+        userNameIndex.put("unchanged", unchanged);
+
+        // When
+        userNameIndex.evictUserIds(List.of(changed));
+
+        // Then
+        assertThat(userNameIndex.findUserId("changed")).isEmpty();
+        assertThat(userNameIndex.findUserId("unchanged")).contains(unchanged);
+    }
+
+    @Test
+    @DisplayName("Should index nothing when the maximum size is 0")
+    void testPut_Disabled_ShouldNotIndex() {
+        // Given
+        UserNameIndex disabled = new UserNameIndex(new SimpleMeterRegistry(), 0);
+
+        // When
+        disabled.put("name", UUID.randomUUID());
+
+        // Then
+        assertThat(disabled.findUserId("name")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should remove a name only once the transaction has completed")
+    void testEvictAfterCommit_InTransaction_ShouldRemoveOnCompletion() {
+        // Given
+        userNameIndex.put("renamed", UUID.randomUUID());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        userNameIndex.evictAfterCommit("renamed");
+
+        // Then
+        assertThat(userNameIndex.findUserId("renamed")).isPresent();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(userNameIndex.findUserId("renamed")).isEmpty();
+    }
+}
@@ -1,20 +1,30 @@
 package com.i2i.usermanagement.unit.service;
 
+import com.i2i.usermanagement.dto.BulkUserUpdateRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserUpdateResultDTO;
 import com.i2i.usermanagement.dto.UserCreateDTO;
 import com.i2i.usermanagement.dto.UserResponseDTO;
 import com.i2i.usermanagement.dto.UserUpdateDTO;
 import com.i2i.usermanagement.entity.Role;
 import com.i2i.usermanagement.entity.User;
-import com.i2i.usermanagement.entity.UserRole;
+import com.i2i.usermanagement.exception.PreconditionFailedException;
 import com.i2i.usermanagement.exception.UserAlreadyExistsException;
 import com.i2i.usermanagement.exception.UserNotFoundException;
 import com.i2i.usermanagement.mapper.UserMapper;
 import com.i2i.usermanagement.repository.RoleRepository;
 import com.i2i.usermanagement.repository.UserRepository;
-import com.i2i.usermanagement.repository.UserRoleRepository;
+import com.i2i.usermanagement.repository.UserRepositoryCustom;
+import com.i2i.usermanagement.service.RoleCatalog;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserNameIndex;
+import com.i2i.usermanagement.service.UserEventPublisher;
+import com.i2i.usermanagement.service.WelcomeTokenService;
 import com.i2i.usermanagement.service.impl.UserServiceImpl;
 import com.i2i.usermanagement.task.BulkUserCreationTask;
+import com.i2i.usermanagement.task.BulkUserCreationExecutor;
 import com.i2i.usermanagement.testutil.TestDataBuilder;
+import com.i2i.usermanagement.util.JwtPrincipal;
+import com.i2i.usermanagement.util.UserETags;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,23 +32,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ForkJoinPool;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,7 +80,7 @@ class UserServiceImplTest {
     private RoleRepository roleRepository;
 
     @Mock
-    private UserRoleRepository userRoleRepository;
+    private RoleCatalog roleCatalog;
 
     @Mock
     private UserMapper userMapper;
@@ -70,6 +88,24 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    @Mock
+    private BulkUserCreationExecutor bulkUserCreationExecutor;
+
+    @Mock
+    private WelcomeTokenService welcomeTokenService;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -78,7 +114,6 @@ class UserServiceImplTest {
     private UserResponseDTO testUserResponseDTO;
     private User testUser;
     private Role testRole;
-    private UserRole testUserRole;
     private UUID testUserId;
 
     @BeforeEach
@@ -91,7 +126,7 @@ class UserServiceImplTest {
         testUserResponseDTO = TestDataBuilder.buildUserResponseDTO();
         testUser = TestDataBuilder.buildUser();
         testRole = TestDataBuilder.buildRole("ROLE_USER");
-        testUserRole = TestDataBuilder.buildUserRole(testUser, testRole);
+        testRole.setId(UUID.randomUUID());
         testUserId = UUID.randomUUID();
     }
 
@@ -105,8 +140,9 @@ class UserServiceImplTest {
         when(passwordEncoder.encode(testUserCreateDTO.getPassword()))
                 .thenReturn("hashedPassword");
         when(userRepository.save(testUser)).thenReturn(testUser);
-        when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.of(testRole));
-        when(userRoleRepository.save(any(UserRole.class))).thenReturn(testUserRole);
+        when(roleCatalog.findRoleId("ROLE_USER")).thenReturn(Optional.of(testRole.getId()));
+        when(roleRepository.getReferenceById(testRole.getId())).thenReturn(testRole);
+        when(welcomeTokenService.issue(testUser.getId())).thenReturn("welcome-token");
 
         // When
         UserResponseDTO result = userService.createUser(testUserCreateDTO);
@@ -115,15 +151,43 @@ class UserServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(testUser.getId());
         assertThat(result.getName()).isEqualTo(testUser.getName());
-
+        assertThat(testUser.getRoles()).containsExactly(testRole);
 
         // Verify interactions
         verify(userRepository).existsByEmailAndIsActiveTrue(testUserCreateDTO.getEmail());
         verify(userMapper).toEntity(testUserCreateDTO);
         verify(passwordEncoder).encode(testUserCreateDTO.getPassword());
         verify(userRepository).save(testUser);
-        verify(roleRepository).findByName("ROLE_USER");
-        verify(userRoleRepository).save(any(UserRole.class));
+        verify(roleCatalog).findRoleId("ROLE_USER");
+        verify(roleRepository).getReferenceById(testRole.getId());
+        verify(roleRepository, never()).findByName(anyString());
+        verify(userEventPublisher).publishUserCreated(testUser, "welcome-token");
+    }
+
+    @Test
+    @DisplayName("Should return details of a deactivated user")
+    void testGetUserDetails_InactiveUser_ShouldReturnUser() {
+        // Given
+        testUser.setIsActive(false);
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userMapper.toDTO(testUser)).thenReturn(testUserResponseDTO);
+
+        // When
+        UserResponseDTO result = userService.getUserDetails(testUserId);
+
+        // Then
+        assertThat(result).isEqualTo(testUserResponseDTO);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when user details are requested for an unknown user")
+    void testGetUserDetails_UserNotFound_ShouldThrowException() {
+        // Given
+        when(userRepository.findById(testUserId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> userService.getUserDetails(testUserId))
+                .isInstanceOf(UserNotFoundException.class);
     }
 
     @Test
@@ -152,7 +216,7 @@ class UserServiceImplTest {
         when(passwordEncoder.encode(testUserCreateDTO.getPassword()))
                 .thenReturn("hashedPassword");
         when(userRepository.save(testUser)).thenReturn(testUser);
-        when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.empty());
+        when(roleCatalog.findRoleId("ROLE_USER")).thenReturn(Optional.empty());
 
         // When
         UserResponseDTO result = userService.createUser(testUserCreateDTO);
@@ -161,36 +225,15 @@ class UserServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(testUser.getId());
         assertThat(result.getName()).isEqualTo(testUser.getName());
+        assertThat(testUser.getRoles()).isEmpty();
 
         // Verify interactions
         verify(userRepository).existsByEmailAndIsActiveTrue(testUserCreateDTO.getEmail());
         verify(userMapper).toEntity(testUserCreateDTO);
         verify(passwordEncoder).encode(testUserCreateDTO.getPassword());
         verify(userRepository).save(testUser);
-        verify(roleRepository).findByName("ROLE_USER");
-    }
-
-    @Test
-    @DisplayName("Should get all users successfully")
-    void testGetAllUsers_ShouldReturnAllUsers() {
-        // Given
-        List<User> users = TestDataBuilder.buildUserList(3);
-        List<UserResponseDTO> userResponseDTOs = TestDataBuilder.buildUserResponseDTOList(3);
-
-        when(userRepository.findByIsActiveTrue()).thenReturn(users);
-        when(userMapper.toDTOList(users)).thenReturn(userResponseDTOs);
-
-        // When
-        List<UserResponseDTO> result = userService.getAllUsers();
-
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(3);
-        assertThat(result).containsExactlyElementsOf(userResponseDTOs);
-
-        // Verify interactions
-        verify(userRepository).findByIsActiveTrue();
-        verify(userMapper).toDTOList(users);
+        verify(roleCatalog).findRoleId("ROLE_USER");
+        verify(roleRepository, never()).getReferenceById(any(UUID.class));
     }
 
     @Test
@@ -212,6 +255,23 @@ class UserServiceImplTest {
         // Verify interactions
         verify(userRepository).findByIdAndIsActiveTrue(testUserId);
         verify(userMapper).toDTO(testUser);
+        verify(userCache).put(testUserResponseDTO, 0L);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached user by ID as admin without reading the database")
+    void testGetUserById_AsAdmin_Cached_ShouldSkipDatabase() {
+        // Given
+        mockAdminAuthentication();
+        when(userCache.get(testUserId)).thenReturn(Optional.of(testUserResponseDTO));
+
+        // When
+        UserResponseDTO result = userService.getUserById(testUserId);
+
+        // Then
+        assertThat(result).isSameAs(testUserResponseDTO);
+        verify(userRepository, never()).findByIdAndIsActiveTrue(any());
+        verify(userCache, never()).put(any(), anyLong());
     }
 
     @Test
@@ -233,6 +293,88 @@ class UserServiceImplTest {
         // Verify interactions
         verify(userRepository).findByNameAndIsActiveTrue("testuser");
         verify(userMapper).toDTO(testUser);
+        verify(userNameIndex).put("testuser", testUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should get own data by the user ID from the token without reading by name")
+    void testGetUserById_AsUser_TokenWithUserId_ShouldReadById() {
+        // Given
+        mockUserAuthentication(testUserId);
+        when(userRepository.findByIdAndIsActiveTrue(testUserId)).thenReturn(Optional.of(testUser));
+        when(userMapper.toDTO(testUser)).thenReturn(testUserResponseDTO);
+
+        // When
+        UserResponseDTO result = userService.getUserById(UUID.randomUUID());
+
+        // Then
+        assertThat(result).isSameAs(testUserResponseDTO);
+        verify(userRepository, never()).findByNameAndIsActiveTrue(anyString());
+        verify(userCache).put(testUserResponseDTO, 0L);
+    }
+
+    @Test
+    @DisplayName("Should resolve a token without user ID through the name index")
+    void testGetUserById_AsUser_IndexedName_ShouldReadById() {
+        // Given
+        mockUserAuthentication();
+        when(userNameIndex.findUserId("testuser")).thenReturn(Optional.of(testUserId));
+        when(userRepository.findByIdAndIsActiveTrue(testUserId)).thenReturn(Optional.of(testUser));
+        when(userMapper.toDTO(testUser)).thenReturn(testUserResponseDTO);
+
+        // When
+        UserResponseDTO result = userService.getUserById(testUserId);
+
+        // Then
+        assertThat(result).isSameAs(testUserResponseDTO);
+        verify(userRepository, never()).findByNameAndIsActiveTrue(anyString());
+    }
+
+    @Test
+    @DisplayName("Should resolve the ETag of a user from its version alone, without loading or mapping the user")
+    void testGetUserETag_AsAdmin_NotCached_ShouldReadVersionOnly() {
+        // Given
+        mockAdminAuthentication();
+        when(userRepository.findActiveVersionById(testUserId)).thenReturn(Optional.of(3L));
+
+        // When
+        Optional<String> etag = userService.getUserETag(testUserId);
+
+        // Then
+        assertThat(etag).contains(UserETags.forUser(testUserId, 3L));
+        verify(userRepository, never()).findByIdAndIsActiveTrue(any());
+        verify(userMapper, never()).toDTO(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should resolve the ETag of a cached user without reading the database")
+    void testGetUserETag_AsAdmin_Cached_ShouldSkipDatabase() {
+        // Given
+        mockAdminAuthentication();
+        testUserResponseDTO.setVersion(5L);
+        when(userCache.get(testUserId)).thenReturn(Optional.of(testUserResponseDTO));
+
+        // When
+        Optional<String> etag = userService.getUserETag(testUserId);
+
+        // Then
+        assertThat(etag).contains(UserETags.forUser(testUserId, 5L));
+        verify(userRepository, never()).findActiveVersionById(any());
+    }
+
+    @Test
+    @DisplayName("Should resolve the ETag of a regular user's own data and none for tokens resolved only by name")
+    void testGetUserETag_AsUser_ShouldUseOwnId() {
+        // Given
+        UUID ownId = UUID.randomUUID();
+        mockUserAuthentication(ownId);
+        when(userRepository.findActiveVersionById(ownId)).thenReturn(Optional.of(1L));
+
+        // When & Then
+        assertThat(userService.getUserETag(testUserId)).contains(UserETags.forUser(ownId, 1L));
+        mockUserAuthentication();
+        assertThat(userService.getUserETag(testUserId)).isEmpty();
+        verify(userRepository, never()).findActiveVersionById(testUserId);
     }
 
     @Test
@@ -282,11 +424,11 @@ class UserServiceImplTest {
                 .thenReturn(false);
         when(passwordEncoder.encode(testUserCreateDTO.getPassword()))
                 .thenReturn("hashedPassword");
-        when(userRepository.save(existingUser)).thenReturn(existingUser);
+        when(userRepository.saveAndFlush(existingUser)).thenReturn(existingUser);
         when(userMapper.toDTO(existingUser)).thenReturn(testUserResponseDTO);
 
         // When
-        UserResponseDTO result = userService.updateUser(testUserId, testUserCreateDTO);
+        UserResponseDTO result = userService.updateUser(testUserId, testUserCreateDTO, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -296,8 +438,96 @@ class UserServiceImplTest {
         verify(userRepository).findByIdAndIsActiveTrue(testUserId);
         verify(userRepository).existsByEmailAndIsActiveTrue(testUserCreateDTO.getEmail());
         verify(passwordEncoder).encode(testUserCreateDTO.getPassword());
-        verify(userRepository).save(existingUser);
+        verify(userRepository).saveAndFlush(existingUser);
         verify(userMapper).toDTO(existingUser);
+        verify(userCache).evictAfterCommit(existingUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should remove the previous name from the index when a user is renamed")
+    void testUpdateUser_Renamed_ShouldEvictPreviousName() {
+        // Given
+        User existingUser = TestDataBuilder.buildUser();
+        existingUser.setName("previous-name");
+        when(userRepository.findByIdAndIsActiveTrue(testUserId)).thenReturn(Optional.of(existingUser));
+        when(userRepository.saveAndFlush(existingUser)).thenReturn(existingUser);
+
+        // When
+        userService.updateUser(testUserId, testUserCreateDTO, null);
+
+        // Then
+        verify(userNameIndex).evictAfterCommit("previous-name");
+    }
+
+    @Test
+    @DisplayName("Should update user when If-Match holds its current ETag")
+    void testUpdateUser_IfMatchCurrent_ShouldUpdateUser() {
+        // Given
+        User existingUser = TestDataBuilder.buildUser();
+        existingUser.setId(testUserId);
+        existingUser.setVersion(3L);
+        String etag = UserETags.forUser(testUserId, existingUser.getVersion());
+        when(userRepository.findByIdAndIsActiveTrue(testUserId)).thenReturn(Optional.of(existingUser));
+        when(userRepository.saveAndFlush(existingUser)).thenReturn(existingUser);
+        when(userMapper.toDTO(existingUser)).thenReturn(testUserResponseDTO);
+
+        // When
+        UserResponseDTO result = userService.updateUser(testUserId, testUserCreateDTO, "\"stale\", " + etag);
+
+        // Then
+        assertThat(result).isEqualTo(testUserResponseDTO);
+        verify(userRepository).saveAndFlush(existingUser);
+    }
+
+    @Test
+    @DisplayName("Should reject update when If-Match no longer holds the current ETag")
+    void testUpdateUser_IfMatchStale_ShouldThrowException() {
+        // Given
+        User existingUser = TestDataBuilder.buildUser();
+        existingUser.setId(testUserId);
+        existingUser.setVersion(3L);
+        String staleETag = UserETags.forUser(testUserId, 2L);
+        when(userRepository.findByIdAndIsActiveTrue(testUserId)).thenReturn(Optional.of(existingUser));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateUser(testUserId, testUserCreateDTO, staleETag))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+        verify(userCache, never()).evictAfterCommit(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should reject partial update of own data when If-Match no longer holds the current ETag")
+    void testUpdateUserPartially_AsUser_IfMatchStale_ShouldThrowException() {
+        // Given
+        User existingUser = TestDataBuilder.buildUser();
+        existingUser.setId(testUserId);
+        existingUser.setVersion(3L);
+        mockUserAuthentication(testUserId);
+        when(userRepository.findByIdAndIsActiveTrue(testUserId)).thenReturn(Optional.of(existingUser));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateUserPartially(testUserId, testUserUpdateDTO, "\"stale\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should fail without publishing or evicting when the user was updated concurrently")
+    void testUpdateUser_ConcurrentUpdate_ShouldThrowException() {
+        // Given
+        User existingUser = TestDataBuilder.buildUser();
+        existingUser.setId(testUserId);
+        existingUser.setVersion(3L);
+        when(userRepository.findByIdAndIsActiveTrue(testUserId)).thenReturn(Optional.of(existingUser));
+        when(userRepository.saveAndFlush(existingUser))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, testUserId));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateUser(testUserId, testUserCreateDTO, null))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(userEventPublisher, never()).publishUserUpdated(any(User.class), any());
+        verify(userCache, never()).evictAfterCommit(any(UUID.class));
     }
 
 
@@ -312,11 +542,11 @@ class UserServiceImplTest {
                 .thenReturn(false);
         when(passwordEncoder.encode(testUserUpdateDTO.getPassword()))
                 .thenReturn("hashedPassword");
-        when(userRepository.save(testUser)).thenReturn(testUser);
+        when(userRepository.saveAndFlush(testUser)).thenReturn(testUser);
         when(userMapper.toDTO(testUser)).thenReturn(testUserResponseDTO);
 
         // When
-        UserResponseDTO result = userService.updateUserPartially(testUserId, testUserUpdateDTO);
+        UserResponseDTO result = userService.updateUserPartially(testUserId, testUserUpdateDTO, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -326,7 +556,7 @@ class UserServiceImplTest {
         verify(userRepository).findByIdAndIsActiveTrue(testUserId);
         verify(userRepository).existsByEmailAndIsActiveTrue(testUserUpdateDTO.getEmail());
         verify(passwordEncoder).encode(testUserUpdateDTO.getPassword());
-        verify(userRepository).save(testUser);
+        verify(userRepository).saveAndFlush(testUser);
         verify(userMapper).toDTO(testUser);
     }
 
@@ -341,11 +571,12 @@ class UserServiceImplTest {
 
         when(userRepository.findByNameAndIsActiveTrue("testuser"))
                 .thenReturn(Optional.of(testUser));
-        when(userRepository.save(testUser)).thenReturn(testUser);
+        when(userRepository.findDirtyFields(testUser)).thenReturn(List.of("phoneNumber", "address"));
+        when(userRepository.saveAndFlush(testUser)).thenReturn(testUser);
         when(userMapper.toDTO(testUser)).thenReturn(testUserResponseDTO);
 
         // When
-        UserResponseDTO result = userService.updateUserPartially(testUserId, limitedUpdateDTO);
+        UserResponseDTO result = userService.updateUserPartially(testUserId, limitedUpdateDTO, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -353,8 +584,28 @@ class UserServiceImplTest {
 
         // Verify interactions
         verify(userRepository).findByNameAndIsActiveTrue("testuser");
-        verify(userRepository).save(testUser);
+        verify(userRepository).saveAndFlush(testUser);
         verify(userMapper).toDTO(testUser);
+        verify(userEventPublisher).publishUserUpdated(testUser, List.of("phoneNumber", "address"));
+    }
+
+    @Test
+    @DisplayName("Should not publish an update event when nothing changed")
+    void testUpdateUserPartially_NoChanges_ShouldNotPublishEvent() {
+        // Given
+        mockUserAuthentication();
+        when(userRepository.findByNameAndIsActiveTrue("testuser"))
+                .thenReturn(Optional.of(testUser));
+        when(userRepository.findDirtyFields(testUser)).thenReturn(List.of());
+        when(userRepository.saveAndFlush(testUser)).thenReturn(testUser);
+        when(userMapper.toDTO(testUser)).thenReturn(testUserResponseDTO);
+
+        // When
+        userService.updateUserPartially(testUserId, TestDataBuilder.buildPartialUserUpdateDTO(null, null), null);
+
+        // Then
+        verify(userRepository).saveAndFlush(testUser);
+        verify(userEventPublisher, never()).publishUserUpdated(any(User.class), any());
     }
 
     @Test
@@ -371,11 +622,11 @@ class UserServiceImplTest {
 
         when(userRepository.findByNameAndIsActiveTrue("testuser"))
                 .thenReturn(Optional.of(testUser));
-        when(userRepository.save(testUser)).thenReturn(testUser);
+        when(userRepository.saveAndFlush(testUser)).thenReturn(testUser);
         when(userMapper.toDTO(testUser)).thenReturn(testUserResponseDTO);
 
         // When
-        UserResponseDTO result = userService.updateUserPartially(testUserId, restrictedUpdateDTO);
+        UserResponseDTO result = userService.updateUserPartially(testUserId, restrictedUpdateDTO, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -383,31 +634,131 @@ class UserServiceImplTest {
 
         // Verify interactions
         verify(userRepository).findByNameAndIsActiveTrue("testuser");
-        verify(userRepository).save(testUser);
+        verify(userRepository).saveAndFlush(testUser);
         verify(userMapper).toDTO(testUser);
     }
 
+    @Test
+    @DisplayName("Should update users in bulk as admin with one read and one flush, reporting each outcome")
+    void testUpdateUsersPartially_AsAdmin_ShouldReportOutcomePerUser() {
+        // Given
+        mockAdminAuthentication();
+        User renamed = TestDataBuilder.buildUser("renamed", "renamed@example.com", true);
+        renamed.setId(UUID.randomUUID());
+        renamed.setVersion(1L);
+        User conflicting = TestDataBuilder.buildUser("conflicting", "conflicting@example.com", true);
+        conflicting.setId(UUID.randomUUID());
+        conflicting.setVersion(1L);
+        User stale = TestDataBuilder.buildUser("stale", "stale@example.com", true);
+        stale.setId(UUID.randomUUID());
+        stale.setVersion(2L);
+        User inactive = TestDataBuilder.buildUser("inactive", "inactive@example.com", false);
+        inactive.setId(UUID.randomUUID());
+        UUID missingId = UUID.randomUUID();
+        BulkUserUpdateRequestDTO request = BulkUserUpdateRequestDTO.builder()
+                .updates(List.of(
+                        new BulkUserUpdateRequestDTO.UserUpdate(renamed.getId(), null,
+                                TestDataBuilder.buildPartialUserUpdateDTO("New Name", null)),
+                        new BulkUserUpdateRequestDTO.UserUpdate(conflicting.getId(), null,
+                                TestDataBuilder.buildPartialUserUpdateDTO(null, "taken@example.com")),
+                        new BulkUserUpdateRequestDTO.UserUpdate(stale.getId(), UserETags.forUser(stale.getId(), 1L),
+                                TestDataBuilder.buildPartialUserUpdateDTO("Stale Name", null)),
+                        new BulkUserUpdateRequestDTO.UserUpdate(inactive.getId(), null,
+                                TestDataBuilder.buildPartialUserUpdateDTO("Inactive Name", null)),
+                        new BulkUserUpdateRequestDTO.UserUpdate(missingId, null,
+                                TestDataBuilder.buildPartialUserUpdateDTO("Missing Name", null))))
+                .build();
+        when(userRepository.findAllById(List.of(renamed.getId(), conflicting.getId(), stale.getId(),
+                inactive.getId(), missingId))).thenReturn(List.of(renamed, conflicting, stale, inactive));
+        when(userRepository.findActiveEmails(Set.of("taken@example.com"))).thenReturn(List.of("taken@example.com"));
+        when(userRepository.findDirtyFields(renamed)).thenReturn(List.of("name"));
+        when(userMapper.toDTO(renamed)).thenReturn(testUserResponseDTO);
+
+        // When
+        BulkUserUpdateResultDTO result = userService.updateUsersPartially(request);
+
+        // Then
+        assertThat(result.getOutcomes()).extracting(BulkUserUpdateResultDTO.UserOutcome::outcome).containsExactly(
+                BulkUserUpdateResultDTO.Outcome.UPDATED,
+                BulkUserUpdateResultDTO.Outcome.EMAIL_CONFLICT,
+                BulkUserUpdateResultDTO.Outcome.PRECONDITION_FAILED,
+                BulkUserUpdateResultDTO.Outcome.NOT_FOUND,
+                BulkUserUpdateResultDTO.Outcome.NOT_FOUND);
+        assertThat(result.getOutcomes().get(0).user()).isEqualTo(testUserResponseDTO);
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getRejectedCount()).isEqualTo(4);
+        assertThat(renamed.getName()).isEqualTo("New Name");
+        assertThat(conflicting.getEmail()).isEqualTo("conflicting@example.com");
+        assertThat(stale.getName()).isEqualTo("stale");
+
+        verify(userRepository, times(1)).flush();
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+        verify(userRepository, never()).findByIdAndIsActiveTrue(any(UUID.class));
+        verify(userEventPublisher).publishUsersUpdated(
+                List.of(new UserEventPublisher.UserChanges(renamed, List.of("name"))));
+        verify(userCache).evictAllAfterCommit(Set.of(renamed.getId()));
+        verify(userNameIndex).evictAfterCommit("renamed");
+    }
+
+    @Test
+    @DisplayName("Should only let a regular user update their own phone and address in bulk")
+    void testUpdateUsersPartially_AsUser_ShouldRejectOtherUsersAndRestrictedFields() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        mockUserAuthentication(userId);
+        testUser.setId(userId);
+        UUID otherUserId = UUID.randomUUID();
+        UserUpdateDTO ownChanges = TestDataBuilder.buildUserUpdateDTO();
+        BulkUserUpdateRequestDTO request = BulkUserUpdateRequestDTO.builder()
+                .updates(List.of(
+                        new BulkUserUpdateRequestDTO.UserUpdate(otherUserId, null, TestDataBuilder.buildUserUpdateDTO()),
+                        new BulkUserUpdateRequestDTO.UserUpdate(userId, null, ownChanges)))
+                .build();
+        when(userRepository.findByIdAndIsActiveTrue(userId)).thenReturn(Optional.of(testUser));
+        when(userRepository.findDirtyFields(testUser)).thenReturn(List.of("phoneNumber", "address"));
+        when(userMapper.toDTO(testUser)).thenReturn(testUserResponseDTO);
+
+        // When
+        BulkUserUpdateResultDTO result = userService.updateUsersPartially(request);
+
+        // Then
+        assertThat(result.getOutcomes()).extracting(BulkUserUpdateResultDTO.UserOutcome::outcome).containsExactly(
+                BulkUserUpdateResultDTO.Outcome.FORBIDDEN,
+                BulkUserUpdateResultDTO.Outcome.UPDATED);
+        assertThat(testUser.getPhoneNumber()).isEqualTo(ownChanges.getPhoneNumber());
+        assertThat(testUser.getAddress()).isEqualTo(ownChanges.getAddress());
+        assertThat(testUser.getName()).isEqualTo(TestDataBuilder.buildUser().getName());
+        assertThat(testUser.getEmail()).isEqualTo(TestDataBuilder.buildUser().getEmail());
+        verify(userRepository, never()).findAllById(any());
+        verify(userRepository, never()).findActiveEmails(any());
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userNameIndex, never()).evictAfterCommit(anyString());
+    }
+
     @Test
     @DisplayName("Should delete user successfully")
     void testDeleteUser_ValidId_ShouldDeleteUser() {
         // Given
-        when(userRepository.findByIdAndIsActiveTrue(testUserId))
-                .thenReturn(Optional.of(testUser));
+        when(userRepository.softDeleteReturning(testUserId))
+                .thenReturn(Optional.of(new UserRepositoryCustom.ChangedUser(testUserId, testUser.getEmail(), testUser.getName())));
 
         // When
         userService.deleteUser(testUserId);
 
         // Then
         // Verify interactions
-        verify(userRepository).findByIdAndIsActiveTrue(testUserId);
-        verify(userRepository).softDeleteById(testUserId);
+        verify(userRepository).softDeleteReturning(testUserId);
+        verify(userRepository, never()).findByIdAndIsActiveTrue(any(UUID.class));
+        verify(userEventPublisher).publishUserDeleted(testUserId, testUser.getEmail(), testUser.getName());
+        verify(userCache).evictAfterCommit(testUserId);
+        verify(userNameIndex).evictAfterCommit(testUser.getName());
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent user")
     void testDeleteUser_UserNotFound_ShouldThrowException() {
         // Given
-        when(userRepository.findByIdAndIsActiveTrue(testUserId))
+        when(userRepository.softDeleteReturning(testUserId))
                 .thenReturn(Optional.empty());
 
         // When & Then
@@ -416,7 +767,8 @@ class UserServiceImplTest {
                 .hasMessage("User not found with ID: " + testUserId);
 
         // Verify interactions
-        verify(userRepository).findByIdAndIsActiveTrue(testUserId);
+        verify(userRepository).softDeleteReturning(testUserId);
+        verify(userEventPublisher, never()).publishUserDeleted(any(UUID.class), anyString(), anyString());
     }
 
     @Test
@@ -431,6 +783,22 @@ class UserServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
+        verify(bulkUserCreationExecutor, never()).createAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should run bulk user creation on the bulk executor")
+    void testCreateBulkUsers_ValidList_ShouldRunOnBulkExecutor() {
+        // Given
+        List<UserCreateDTO> userCreateDTOs = List.of(testUserCreateDTO);
+        when(bulkUserCreationExecutor.createAll(any(), any())).thenReturn(List.of(testUserResponseDTO));
+
+        // When
+        List<UserResponseDTO> result = userService.createBulkUsers(userCreateDTOs);
+
+        // Then
+        assertThat(result).containsExactly(testUserResponseDTO);
+        verify(bulkUserCreationExecutor).createAll(any(), any());
     }
 
     @Test
@@ -441,7 +809,7 @@ class UserServiceImplTest {
 
         // When & Then
         assertThatThrownBy(() -> userService.createBulkUsers(nullUserCreateDTOs))
-                .isInstanceOf(Exception.class); // ForkJoinPool will throw exception for null
+                .isInstanceOf(Exception.class);
     }
 
     // Helper methods for mocking authentication
@@ -484,6 +852,11 @@ class UserServiceImplTest {
         SecurityContextHolder.getContext().setAuthentication(auth);
     }
 
+    private void mockUserAuthentication(UUID userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new JwtPrincipal(userId, "testuser"), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
     private void mockUserAuthentication() {
         Authentication auth = new Authentication() {
             @Override
@@ -0,0 +1,125 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.i2i.usermanagement.dto.BulkUserStatusRequestDTO;
+import com.i2i.usermanagement.dto.BulkUserStatusResultDTO;
+import com.i2i.usermanagement.dto.BulkUserStatusResultDTO.Outcome;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.repository.UserRepositoryCustom.ChangedUser;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserEventPublisher;
+import com.i2i.usermanagement.service.UserNameIndex;
+import com.i2i.usermanagement.service.UserStatusService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserStatusService class.
+ * Tests chunked bulk deactivation and reactivation with a mocked repository.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatusService Unit Tests")
+class UserStatusServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserStatusService userStatusService;
+
+    @BeforeEach
+    void setUp() {
+        userStatusService = new UserStatusService(userRepository, userEventPublisher, userCache, userNameIndex,
+                transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("Should deactivate users in chunks and report the outcome of every requested ID")
+    void testDeactivateUsers_ByIds_ShouldReportOutcomePerId() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID alreadyInactive = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        ChangedUser changed = new ChangedUser(first, "first@example.com", "first");
+        when(userRepository.setActiveReturning(List.of(first, alreadyInactive), false)).thenReturn(List.of(changed));
+        when(userRepository.findExistingIds(List.of(alreadyInactive))).thenReturn(List.of(alreadyInactive));
+        when(userRepository.setActiveReturning(List.of(missing), false)).thenReturn(List.of());
+        when(userRepository.findExistingIds(List.of(missing))).thenReturn(List.of());
+        BulkUserStatusRequestDTO request = BulkUserStatusRequestDTO.builder()
+                .ids(List.of(first, alreadyInactive, first, missing))
+                .build();
+
+        // When
+        BulkUserStatusResultDTO result = userStatusService.deactivateUsers(request);
+
+        // Then
+        assertThat(result.getOutcomes()).containsExactly(
+                new BulkUserStatusResultDTO.UserOutcome(first, Outcome.CHANGED),
+                new BulkUserStatusResultDTO.UserOutcome(alreadyInactive, Outcome.UNCHANGED),
+                new BulkUserStatusResultDTO.UserOutcome(missing, Outcome.NOT_FOUND));
+        assertThat(result.getChangedCount()).isEqualTo(1);
+        assertThat(result.getUnchangedCount()).isEqualTo(1);
+        assertThat(result.getNotFoundCount()).isEqualTo(1);
+        verify(userEventPublisher, times(1)).publishUsersDeleted(List.of(changed));
+        verify(userCache).evictAllAfterCommit(List.of(first));
+        verify(userNameIndex).evictAfterCommit("first");
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should reactivate the users of an email domain chunk by chunk until none are left")
+    void testReactivateUsers_ByEmailDomain_ShouldRepeatUntilLastChunk() {
+        // Given
+        List<ChangedUser> fullChunk = List.of(
+                new ChangedUser(UUID.randomUUID(), "a@example.com", "a"),
+                new ChangedUser(UUID.randomUUID(), "b@example.com", "b"));
+        List<ChangedUser> lastChunk = List.of(new ChangedUser(UUID.randomUUID(), "c@example.com", "c"));
+        when(userRepository.setActiveByEmailDomainReturning("example.com", true, 2))
+                .thenReturn(fullChunk)
+                .thenReturn(lastChunk);
+        BulkUserStatusRequestDTO request = BulkUserStatusRequestDTO.builder().emailDomain("example.com").build();
+
+        // When
+        BulkUserStatusResultDTO result = userStatusService.reactivateUsers(request);
+
+        // Then
+        assertThat(result.getChangedCount()).isEqualTo(3);
+        assertThat(result.getOutcomes()).extracting(BulkUserStatusResultDTO.UserOutcome::outcome)
+                .containsOnly(Outcome.CHANGED);
+        verify(userEventPublisher).publishUsersReactivated(fullChunk);
+        verify(userEventPublisher).publishUsersReactivated(lastChunk);
+        verify(userEventPublisher, never()).publishUsersDeleted(anyList());
+        verify(userNameIndex, never()).evictAfterCommit(any(String.class));
+        verify(userCache, times(2)).evictAllAfterCommit(anyList());
+    }
+}
@@ -0,0 +1,186 @@
+package com.i2i.usermanagement.unit.service;
+
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.entity.WelcomeToken;
+import com.i2i.usermanagement.exception.AuthenticationException;
+import com.i2i.usermanagement.mapper.UserMapper;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.repository.WelcomeTokenRepository;
+import com.i2i.usermanagement.service.UserCache;
+import com.i2i.usermanagement.service.UserCacheBroadcaster;
+import com.i2i.usermanagement.service.UserEventPublisher;
+import com.i2i.usermanagement.service.WelcomeTokenService;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import com.i2i.usermanagement.util.UserETags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for WelcomeTokenService class.
+ * Tests issuing hashed welcome tokens and redeeming them once.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WelcomeTokenService Unit Tests")
+class WelcomeTokenServiceTest {
+
+    @Mock
+    private WelcomeTokenRepository welcomeTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserCacheBroadcaster broadcaster;
+
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    private UserCache userCache;
+    private WelcomeTokenService welcomeTokenService;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(broadcaster, new SimpleMeterRegistry(), 10, 300);
+        welcomeTokenService = new WelcomeTokenService(welcomeTokenRepository, userRepository, passwordEncoder,
+                userCache, userEventPublisher);
+        ReflectionTestUtils.setField(welcomeTokenService, "ttlHours", 72L);
+    }
+
+    @Test
+    @DisplayName("Should issue a random token and store only its hash")
+    void testIssue_ShouldStoreHashedToken() {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When
+        String token = welcomeTokenService.issue(userId);
+        String otherToken = welcomeTokenService.issue(userId);
+
+        // Then
+        ArgumentCaptor<WelcomeToken> captor = ArgumentCaptor.forClass(WelcomeToken.class);
+        verify(welcomeTokenRepository, times(2)).save(captor.capture());
+        WelcomeToken stored = captor.getAllValues().get(0);
+        assertThat(token).hasSize(43).isNotEqualTo(otherToken);
+        assertThat(stored.getTokenHash()).hasSize(64).doesNotContain(token);
+        assertThat(stored.getUserId()).isEqualTo(userId);
+        assertThat(stored.getExpiresAt()).isAfter(LocalDateTime.now().plusHours(71));
+    }
+
+    @Test
+    @DisplayName("Should set the password, consume the token and publish the update when redeemed")
+    void testRedeem_ValidToken_ShouldSetPasswordAndDeleteToken() {
+        // Given
+        User user = TestDataBuilder.buildUser();
+        user.setId(UUID.randomUUID());
+        String token = welcomeTokenService.issue(user.getId());
+        WelcomeToken stored = storedToken();
+        when(welcomeTokenRepository.findById(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(userRepository.findByIdAndIsActiveTrue(user.getId())).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode("newPassword123")).thenReturn("hashedPassword");
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
+
+        // When
+        welcomeTokenService.redeem(token, "newPassword123");
+
+        // Then
+        assertThat(user.getPassword()).isEqualTo("hashedPassword");
+        verify(welcomeTokenRepository).delete(stored);
+        verify(userEventPublisher).publishUserUpdated(user, List.of("password"));
+    }
+
+    @Test
+    @DisplayName("Should evict the user when redeemed, so the next read serves the new version and ETag")
+    void testRedeem_CachedUser_ShouldEvictSoETagChanges() {
+        // Given
+        UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+        User user = TestDataBuilder.buildUser();
+        user.setId(UUID.randomUUID());
+        user.setVersion(0L);
+        userCache.put(userMapper.toDTO(user), userCache.generation());
+        String etagBefore = UserETags.forUser(user.getId(), userCache.get(user.getId()).orElseThrow().getVersion());
+        String token = welcomeTokenService.issue(user.getId());
+        WelcomeToken stored = storedToken();
+        when(welcomeTokenRepository.findById(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(userRepository.findByIdAndIsActiveTrue(user.getId())).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode("newPassword123")).thenReturn("hashedPassword");
+        // Flushing the changed password increments the version, as Hibernate does
+        when(userRepository.saveAndFlush(user)).thenAnswer(invocation -> {
+            user.setVersion(user.getVersion() + 1);
+            return user;
+        });
+
+        // When
+        welcomeTokenService.redeem(token, "newPassword123");
+
+        // Then
+        assertThat(userCache.get(user.getId())).isEmpty();
+        String etagAfter = UserETags.forUser(user.getId(), userMapper.toDTO(user).getVersion());
+        assertThat(etagAfter).isNotEqualTo(etagBefore);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown or already used token")
+    void testRedeem_UnknownToken_ShouldThrowException() {
+        // Given
+        when(welcomeTokenRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> welcomeTokenService.redeem("unknown", "newPassword123"))
+                .isInstanceOf(AuthenticationException.class);
+        verify(passwordEncoder, never()).encode(anyString());
+        verifyNoInteractions(userEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject and consume an expired token")
+    void testRedeem_ExpiredToken_ShouldThrowException() {
+        // Given
+        String token = welcomeTokenService.issue(UUID.randomUUID());
+        WelcomeToken stored = storedToken();
+        stored.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(welcomeTokenRepository.findById(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        // When & Then
+        assertThatThrownBy(() -> welcomeTokenService.redeem(token, "newPassword123"))
+                .isInstanceOf(AuthenticationException.class);
+        verify(welcomeTokenRepository).delete(stored);
+        verify(userRepository, never()).findByIdAndIsActiveTrue(any());
+    }
+
+    private WelcomeToken storedToken() {
+        ArgumentCaptor<WelcomeToken> captor = ArgumentCaptor.forClass(WelcomeToken.class);
+        verify(welcomeTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,123 @@
+package com.i2i.usermanagement.unit.task;
+
+import com.i2i.usermanagement.task.AdaptiveChunkSizer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AdaptiveChunkSizer class.
+ * Tests chunk size derivation from measured row cost, its bounds and per-job state.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("AdaptiveChunkSizer Unit Tests")
+class AdaptiveChunkSizerTest {
+
+    private static final int MIN_SIZE = 5;
+    private static final int MAX_SIZE = 500;
+    private static final long TARGET_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int PARALLELISM = 4;
+
+    private MeterRegistry meterRegistry;
+    private DistributionSummary chunkRows;
+    private AdaptiveChunkSizer chunkSizer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chunkRows = DistributionSummary.builder("users.bulk.chunk.rows").register(meterRegistry);
+        chunkSizer = newChunkSizer(AdaptiveChunkSizer.Learned.NONE);
+    }
+
+    @Test
+    @DisplayName("Should start with the minimum chunk size before any measurement")
+    void testChunkSizeFor_NoMeasurement_ShouldReturnMinimum() {
+        assertThat(chunkSizer.chunkSizeFor(100_000)).isEqualTo(MIN_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should derive chunk size from measured row cost")
+    void testChunkSizeFor_MeasuredCost_ShouldTargetLeafDuration() {
+        // Given - 1 ms per row, 100 ms target leaf
+        chunkSizer.recordChunk(10, TimeUnit.MILLISECONDS.toNanos(10));
+
+        // When
+        int size = chunkSizer.chunkSizeFor(1_000_000);
+
+        // Then
+        assertThat(size).isEqualTo(100);
+        assertThat(chunkRows.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should clamp chunk size to the configured maximum")
+    void testChunkSizeFor_CheapRows_ShouldClampToMaximum() {
+        // Given - 1 microsecond per row
+        chunkSizer.recordChunk(1000, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // When & Then
+        assertThat(chunkSizer.chunkSizeFor(Integer.MAX_VALUE)).isEqualTo(MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should keep enough leaves for every worker on small jobs")
+    void testChunkSizeFor_SmallJob_ShouldSplitAcrossWorkers() {
+        // Given
+        chunkSizer.recordChunk(1000, TimeUnit.MILLISECONDS.toNanos(1));
+        int jobRows = PARALLELISM * 2 * 50;
+
+        // When & Then
+        assertThat(chunkSizer.chunkSizeFor(jobRows)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should ignore empty chunks")
+    void testRecordChunk_NoRows_ShouldNotChangeSize() {
+        chunkSizer.recordChunk(0, TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(chunkSizer.chunkSizeFor(100_000)).isEqualTo(MIN_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should not let the rows of a concurrent job change the chunk size of another job")
+    void testRecordChunk_ConcurrentJobs_ShouldKeepStatePerJob() {
+        // Given
+        AdaptiveChunkSizer otherJob = newChunkSizer(AdaptiveChunkSizer.Learned.NONE);
+
+        // When - 1 microsecond per row in the other job
+        otherJob.recordChunk(1000, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // Then
+        assertThat(otherJob.chunkSizeFor(Integer.MAX_VALUE)).isEqualTo(MAX_SIZE);
+        assertThat(chunkSizer.chunkSizeFor(Integer.MAX_VALUE)).isEqualTo(MIN_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should start a job from what an earlier job learned")
+    void testChunkSizeFor_SeededJob_ShouldStartFromLearnedCost() {
+        // Given - 1 ms per row
+        chunkSizer.recordChunk(10, TimeUnit.MILLISECONDS.toNanos(10));
+        AdaptiveChunkSizer.Learned learned = chunkSizer.learned();
+
+        // When
+        AdaptiveChunkSizer nextJob = newChunkSizer(learned);
+
+        // Then
+        assertThat(learned.chunkSize()).isEqualTo(100);
+        assertThat(nextJob.chunkSizeFor(1_000_000)).isEqualTo(100);
+    }
+
+    private AdaptiveChunkSizer newChunkSizer(AdaptiveChunkSizer.Learned learned) {
+        return new AdaptiveChunkSizer(MIN_SIZE, MAX_SIZE, TARGET_NANOS, PARALLELISM, learned, chunkRows);
+    }
+}
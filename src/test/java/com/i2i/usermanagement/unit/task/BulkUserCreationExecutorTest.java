@@ -0,0 +1,131 @@
+package com.i2i.usermanagement.unit.task;
+
+import com.i2i.usermanagement.dto.UserCreateDTO;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.task.BulkUserCreationExecutor;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BulkUserCreationExecutor class.
+ * Tests the dedicated pool jobs run on and how jobs hand their sizing over to later jobs.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("BulkUserCreationExecutor Unit Tests")
+class BulkUserCreationExecutorTest {
+
+    private static final int MIN_SIZE = 1;
+    private static final int MAX_SIZE = 500;
+    private static final long TARGET_MILLIS = 100;
+
+    private MeterRegistry meterRegistry;
+    private HikariDataSource dataSource;
+    private BulkUserCreationExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Never started, only its configured pool size is read
+        dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(2);
+        executor = new BulkUserCreationExecutor(meterRegistry, dataSource, MIN_SIZE, MAX_SIZE, TARGET_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should bound parallelism by the connection pool size")
+    void testGetParallelism_SmallConnectionPool_ShouldUsePoolSize() {
+        assertThat(executor.getParallelism())
+                .isEqualTo(Math.min(Runtime.getRuntime().availableProcessors(), 2));
+    }
+
+    @Test
+    @DisplayName("Should run every row on a dedicated pool sized to the parallelism")
+    void testCreateAll_ValidUsers_ShouldRunOnDedicatedPool() {
+        // Given
+        Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+        Function<UserCreateDTO, UserResponseDTO> userCreator = userCreateDTO -> {
+            pools.add(ForkJoinTask.getPool());
+            return created(userCreateDTO);
+        };
+
+        // When
+        List<UserResponseDTO> result = executor.createAll(users(50), userCreator);
+
+        // Then
+        assertThat(result).hasSize(50);
+        assertThat(pools).hasSize(1);
+        ForkJoinPool pool = pools.iterator().next();
+        assertThat(pool).isNotSameAs(ForkJoinPool.commonPool());
+        assertThat(pool.getParallelism()).isEqualTo(executor.getParallelism());
+    }
+
+    @Test
+    @DisplayName("Should seed the next job with what a finished job learned")
+    void testCreateAll_FinishedJob_ShouldSeedNextJob() {
+        // Given - 1 ms per row, 100 ms target leaf
+        Function<UserCreateDTO, UserResponseDTO> userCreator = userCreateDTO -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            return created(userCreateDTO);
+        };
+        assertThat(executor.newJobSizer().chunkSizeFor(Integer.MAX_VALUE)).isEqualTo(MIN_SIZE);
+
+        // When
+        executor.createAll(users(20), userCreator);
+
+        // Then
+        assertThat(executor.newJobSizer().chunkSizeFor(Integer.MAX_VALUE)).isGreaterThan(MIN_SIZE);
+        assertThat(meterRegistry.get("users.bulk.chunk.size").gauge().value()).isGreaterThan(MIN_SIZE);
+        assertThat(meterRegistry.get("users.bulk.row.cost").gauge().value()).isGreaterThan(0);
+        assertThat(meterRegistry.get("users.bulk.chunk.rows").summary().count()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("Should not change what later jobs start from while a job is still running")
+    void testNewJobSizer_RunningJob_ShouldNotSeedUntilFinished() {
+        // Given - a running job that has measured 1 ms per row
+        executor.newJobSizer().recordChunk(10, TimeUnit.MILLISECONDS.toNanos(10));
+
+        // When & Then
+        assertThat(executor.newJobSizer().chunkSizeFor(Integer.MAX_VALUE)).isEqualTo(MIN_SIZE);
+    }
+
+    private static List<UserCreateDTO> users(int count) {
+        List<UserCreateDTO> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(TestDataBuilder.buildUserCreateDTO("User " + i, "user" + i + "@example.com", 30));
+        }
+        return users;
+    }
+
+    private static UserResponseDTO created(UserCreateDTO userCreateDTO) {
+        return UserResponseDTO.builder().id(UUID.randomUUID()).name(userCreateDTO.getName()).build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.i2i.usermanagement.unit.task;
+
+import com.i2i.usermanagement.dto.UserEventDTO;
+import com.i2i.usermanagement.entity.OutboxEvent;
+import com.i2i.usermanagement.task.EventCoalescer;
+import com.i2i.usermanagement.task.PendingEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EventCoalescer class.
+ * Tests window expiry on the timer wheel and merging of events per user.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("EventCoalescer Unit Tests")
+class EventCoalescerTest {
+
+    private static final long START_NANOS = 1_000_000L;
+
+    private final EventCoalescer coalescer = new EventCoalescer(1000, 100, 8, START_NANOS);
+
+    @Test
+    @DisplayName("Should hold events until the window of their user has passed")
+    void testAdvance_WindowOpen_ShouldHoldEvents() {
+        // Given
+        PendingEvent created = event("USER_CREATED", UUID.randomUUID(), "created");
+        coalescer.add(created, START_NANOS, new EventCoalescer.CoalescedEvents());
+
+        // When
+        EventCoalescer.CoalescedEvents early = new EventCoalescer.CoalescedEvents();
+        coalescer.advance(at(900), early);
+        EventCoalescer.CoalescedEvents due = new EventCoalescer.CoalescedEvents();
+        coalescer.advance(at(1000), due);
+
+        // Then
+        assertThat(early.isEmpty()).isTrue();
+        assertThat(due.getPublished()).containsExactly(created);
+        assertThat(coalescer.pendingUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expire windows longer than one turn of the wheel on the right turn")
+    void testAdvance_WindowLongerThanWheel_ShouldWaitForDeadline() {
+        // Given
+        EventCoalescer longWindow = new EventCoalescer(5000, 100, 8, START_NANOS);
+        PendingEvent created = event("USER_CREATED", UUID.randomUUID(), "created");
+        longWindow.add(created, START_NANOS, new EventCoalescer.CoalescedEvents());
+
+        // When
+        EventCoalescer.CoalescedEvents early = new EventCoalescer.CoalescedEvents();
+        for (long millis = 100; millis < 5000; millis += 100) {
+            longWindow.advance(at(millis), early);
+        }
+        EventCoalescer.CoalescedEvents due = new EventCoalescer.CoalescedEvents();
+        longWindow.advance(at(5000), due);
+
+        // Then
+        assertThat(early.isEmpty()).isTrue();
+        assertThat(due.getPublished()).containsExactly(created);
+    }
+
+    @Test
+    @DisplayName("Should cancel all events of a user created and deleted within the window")
+    void testAdd_CreatedThenDeleted_ShouldDiscardBoth() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        PendingEvent created = event("USER_CREATED", userId, "created");
+        PendingEvent deleted = event("USER_DELETED", userId, "deleted");
+        EventCoalescer.CoalescedEvents result = new EventCoalescer.CoalescedEvents();
+
+        // When
+        coalescer.add(created, START_NANOS, result);
+        coalescer.add(deleted, at(500), result);
+        coalescer.advance(at(1000), result);
+
+        // Then
+        assertThat(result.getPublished()).isEmpty();
+        assertThat(result.getDiscarded()).containsExactly(created, deleted);
+    }
+
+    @Test
+    @DisplayName("Should drop an event identical to the previous event of the same user")
+    void testAdd_DuplicateEvent_ShouldDiscardDuplicate() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        PendingEvent first = event("USER_DELETED", userId, "deleted");
+        PendingEvent duplicate = event("USER_DELETED", userId, "deleted");
+        EventCoalescer.CoalescedEvents result = new EventCoalescer.CoalescedEvents();
+
+        // When
+        coalescer.add(first, START_NANOS, result);
+        coalescer.add(duplicate, START_NANOS, result);
+        coalescer.advance(at(1000), result);
+
+        // Then
+        assertThat(result.getPublished()).containsExactly(first);
+        assertThat(result.getDiscarded()).containsExactly(duplicate);
+    }
+
+    @Test
+    @DisplayName("Should keep events of different users apart and in order")
+    void testAdvance_SeveralUsers_ShouldPublishEachWindowInOrder() {
+        // Given
+        PendingEvent first = event("USER_CREATED", UUID.randomUUID(), "first");
+        PendingEvent second = event("USER_DELETED", UUID.randomUUID(), "second");
+        EventCoalescer.CoalescedEvents result = new EventCoalescer.CoalescedEvents();
+
+        // When
+        coalescer.add(first, START_NANOS, result);
+        coalescer.add(second, at(300), result);
+        coalescer.advance(at(1000), result);
+        EventCoalescer.CoalescedEvents later = new EventCoalescer.CoalescedEvents();
+        coalescer.advance(at(1300), later);
+
+        // Then
+        assertThat(result.getPublished()).containsExactly(first);
+        assertThat(later.getPublished()).containsExactly(second);
+    }
+
+    private static long at(long millis) {
+        return START_NANOS + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static PendingEvent event(String eventType, UUID userId, String eventData) {
+        UserEventDTO event = UserEventDTO.builder()
+                .eventType(eventType)
+                .userId(userId)
+                .eventData(eventData)
+                .build();
+        return new PendingEvent(OutboxEvent.builder().id(UUID.randomUUID()).build(), event);
+    }
+}
@@ -0,0 +1,86 @@
+package com.i2i.usermanagement.unit.task;
+
+import com.i2i.usermanagement.task.EventTransport;
+import com.i2i.usermanagement.task.InMemoryEventTransport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for InMemoryEventTransport class.
+ * Tests ordered in-process delivery to subscribers and confirms.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("InMemoryEventTransport Unit Tests")
+class InMemoryEventTransportTest {
+
+    private final InMemoryEventTransport eventTransport = new InMemoryEventTransport();
+
+    @Test
+    @DisplayName("Should deliver messages to every subscriber in order and confirm them")
+    void testSendConfirmed_Subscribers_ShouldDeliverInOrder() {
+        // Given
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        eventTransport.subscribe(envelope -> first.add(envelope.routingKey()));
+        eventTransport.subscribe(envelope -> second.add(envelope.routingKey()));
+
+        // When
+        boolean confirmed = eventTransport.sendConfirmed(List.of(envelope("user.created"), envelope("user.deleted")), 0);
+
+        // Then
+        assertThat(confirmed).isTrue();
+        assertThat(first).containsExactly("user.created", "user.deleted");
+        assertThat(second).containsExactly("user.created", "user.deleted");
+        assertThat(eventTransport.getSentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should confirm and keep delivering when a subscriber fails")
+    void testSendConfirmed_FailingSubscriber_ShouldStillConfirm() {
+        // Given
+        List<String> received = new ArrayList<>();
+        eventTransport.subscribe(envelope -> {
+            throw new IllegalStateException("consumer down");
+        });
+        eventTransport.subscribe(envelope -> received.add(envelope.routingKey()));
+
+        // When
+        boolean confirmed = eventTransport.sendConfirmed(List.of(envelope("user.created")), 0);
+
+        // Then
+        assertThat(confirmed).isTrue();
+        assertThat(received).containsExactly("user.created");
+    }
+
+    @Test
+    @DisplayName("Should drop messages for unsubscribed callbacks")
+    void testSendConfirmed_Unsubscribed_ShouldNotDeliver() {
+        // Given
+        List<String> received = new ArrayList<>();
+        Consumer<EventTransport.Envelope> subscriber = envelope -> received.add(envelope.routingKey());
+        eventTransport.subscribe(subscriber);
+        eventTransport.unsubscribe(subscriber);
+
+        // When
+        boolean confirmed = eventTransport.sendConfirmed(List.of(envelope("user.created")), 0);
+
+        // Then
+        assertThat(confirmed).isTrue();
+        assertThat(received).isEmpty();
+        assertThat(eventTransport.getSentCount()).isEqualTo(1);
+    }
+
+    private static EventTransport.Envelope envelope(String routingKey) {
+        return new EventTransport.Envelope(routingKey, new Message(new byte[0]));
+    }
+}
@@ -0,0 +1,346 @@
+package com.i2i.usermanagement.unit.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.i2i.usermanagement.config.CborMessageConverter;
+import com.i2i.usermanagement.config.RabbitMQConfig;
+import com.i2i.usermanagement.config.UserEventContentTypes;
+import com.i2i.usermanagement.config.UserEventRouting;
+import com.i2i.usermanagement.dto.UserEventDTO;
+import com.i2i.usermanagement.entity.OutboxDeadLetter;
+import com.i2i.usermanagement.entity.OutboxEvent;
+import com.i2i.usermanagement.repository.OutboxDeadLetterRepository;
+import com.i2i.usermanagement.repository.OutboxEventRepository;
+import com.i2i.usermanagement.task.OutboxRelay;
+import com.i2i.usermanagement.task.RabbitEventTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OutboxRelay class.
+ * Tests ordered batch publishing with confirms, the buffered fast path and fallback to the outbox table.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Unit Tests")
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxDeadLetterRepository outboxDeadLetterRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final MessageConverter messageConverter = new RabbitMQConfig().messageConverter();
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        UserEventContentTypes contentTypes = new UserEventContentTypes("application/json",
+                Map.of("user.deleted", CborMessageConverter.CONTENT_TYPE));
+        outboxRelay = relay(contentTypes, 0);
+    }
+
+    private OutboxRelay relay(UserEventContentTypes contentTypes, long coalesceWindowMillis) {
+        return new OutboxRelay(outboxEventRepository, outboxDeadLetterRepository, new RabbitEventTransport(rabbitTemplate, new UserEventRouting(0)),
+                messageConverter, contentTypes, objectMapper, transactionManager, meterRegistry, 2, BATCH_SIZE, 1, 5000, 1,
+                coalesceWindowMillis, 1, 8);
+    }
+
+    @Test
+    @DisplayName("Should publish outbox rows in order, wait for confirms and then delete them")
+    void testRelayOnce_PendingOutboxRows_ShouldPublishConfirmAndDelete() throws Exception {
+        // Given
+        OutboxEvent first = outboxEvent("user.created", "first@example.com");
+        OutboxEvent second = outboxEvent("user.deleted.3", "second@example.com");
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second), List.of());
+        confirmBatches(true);
+
+        // When
+        outboxRelay.relayOnce();
+
+        // Then
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        InOrder inOrder = inOrder(rabbitTemplate, outboxEventRepository);
+        inOrder.verify(rabbitTemplate).send(eq(RabbitMQConfig.USER_EXCHANGE), eq("user.created"), messages.capture());
+        inOrder.verify(rabbitTemplate).send(eq(RabbitMQConfig.USER_EXCHANGE), eq("user.deleted.3"), messages.capture());
+        inOrder.verify(rabbitTemplate).waitForConfirms(5000);
+        inOrder.verify(outboxEventRepository).deleteAllInBatch(List.of(first, second));
+
+        assertThat(messages.getAllValues())
+                .extracting(message -> message.getMessageProperties().getContentType())
+                .containsExactly("application/json", CborMessageConverter.CONTENT_TYPE);
+        assertThat(messages.getAllValues())
+                .extracting(message -> ((UserEventDTO) messageConverter.fromMessage(message)).getUserEmail())
+                .containsExactly("first@example.com", "second@example.com");
+        assertThat(meterRegistry.get("users.events.published").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should publish buffered events once the outbox table has caught up")
+    void testRelayOnce_BufferedEvents_ShouldPublishAndDeleteById() throws Exception {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class))).thenReturn(List.of());
+        confirmBatches(true);
+        outboxRelay.relayOnce();
+        OutboxEvent buffered = outboxEvent("user.created", "buffered@example.com");
+        when(outboxEventRepository.findAllByIdForUpdate(List.of(buffered.getId()))).thenReturn(List.of(buffered));
+
+        // When
+        enqueue(buffered);
+        outboxRelay.relayOnce();
+
+        // Then
+        InOrder inOrder = inOrder(outboxEventRepository, rabbitTemplate);
+        inOrder.verify(outboxEventRepository).findAllByIdForUpdate(List.of(buffered.getId()));
+        inOrder.verify(rabbitTemplate).send(eq(RabbitMQConfig.USER_EXCHANGE), eq("user.created"), any(Message.class));
+        inOrder.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(buffered.getId()));
+    }
+
+    @Test
+    @DisplayName("Should not publish buffered events whose rows another relay already claimed or relayed")
+    void testRelayOnce_BufferedEventsClaimedElsewhere_ShouldPublishOnlyClaimedOnes() throws Exception {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class))).thenReturn(List.of());
+        confirmBatches(true);
+        outboxRelay.relayOnce();
+        OutboxEvent relayedElsewhere = outboxEvent("user.deleted", "elsewhere@example.com");
+        OutboxEvent claimed = outboxEvent("user.created", "claimed@example.com");
+        when(outboxEventRepository.findAllByIdForUpdate(List.of(relayedElsewhere.getId(), claimed.getId())))
+                .thenReturn(List.of(claimed));
+
+        // When
+        enqueue(relayedElsewhere);
+        enqueue(claimed);
+        outboxRelay.relayOnce();
+
+        // Then
+        verify(rabbitTemplate, times(1)).send(anyString(), anyString(), any(Message.class));
+        verify(rabbitTemplate).send(eq(RabbitMQConfig.USER_EXCHANGE), eq("user.created"), any(Message.class));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(claimed.getId()));
+        assertThat(meterRegistry.get("users.events.published").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore the buffer while catching up from the outbox table")
+    void testEnqueue_WhileDrainingOutbox_ShouldLeaveEventToOutbox() throws Exception {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        enqueue(outboxEvent("user.created", "early@example.com"));
+
+        // Then
+        assertThat(meterRegistry.get("users.events.buffer.depth").gauge().value()).isZero();
+        outboxRelay.relayOnce();
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the outbox table when the buffer overflows")
+    void testEnqueue_BufferFull_ShouldCountOverflowAndDrainOutbox() throws Exception {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class))).thenReturn(List.of());
+        outboxRelay.relayOnce();
+
+        // When
+        enqueue(outboxEvent("user.created", "one@example.com"));
+        enqueue(outboxEvent("user.created", "two@example.com"));
+        enqueue(outboxEvent("user.created", "three@example.com"));
+        outboxRelay.relayOnce();
+
+        // Then
+        assertThat(meterRegistry.get("users.events.buffer.overflows").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("users.events.buffer.depth").gauge().value()).isZero();
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("Should keep events and count a nack when the broker does not acknowledge")
+    void testRelayOnce_BrokerNacks_ShouldKeepEventsAndCountNack() throws Exception {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent("user.created", "first@example.com")));
+        confirmBatches(false);
+
+        // When
+        outboxRelay.relayOnce();
+
+        // Then
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+        assertThat(meterRegistry.get("users.events.nacks").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should move an unreadable outbox row to the dead-letter table and relay the events after it")
+    void testRelayOnce_UnreadableOutboxRow_ShouldDeadLetterAndRelayRest() throws Exception {
+        // Given
+        OutboxEvent unreadable = OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .routingKey("user.created")
+                .payload("{not json")
+                .build();
+        OutboxEvent readable = outboxEvent("user.created", "second@example.com");
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class)))
+                .thenReturn(List.of(unreadable, readable), List.of());
+        confirmBatches(true);
+
+        // When
+        outboxRelay.relayOnce();
+
+        // Then
+        ArgumentCaptor<OutboxDeadLetter> deadLetter = ArgumentCaptor.forClass(OutboxDeadLetter.class);
+        verify(outboxDeadLetterRepository).save(deadLetter.capture());
+        assertThat(deadLetter.getValue().getId()).isEqualTo(unreadable.getId());
+        assertThat(deadLetter.getValue().getPayload()).isEqualTo("{not json");
+        assertThat(deadLetter.getValue().getError()).isNotBlank();
+        verify(rabbitTemplate, times(1)).send(eq(RabbitMQConfig.USER_EXCHANGE), eq("user.created"), any(Message.class));
+        verify(outboxEventRepository).deleteAllInBatch(List.of(unreadable, readable));
+        assertThat(meterRegistry.get("users.events.dead-lettered").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("users.events.published").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should delete created and deleted events of the same user without publishing them")
+    void testRelayOnce_CreatedThenDeletedWithinWindow_ShouldCancelBoth() throws Exception {
+        // Given
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = relay(new UserEventContentTypes("application/json", Map.of()), 60_000);
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class))).thenReturn(List.of());
+        outboxRelay.relayOnce();
+        UUID userId = UUID.randomUUID();
+        OutboxEvent created = outboxEvent("user.created", "USER_CREATED", userId, "gone@example.com");
+        OutboxEvent deleted = outboxEvent("user.deleted", "USER_DELETED", userId, "gone@example.com");
+        when(outboxEventRepository.findAllByIdForUpdate(List.of(created.getId(), deleted.getId())))
+                .thenReturn(List.of(created, deleted));
+
+        // When
+        enqueue(created);
+        enqueue(deleted);
+        outboxRelay.relayOnce();
+
+        // Then
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(created.getId(), deleted.getId()));
+        assertThat(meterRegistry.get("users.events.coalesced").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("users.events.coalescer.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hold events in the coalescing window instead of publishing them immediately")
+    void testRelayOnce_CoalescingWindowOpen_ShouldHoldEvents() throws Exception {
+        // Given
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = relay(new UserEventContentTypes("application/json", Map.of()), 60_000);
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class))).thenReturn(List.of());
+        outboxRelay.relayOnce();
+
+        // When
+        enqueue(outboxEvent("user.created", "held@example.com"));
+        outboxRelay.relayOnce();
+
+        // Then
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(meterRegistry.get("users.events.coalescer.pending").gauge().value()).isEqualTo(1);
+    }
+
+    private void enqueue(OutboxEvent outboxEvent) throws Exception {
+        outboxRelay.enqueue(outboxEvent, objectMapper.readValue(outboxEvent.getPayload(), UserEventDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should not touch the outbox table while the broker is unreachable after a failure")
+    void testRelayOnce_BrokerDownAfterFailure_ShouldSkipOutboxTransaction() throws Exception {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(UUID.class), any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent("user.created", "first@example.com")));
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpConnectException(new IOException("connection refused")));
+        outboxRelay.relayOnce();
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.createConnection()).thenThrow(new AmqpConnectException(new IOException("refused")));
+
+        // When
+        outboxRelay.relayOnce();
+
+        // Then
+        verify(outboxEventRepository, times(1)).findOldestForUpdate(any(UUID.class), any(Pageable.class));
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void confirmBatches(boolean acknowledged) {
+        when(rabbitTemplate.waitForConfirms(anyLong())).thenReturn(acknowledged);
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, RabbitOperations.OperationsCallback.class)
+                        .doInRabbit(rabbitTemplate));
+    }
+
+    private OutboxEvent outboxEvent(String routingKey, String email) throws Exception {
+        return outboxEvent(routingKey, "USER_CREATED", UUID.randomUUID(), email);
+    }
+
+    private OutboxEvent outboxEvent(String routingKey, String eventType, UUID userId, String email)
+            throws Exception {
+        UserEventDTO event = UserEventDTO.builder()
+                .eventType(eventType)
+                .userId(userId)
+                .userEmail(email)
+                .build();
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .routingKey(routingKey)
+                .payload(objectMapper.writeValueAsString(event))
+                .build();
+    }
+}
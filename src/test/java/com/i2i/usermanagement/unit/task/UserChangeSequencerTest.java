@@ -0,0 +1,135 @@
+package com.i2i.usermanagement.unit.task;
+
+import com.i2i.usermanagement.dto.UserChangesDTO;
+import com.i2i.usermanagement.dto.UserResponseDTO;
+import com.i2i.usermanagement.entity.User;
+import com.i2i.usermanagement.mapper.UserMapper;
+import com.i2i.usermanagement.repository.UserChangeHeadRepository;
+import com.i2i.usermanagement.repository.UserRepository;
+import com.i2i.usermanagement.service.UserChangeFeedService;
+import com.i2i.usermanagement.task.UserChangeSequencer;
+import com.i2i.usermanagement.testutil.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for UserChangeSequencer class against a real database.
+ * Tests that changes are numbered in commit order, so the change feed cursor never skips a late commit.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("UserChangeSequencer Unit Tests")
+class UserChangeSequencerTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserChangeHeadRepository userChangeHeadRepository;
+
+    private UserChangeSequencer userChangeSequencer;
+    private UserChangeFeedService userChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        userChangeSequencer = new UserChangeSequencer(userRepository, userChangeHeadRepository, transactionManager,
+                new SimpleMeterRegistry(), 100, 200);
+        userChangeFeedService = new UserChangeFeedService(userRepository, Mappers.getMapper(UserMapper.class));
+        ReflectionTestUtils.setField(userChangeFeedService, "maxPageSize", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        userChangeHeadRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should deliver a change that commits after a later change has already been read")
+    void testGetChangesSince_ChangeCommitsAfterLaterChangeWasRead_ShouldDeliverIt() throws Exception {
+        // Given - a transaction writes a user first but commits last
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> lateTransaction = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    userRepository.saveAndFlush(user("Late User", "late@example.com"));
+                    written.countDown();
+                    await(commit);
+                }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+        userRepository.saveAndFlush(user("Early User", "early@example.com"));
+        userChangeSequencer.sequenceOnce();
+        UserChangesDTO firstRead = userChangeFeedService.getChangesSince(0, 100);
+
+        // When
+        commit.countDown();
+        lateTransaction.get(10, TimeUnit.SECONDS);
+        int sequenced = userChangeSequencer.sequenceOnce();
+        UserChangesDTO secondRead = userChangeFeedService.getChangesSince(firstRead.getNextCursor(), 100);
+
+        // Then
+        assertThat(firstRead.getUsers()).extracting(UserResponseDTO::getName).containsExactly("Early User");
+        assertThat(sequenced).isEqualTo(1);
+        assertThat(secondRead.getUsers()).extracting(UserResponseDTO::getName).containsExactly("Late User");
+        assertThat(secondRead.getNextCursor()).isGreaterThan(firstRead.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should continue numbering after the last assigned change sequence")
+    void testSequenceOnce_SeveralBatches_ShouldContinueAfterHead() {
+        // Given
+        userRepository.saveAndFlush(user("First User", "first@example.com"));
+        userChangeSequencer.sequenceOnce();
+        userRepository.saveAndFlush(user("Second User", "second@example.com"));
+
+        // When
+        int sequenced = userChangeSequencer.sequenceOnce();
+
+        // Then
+        assertThat(sequenced).isEqualTo(1);
+        assertThat(userChangeSequencer.sequenceOnce()).isZero();
+        assertThat(userChangeFeedService.getChangesSince(0, 100).getUsers())
+                .extracting(UserResponseDTO::getName)
+                .containsExactly("First User", "Second User");
+        assertThat(userChangeFeedService.getChangesSince(0, 100).getNextCursor()).isEqualTo(2);
+    }
+
+    private static User user(String name, String email) {
+        return TestDataBuilder.buildUser(name, email, true);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.i2i.usermanagement.unit.util;
+
+import com.i2i.usermanagement.util.UserETags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for UserETags.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("UserETags Unit Tests")
+class UserETagsTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 19, 9, 30, 0, 123_456_000);
+
+    @Test
+    @DisplayName("Should derive the tag of a user from its ID and version")
+    void testForUser_ShouldDependOnVersion() {
+        // When
+        String etag = UserETags.forUser(userId, 3L);
+
+        // Then
+        assertThat(etag).startsWith("\"").endsWith("\"").contains(userId.toString());
+        assertThat(UserETags.forUser(userId, 3L)).isEqualTo(etag);
+        assertThat(UserETags.forUser(userId, 4L)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should not tag a user whose version or update time is unknown")
+    void testForUser_NoVersion_ShouldReturnNull() {
+        // When & Then
+        assertThat(UserETags.forUser(userId, null)).isNull();
+        assertThat(UserETags.lastModified(null)).isEqualTo(-1);
+        assertThat(UserETags.lastModified(updatedAt)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should tag user lists by the digests of their users")
+    void testForUserCollection_ShouldDependOnUserDigests() {
+        // Given
+        long first = UserETags.digest("{\"name\":\"first\"}".getBytes(StandardCharsets.UTF_8));
+        long second = UserETags.digest("{\"name\":\"second\"}".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThat(UserETags.digest("{\"name\":\"first\"}".getBytes(StandardCharsets.UTF_8))).isEqualTo(first);
+        assertThat(UserETags.forUserCollection(first + second)).startsWith("\"users-").endsWith("\"");
+        assertThat(UserETags.forUserCollection(first + second)).isNotEqualTo(UserETags.forUserCollection(first));
+    }
+
+    @Test
+    @DisplayName("Should let unconditional and wildcard requests proceed")
+    void testMatches_NoHeaderOrWildcard_ShouldReturnTrue() {
+        // Given
+        String etag = UserETags.forUser(userId, 3L);
+
+        // When & Then
+        assertThat(UserETags.matches(null, etag)).isTrue();
+        assertThat(UserETags.matches("*", etag)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should match any listed tag using the strong comparison")
+    void testMatches_TagList_ShouldCompareStrongly() {
+        // Given
+        String etag = UserETags.forUser(userId, 3L);
+
+        // When & Then
+        assertThat(UserETags.matches("\"other\", " + etag, etag)).isTrue();
+        assertThat(UserETags.matches("W/" + etag, etag)).isFalse();
+        assertThat(UserETags.matches(UserETags.forUser(userId, 2L), etag)).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.i2i.usermanagement.unit.util;
+
+import com.i2i.usermanagement.util.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for UuidV7 class.
+ * Tests version and variant bits, the embedded timestamp and ordering.
+ *
+ * @author Agnel Ruban
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@DisplayName("UuidV7 Unit Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should set version 7 and the RFC variant")
+    void testNext_ShouldSetVersionAndVariant() {
+        // When
+        UUID uuid = UuidV7.next();
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should embed the current time in milliseconds")
+    void testNext_ShouldEmbedCurrentTime() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = UuidV7.next();
+
+        // Then
+        long after = System.currentTimeMillis();
+        assertThat(UuidV7.timestampMillis(uuid)).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("Should produce strictly increasing values within the same millisecond")
+    void testNext_ManyValues_ShouldBeStrictlyIncreasing() {
+        // Given
+        List<UUID> uuids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(UuidV7.next());
+        }
+
+        // Then
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(Long.compareUnsigned(uuids.get(i).getMostSignificantBits(),
+                    uuids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject timestamps of non version 7 UUIDs")
+    void testTimestampMillis_RandomUuid_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> UuidV7.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}